@@ -0,0 +1,140 @@
+/*
+ * {{{ header & license
+ * Copyright (c) 2009 Wisconsin Court System
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * as published by the Free Software Foundation; either version 2.1
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ * }}}
+ */
+package org.xhtmlrenderer.context;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.xhtmlrenderer.css.sheet.Ruleset;
+import org.xhtmlrenderer.util.Configuration;
+
+/**
+ * A cache of parsed style declarations (e.g. the content of
+ * <code>style</code> attributes) which may be shared by any number of
+ * {@link StylesheetFactoryImpl} instances on any number of threads.
+ * Documents, especially generated ones, tend to repeat the same handful of
+ * declarations over and over again so each distinct declaration only needs
+ * to be parsed once.
+ * <p>
+ * Lookups don't lock.  The cache is bounded by the number of declarations.
+ * When it's full it's simply cleared.  Declarations longer than
+ * {@link #MAX_DECLARATION_LENGTH} aren't cached.
+ * <p>
+ * The cached {@link Ruleset}s are used by many documents at the same time
+ * and must not be modified.
+ */
+public class StyleDeclarationCache {
+    public static final int MAX_DECLARATION_LENGTH = 2048;
+
+    private static StyleDeclarationCache _sharedInstance;
+
+    // Rulesets depend on the origin and on whether CMYK colors are supported
+    private final ConcurrentHashMap[] _declarations = new ConcurrentHashMap[6];
+
+    private final int _maxEntries;
+
+    private final AtomicLong _hits = new AtomicLong();
+    private final AtomicLong _misses = new AtomicLong();
+    private final AtomicLong _clears = new AtomicLong();
+
+    public StyleDeclarationCache(int maxEntries) {
+        _maxEntries = maxEntries;
+        for (int i = 0; i < _declarations.length; i++) {
+            _declarations[i] = new ConcurrentHashMap();
+        }
+    }
+
+    /**
+     * Returns the process-wide cache.  Its size can be configured with the
+     * <code>xr.cache.style-declarations.max-entries</code> property.
+     */
+    public static synchronized StyleDeclarationCache getSharedInstance() {
+        if (_sharedInstance == null) {
+            _sharedInstance = new StyleDeclarationCache(
+                    Configuration.valueAsInt("xr.cache.style-declarations.max-entries", 4096));
+        }
+        return _sharedInstance;
+    }
+
+    private ConcurrentHashMap getDeclarations(int origin, boolean cmyk) {
+        return _declarations[origin * 2 + (cmyk ? 1 : 0)];
+    }
+
+    /**
+     * Returns the cached ruleset for <code>declaration</code> or
+     * <code>null</code> if it hasn't been parsed yet.
+     */
+    public Ruleset get(int origin, boolean cmyk, String declaration) {
+        Ruleset result = (Ruleset)getDeclarations(origin, cmyk).get(declaration);
+        if (result == null) {
+            _misses.incrementAndGet();
+        } else {
+            _hits.incrementAndGet();
+        }
+        return result;
+    }
+
+    public void put(int origin, boolean cmyk, String declaration, Ruleset ruleset) {
+        if (declaration.length() > MAX_DECLARATION_LENGTH) {
+            return;
+        }
+
+        ConcurrentHashMap declarations = getDeclarations(origin, cmyk);
+        if (declarations.size() >= _maxEntries) {
+            declarations.clear();
+            _clears.incrementAndGet();
+        }
+        declarations.put(declaration, ruleset);
+    }
+
+    public void clear() {
+        for (int i = 0; i < _declarations.length; i++) {
+            _declarations[i].clear();
+        }
+    }
+
+    public int getSize() {
+        int result = 0;
+        for (int i = 0; i < _declarations.length; i++) {
+            result += _declarations[i].size();
+        }
+        return result;
+    }
+
+    public long getHitCount() {
+        return _hits.get();
+    }
+
+    public long getMissCount() {
+        return _misses.get();
+    }
+
+    /**
+     * Returns how often the cache filled up and was cleared
+     */
+    public long getClearCount() {
+        return _clears.get();
+    }
+
+    public String toString() {
+        return "StyleDeclarationCache[size=" + getSize() + ", hits=" + getHitCount() +
+            ", misses=" + getMissCount() + ", clears=" + getClearCount() + "]";
+    }
+}
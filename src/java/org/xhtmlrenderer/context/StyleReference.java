@@ -22,6 +22,7 @@ package org.xhtmlrenderer.context;
 import java.io.StringReader;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
@@ -33,6 +34,7 @@ import org.xhtmlrenderer.css.constants.CSSName;
 import org.xhtmlrenderer.css.extend.AttributeResolver;
 import org.xhtmlrenderer.css.extend.lib.DOMTreeResolver;
 import org.xhtmlrenderer.css.newmatch.CascadedStyle;
+import org.xhtmlrenderer.css.newmatch.CompiledStylesheets;
 import org.xhtmlrenderer.css.newmatch.PageInfo;
 import org.xhtmlrenderer.css.sheet.PropertyDeclaration;
 import org.xhtmlrenderer.css.sheet.Stylesheet;
@@ -78,6 +80,17 @@ public class StyleReference {
     /** */
     private UserAgentCallback _uac;
     
+    /**
+     * Stylesheets shared by all documents.  Will be null if every 
+     * document's stylesheets should be compiled from scratch.
+     */
+    private CompiledStylesheets _compiledStylesheets;
+    
+    /**
+     * Whether matchers should be created in concurrent mode
+     */
+    private boolean _concurrentMatching;
+    
     /**
      * Default constructor for initializing members.
      *
@@ -104,27 +117,136 @@ public class StyleReference {
 
         List infos = getStylesheets();
         XRLog.match("media = " + _context.getMedia());
-        _matcher = new org.xhtmlrenderer.css.newmatch.Matcher(
-                new DOMTreeResolver(), 
-                attRes, 
-                _stylesheetFactory, 
-                readAndParseAll(infos, _context.getMedia()), 
-                _context.getMedia());
+        
+        CompiledStylesheets compiled = _compiledStylesheets;
+        if (compiled != null && ! compiled.getMedium().equals(_context.getMedia())) {
+            XRLog.match("Compiled stylesheets are for media " + compiled.getMedium() + 
+                    ", not " + _context.getMedia() + ". Ignoring them.");
+            compiled = null;
+        }
+        
+        if (compiled == null) {
+            _matcher = new org.xhtmlrenderer.css.newmatch.Matcher(
+                    new DOMTreeResolver(), 
+                    attRes, 
+                    _stylesheetFactory, 
+                    readAndParseAll(infos, _context.getMedia()), 
+                    _context.getMedia(),
+                    _concurrentMatching);
+        } else {
+            _matcher = new org.xhtmlrenderer.css.newmatch.Matcher(
+                    new DOMTreeResolver(), 
+                    attRes, 
+                    _stylesheetFactory, 
+                    compiled,
+                    readAndParseAll(infos, _context.getMedia(), compiled),
+                    _concurrentMatching);
+        }
+    }
+    
+    /**
+     * Sets whether the styles of the documents set after this call may be 
+     * looked up by several threads at the same time (for example to style
+     * the subtrees of a document in parallel).  By default the matcher does
+     * no locking and must only be used by one thread at a time.
+     *
+     * @see org.xhtmlrenderer.css.newmatch.Matcher
+     */
+    public void setConcurrentMatching(boolean concurrentMatching) {
+        _concurrentMatching = concurrentMatching;
+    }
+    
+    public boolean isConcurrentMatching() {
+        return _concurrentMatching;
+    }
+    
+    /**
+     * Loads and compiles the default stylesheet of <code>nsh</code> followed
+     * by the stylesheets at <code>uris</code> (as author stylesheets) for
+     * <code>medium</code>.  The result can be passed to 
+     * {@link #setCompiledStylesheets(CompiledStylesheets)} of any number of
+     * <code>StyleReference</code>s.  Documents which link to one of
+     * <code>uris</code> (with a media attribute which applies to 
+     * <code>medium</code>) reuse the compiled stylesheet at that point of 
+     * their cascade instead of loading it again.  A compiled stylesheet 
+     * isn't used for documents which don't link to it.
+     */
+    public CompiledStylesheets compileStylesheets(
+            NamespaceHandler nsh, String[] uris, String medium) {
+        List cascades = new ArrayList(uris.length + 1);
+        List resolvedUris = new ArrayList(uris.length + 1);
+        
+        StylesheetInfo defaultStylesheet = nsh.getDefaultStylesheet(_stylesheetFactory);
+        if (defaultStylesheet != null) {
+            cascades.add(readAndParseAll(Collections.singletonList(defaultStylesheet), medium));
+            resolvedUris.add(null);
+        }
+        
+        for (int i = 0; i < uris.length; i++) {
+            String uri = _uac.resolveURI(uris[i]);
+            
+            StylesheetInfo info = new StylesheetInfo();
+            info.setUri(uri);
+            info.setOrigin(StylesheetInfo.AUTHOR);
+            info.setMedia("all");
+            info.setType("text/css");
+            
+            cascades.add(readAndParseAll(Collections.singletonList(info), medium));
+            resolvedUris.add(uri);
+        }
+        
+        return new CompiledStylesheets(cascades, resolvedUris, medium);
+    }
+    
+    /**
+     * Sets the precompiled stylesheets to use for subsequent documents.
+     * Only the stylesheets specific to a document (e.g. inline 
+     * <code>&lt;style&gt;</code> elements and stylesheets not included in
+     * <code>compiled</code>) are compiled when the document is set.
+     * 
+     * @param compiled The stylesheets to use or <code>null</code> to compile
+     * all stylesheets for every document
+     */
+    public void setCompiledStylesheets(CompiledStylesheets compiled) {
+        _compiledStylesheets = compiled;
+    }
+    
+    public CompiledStylesheets getCompiledStylesheets() {
+        return _compiledStylesheets;
     }
     
     private List readAndParseAll(List infos, String medium) {
+        return readAndParseAll(infos, medium, null);
+    }
+    
+    /**
+     * Like {@link #readAndParseAll(List, String)}, but stylesheets which are
+     * part of <code>compiled</code> (if not <code>null</code>) aren't 
+     * loaded again and their imports aren't listed (the compiled form 
+     * already includes them).
+     */
+    private List readAndParseAll(List infos, String medium, CompiledStylesheets compiled) {
         List result = new ArrayList(infos.size() + 15);
         for (Iterator i = infos.iterator(); i.hasNext(); ) {
             StylesheetInfo info = (StylesheetInfo)i.next();
             if (info.appliesToMedia(medium)) {
                 Stylesheet sheet = info.getStylesheet();
                 
+                if (sheet == null && compiled != null && info.getUri() != null) {
+                    sheet = compiled.getStylesheet(info.getUri());
+                }
+                
                 if (sheet == null) {
                     sheet = _stylesheetFactory.getStylesheet(info);
                 }
                 
+                if (compiled != null && compiled.containsStylesheet(sheet)) {
+                    result.add(sheet);
+                    continue;
+                }
+                
                 if (sheet.getImportRules().size() > 0) {
-                    result.addAll(readAndParseAll(sheet.getImportRules(), medium));
+                    result.addAll(readAndParseAll(sheet.getImportRules(), medium, compiled));
                 }
                 
                 result.add(sheet);
@@ -287,6 +409,19 @@ public class StyleReference {
     public void setSupportCMYKColors(boolean b) {
         _stylesheetFactory.setSupportCMYKColors(b);
     }
+    
+    /**
+     * Sets the cache used for external stylesheets.  Use 
+     * {@link StylesheetCache#getSharedInstance()} to share parsed stylesheets
+     * with all other renderers in the JVM.
+     */
+    public void setStylesheetCache(StylesheetCache cache) {
+        _stylesheetFactory.setCache(cache);
+    }
+    
+    public StylesheetCache getStylesheetCache() {
+        return _stylesheetFactory.getCache();
+    }
 }
 
 /*
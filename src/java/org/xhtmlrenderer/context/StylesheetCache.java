@@ -0,0 +1,170 @@
+/*
+ * {{{ header & license
+ * Copyright (c) 2009 Wisconsin Court System
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * as published by the Free Software Foundation; either version 2.1
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ * }}}
+ */
+package org.xhtmlrenderer.context;
+
+import org.xhtmlrenderer.css.sheet.Stylesheet;
+import org.xhtmlrenderer.util.Configuration;
+import org.xhtmlrenderer.util.LRUCache;
+
+/**
+ * A cache of parsed stylesheets which may be shared by any number of
+ * {@link StylesheetFactoryImpl} instances (and therefore renderers) on any
+ * number of threads (see {@link LRUCache}).
+ * <p>
+ * The cache is bounded by both the number of entries and the approximate
+ * amount of memory used by the cached sheets (estimated from the size of
+ * their source).  Each entry also stores a validator (see
+ * {@link #createLastModifiedValidator(String)} and
+ * {@link #createContentValidator(byte[])}).  If the validator presented on
+ * lookup doesn't match the cached one, the entry is treated as stale.
+ * <p>
+ * Parsed {@link Stylesheet}s are not modified once they've been created so
+ * they can be used by multiple documents at the same time.
+ */
+public class StylesheetCache {
+    /**
+     * @see LRUCache#VALIDATE_NONE
+     */
+    public static final int VALIDATE_NONE = LRUCache.VALIDATE_NONE;
+
+    /**
+     * @see LRUCache#VALIDATE_LAST_MODIFIED
+     */
+    public static final int VALIDATE_LAST_MODIFIED = LRUCache.VALIDATE_LAST_MODIFIED;
+
+    /**
+     * @see LRUCache#VALIDATE_CONTENT
+     */
+    public static final int VALIDATE_CONTENT = LRUCache.VALIDATE_CONTENT;
+
+    /**
+     * Rough factor by which a parsed sheet is larger than its source
+     */
+    private static final int PARSED_SIZE_FACTOR = 8;
+
+    private static StylesheetCache _sharedInstance;
+
+    private final LRUCache _cache;
+    private final int _validation;
+
+    public StylesheetCache(int maxEntries, long maxBytes, int validation) {
+        _cache = new LRUCache("stylesheet", maxEntries, maxBytes);
+        _validation = validation;
+    }
+
+    /**
+     * Returns the process-wide cache.  Its size and validation can be
+     * configured with the <code>xr.cache.stylesheets.shared.*</code>
+     * properties.
+     */
+    public static synchronized StylesheetCache getSharedInstance() {
+        if (_sharedInstance == null) {
+            _sharedInstance = new StylesheetCache(
+                    Configuration.valueAsInt("xr.cache.stylesheets.shared.max-entries", 256),
+                    Configuration.valueAsLong("xr.cache.stylesheets.shared.max-kb", 32768) * 1024,
+                    LRUCache.parseValidation(Configuration.valueFor(
+                            "xr.cache.stylesheets.shared.validation", "last-modified"),
+                            VALIDATE_LAST_MODIFIED));
+        }
+        return _sharedInstance;
+    }
+
+    public int getValidation() {
+        return _validation;
+    }
+
+    /**
+     * Returns the cached sheet for <code>key</code> or <code>null</code> if
+     * there is no entry or the entry is stale.
+     *
+     * @param validator The current validator for the sheet.  May be
+     * <code>null</code> if none is available in which case the cached sheet
+     * is returned unconditionally.
+     */
+    public Stylesheet get(Object key, String validator) {
+        return (Stylesheet)_cache.get(key, _validation == VALIDATE_NONE ? null : validator);
+    }
+
+    public boolean contains(Object key) {
+        return _cache.contains(key);
+    }
+
+    /**
+     * Adds a sheet to the cache, replacing any existing entry for
+     * <code>key</code>.
+     *
+     * @param sourceLength The length of the sheet's source in bytes.  Used to
+     * estimate the memory used by the parsed sheet.
+     */
+    public void put(Object key, String validator, Stylesheet sheet, int sourceLength) {
+        _cache.put(key, validator, sheet, (long)sourceLength * PARSED_SIZE_FACTOR);
+    }
+
+    public Stylesheet remove(Object key) {
+        return (Stylesheet)_cache.remove(key);
+    }
+
+    public void clear() {
+        _cache.clear();
+    }
+
+    public long getHitCount() {
+        return _cache.getHitCount();
+    }
+
+    public long getMissCount() {
+        return _cache.getMissCount();
+    }
+
+    public long getEvictionCount() {
+        return _cache.getEvictionCount();
+    }
+
+    public int getSize() {
+        return _cache.size();
+    }
+
+    /**
+     * Returns the (approximate) number of bytes used by the cached sheets
+     */
+    public long getByteSize() {
+        return _cache.getByteSize();
+    }
+
+    public String toString() {
+        return "StylesheetCache[size=" + getSize() + ", bytes=" + getByteSize() +
+            ", hits=" + getHitCount() + ", misses=" + getMissCount() +
+            ", evictions=" + getEvictionCount() + "]";
+    }
+
+    /**
+     * @see LRUCache#createLastModifiedValidator(String)
+     */
+    public static String createLastModifiedValidator(String uri) {
+        return LRUCache.createLastModifiedValidator(uri);
+    }
+
+    /**
+     * @see LRUCache#createContentValidator(byte[])
+     */
+    public static String createContentValidator(byte[] content) {
+        return LRUCache.createContentValidator(content);
+    }
+}
@@ -19,6 +19,8 @@
  */
 package org.xhtmlrenderer.context;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -34,12 +36,17 @@ import org.xhtmlrenderer.css.sheet.Stylesheet;
 import org.xhtmlrenderer.css.sheet.StylesheetInfo;
 import org.xhtmlrenderer.extend.UserAgentCallback;
 import org.xhtmlrenderer.resource.CSSResource;
+import org.xhtmlrenderer.util.Configuration;
 import org.xhtmlrenderer.util.XRLog;
 
 /**
  * A Factory class for Cascading Style Sheets. Sheets are parsed using a single
  * parser instance for all sheets. Sheets are cached by URI using a LRU test,
- * but timestamp of file is not checked.
+ * but timestamp of file is not checked.  Alternatively, a
+ * {@link StylesheetCache} shared with other factories (e.g. 
+ * {@link StylesheetCache#getSharedInstance()}) can be provided with
+ * {@link #setCache(StylesheetCache)}.  Its entries are revalidated according
+ * to the cache's policy instead.
  *
  * @author Torbj�rn Gannholm
  */
@@ -54,15 +61,14 @@ public class StylesheetFactoryImpl implements StylesheetFactory {
     /**
      * an LRU cache
      */
-    private java.util.LinkedHashMap _cache =
-            new java.util.LinkedHashMap(_cacheCapacity, 0.75f, true) {
-                private static final long serialVersionUID = 1L;
-
-                protected boolean removeEldestEntry(java.util.Map.Entry eldest) {
-                    return size() > _cacheCapacity;
-                }
-            };
+    private StylesheetCache _cache = 
+        new StylesheetCache(_cacheCapacity, Long.MAX_VALUE, StylesheetCache.VALIDATE_NONE);
+    private boolean _sharedCache;
+    
+    private StyleDeclarationCache _declarationCache;
+    
     private CSSParser _cssParser;
+    private volatile boolean _supportCMYKColors;
 
     public StylesheetFactoryImpl(UserAgentCallback userAgentCallback) {
         _userAgentCallback = userAgentCallback;
@@ -71,6 +77,12 @@ public class StylesheetFactoryImpl implements StylesheetFactory {
                 XRLog.cssParse(Level.WARNING, "(" + uri + ") " + message);
             }
         });
+        if (Configuration.isTrue("xr.cache.stylesheets.shared", false)) {
+            setCache(StylesheetCache.getSharedInstance());
+        }
+        if (Configuration.isTrue("xr.cache.style-declarations", true)) {
+            _declarationCache = StyleDeclarationCache.getSharedInstance();
+        }
     }
 
     public synchronized Stylesheet parse(Reader reader, StylesheetInfo info) {
@@ -83,19 +95,35 @@ public class StylesheetFactoryImpl implements StylesheetFactory {
         }
     }
 
+    private Stylesheet parse(byte[] content, StylesheetInfo info) {
+        try {
+            return parse(new InputStreamReader(new ByteArrayInputStream(content), "UTF-8"), info);
+        } catch (UnsupportedEncodingException e) {
+            // Shouldn't happen
+            throw new RuntimeException(e.getMessage(), e);
+        }
+    }
+    
     /**
-     * @return Returns null if uri could not be loaded
+     * Reads the content of the sheet at <code>info.getUri()</code>.  
+     * <code>null</code> is returned if the sheet can't be read.
      */
-    private Stylesheet parse(StylesheetInfo info) {
+    private byte[] load(StylesheetInfo info) {
         CSSResource cr = _userAgentCallback.getCSSResource(info.getUri());
         // Whether by accident or design, InputStream will never be null
         // since the null resource stream is wrapped in a BufferedInputStream
         InputStream is = cr.getResourceInputSource().getByteStream();
         try {
-            return parse(new InputStreamReader(is, "UTF-8"), info);
-        } catch (UnsupportedEncodingException e) {
-            // Shouldn't happen
-            throw new RuntimeException(e.getMessage(), e);
+            ByteArrayOutputStream result = new ByteArrayOutputStream();
+            byte[] buf = new byte[4096];
+            int i;
+            while ( (i = is.read(buf)) != -1) {
+                result.write(buf, 0, i);
+            }
+            return result.toByteArray();
+        } catch (IOException e) {
+            XRLog.cssParse(Level.WARNING, "Couldn't read stylesheet at URI " + info.getUri() + ": " + e.getMessage(), e);
+            return null;
         } finally {
             if (is != null) {
                 try {
@@ -107,9 +135,70 @@ public class StylesheetFactoryImpl implements StylesheetFactory {
         }
     }
 
-    public synchronized Ruleset parseStyleDeclaration(int origin, String styleDeclaration) {
+    /**
+     * Parses a style declaration (e.g. the content of a <code>style</code>
+     * attribute).  Declarations are looked up in the declaration cache first
+     * (see {@link #setDeclarationCache(StyleDeclarationCache)}) so the
+     * returned ruleset may be shared and must not be modified.
+     */
+    public Ruleset parseStyleDeclaration(int origin, String styleDeclaration) {
+        StyleDeclarationCache cache = _declarationCache;
+        if (cache == null) {
+            return parseUncachedStyleDeclaration(origin, styleDeclaration);
+        }
+        
+        boolean cmyk = _supportCMYKColors;
+        Ruleset result = cache.get(origin, cmyk, styleDeclaration);
+        if (result == null) {
+            result = parseUncachedStyleDeclaration(origin, styleDeclaration);
+            cache.put(origin, cmyk, styleDeclaration, result);
+        }
+        return result;
+    }
+    
+    private synchronized Ruleset parseUncachedStyleDeclaration(int origin, String styleDeclaration) {
         return _cssParser.parseDeclaration(origin, styleDeclaration);
     }
+    
+    /**
+     * Sets the cache of parsed style declarations.  By default the shared
+     * cache ({@link StyleDeclarationCache#getSharedInstance()}) is used
+     * unless <code>xr.cache.style-declarations</code> is false.  
+     * <code>null</code> disables caching.
+     */
+    public void setDeclarationCache(StyleDeclarationCache declarationCache) {
+        _declarationCache = declarationCache;
+    }
+    
+    public StyleDeclarationCache getDeclarationCache() {
+        return _declarationCache;
+    }
+    
+    /**
+     * Sets the cache used for sheets requested with 
+     * {@link #getStylesheet(StylesheetInfo)}.  The cache may be shared with
+     * other factories on other threads.
+     */
+    public void setCache(StylesheetCache cache) {
+        _cache = cache;
+        _sharedCache = true;
+    }
+    
+    public StylesheetCache getCache() {
+        return _cache;
+    }
+    
+    /**
+     * Sheets parsed with and without CMYK support differ so they must be 
+     * cached separately when the cache is shared.
+     */
+    private Object getCacheKey(Object key) {
+        if (_supportCMYKColors && key instanceof String) {
+            return "cmyk:" + key;
+        } else {
+            return key;
+        }
+    }
 
     /**
      * Adds a stylesheet to the factory cache. Will overwrite older entry for
@@ -119,18 +208,17 @@ public class StylesheetFactoryImpl implements StylesheetFactory {
      *              factory.
      * @param sheet The sheet to cache.
      */
-    public synchronized void putStylesheet(Object key, Stylesheet sheet) {
-        _cache.put(key, sheet);
+    public void putStylesheet(Object key, Stylesheet sheet) {
+        _cache.put(getCacheKey(key), null, sheet, 0);
     }
 
     /**
      * @param key
      * @return true if a Stylesheet with this key has been put in the cache.
-     *         Note that the Stylesheet may be null.
      */
     //TODO: work out how to handle caching properly, with cache invalidation
-    public synchronized boolean containsStylesheet(Object key) {
-        return _cache.containsKey(key);
+    public boolean containsStylesheet(Object key) {
+        return _cache.contains(getCacheKey(key));
     }
 
     /**
@@ -140,8 +228,8 @@ public class StylesheetFactoryImpl implements StylesheetFactory {
      *            putStylesheet();
      * @return The stylesheet
      */
-    public synchronized Stylesheet getCachedStylesheet(Object key) {
-        return (Stylesheet) _cache.get(key);
+    public Stylesheet getCachedStylesheet(Object key) {
+        return _cache.get(getCacheKey(key), null);
     }
 
     /**
@@ -150,12 +238,18 @@ public class StylesheetFactoryImpl implements StylesheetFactory {
      * @param key The key for this sheet; same as key passed to
      *            putStylesheet();
      */
-    public synchronized Object removeCachedStylesheet(Object key) {
-        return _cache.remove(key);
+    public Object removeCachedStylesheet(Object key) {
+        return _cache.remove(getCacheKey(key));
     }
     
-    public synchronized void flushCachedStylesheets() {
-        _cache.clear();
+    /**
+     * Flushes the factory's cache.  A shared cache is left alone since its 
+     * entries are revalidated instead (and other factories may be using it).
+     */
+    public void flushCachedStylesheets() {
+        if (! _sharedCache) {
+            _cache.clear();
+        }
     }
 
     /**
@@ -165,14 +259,39 @@ public class StylesheetFactoryImpl implements StylesheetFactory {
      * @param info The StylesheetInfo for this sheet
      * @return The stylesheet
      */
-    //TODO: this looks a bit odd
     public Stylesheet getStylesheet(StylesheetInfo info) {
         XRLog.load("Requesting stylesheet: " + info.getUri());
+        
+        StylesheetCache cache = _cache;
+        Object key = getCacheKey(info.getUri());
+        
+        byte[] content = null;
+        boolean loaded = false;
+        String validator = null;
+        if (cache.getValidation() != StylesheetCache.VALIDATE_NONE) {
+            validator = StylesheetCache.createLastModifiedValidator(info.getUri());
+            if (validator == null && cache.getValidation() == StylesheetCache.VALIDATE_CONTENT) {
+                content = load(info);
+                loaded = true;
+                // If the sheet can't be read now, a cached copy is still used
+                if (content != null) {
+                    validator = StylesheetCache.createContentValidator(content);
+                }
+            }
+        }
 
-        Stylesheet s = getCachedStylesheet(info.getUri());
-        if (s == null && !containsStylesheet(info.getUri())) {
-            s = parse(info);
-            putStylesheet(info.getUri(), s);
+        Stylesheet s = cache.get(key, validator);
+        if (s == null) {
+            if (! loaded) {
+                content = load(info);
+            }
+            if (content == null) {
+                // The failure may be temporary (e.g. a network error) so 
+                // don't cache the empty sheet, especially in a shared cache
+                return parse(new byte[0], info);
+            }
+            s = parse(content, info);
+            cache.put(key, validator, s, content.length);
         }
         return s;
     }
@@ -181,7 +300,8 @@ public class StylesheetFactoryImpl implements StylesheetFactory {
         _userAgentCallback = userAgent;
     }
     
-    public void setSupportCMYKColors(boolean b) {
+    public synchronized void setSupportCMYKColors(boolean b) {
+        _supportCMYKColors = b;
         _cssParser.setSupportCMYKColors(b);
     }
 }
@@ -21,7 +21,6 @@ package org.xhtmlrenderer.css.extend.lib;
 
 import org.w3c.dom.Element;
 import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 import org.xhtmlrenderer.css.extend.TreeResolver;
 
 /**
@@ -54,14 +53,9 @@ public class DOMTreeResolver implements TreeResolver {
     }
 
     public boolean isFirstChildElement(Object element) {
-        org.w3c.dom.Node parent = ((org.w3c.dom.Element) element).getParentNode();
-        NodeList nl = parent.getChildNodes();
-
-        int i = 0;
-        while (i < nl.getLength() && nl.item(i).getNodeType() != org.w3c.dom.Node.ELEMENT_NODE) {
-            i++;
-        }
-        return (nl.item(i) == element);
+        // Walk the siblings instead of using getChildNodes() (the node lists 
+        // of some DOM implementations aren't safe for concurrent reads)
+        return getPreviousSiblingElement(element) == null;
     }
 
     public boolean matchesElement(Object element, String namespaceURI, String name) {
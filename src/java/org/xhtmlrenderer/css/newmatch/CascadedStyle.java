@@ -25,7 +25,7 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.w3c.dom.css.CSSPrimitiveValue;
 import org.xhtmlrenderer.css.constants.CSSName;
@@ -51,15 +51,31 @@ import org.xhtmlrenderer.css.sheet.StylesheetInfo;
  * #getCascadedPropertyDeclarations()}. Check for individual property assignments
  * using {@link #hasProperty(CSSName)}. A CascadedStyle is immutable, as
  * properties can not be added or removed from it once instantiated.
+ * <p>
+ * The cascaded declarations are kept in an array sorted by {@link CSSName}
+ * id.  Two styles with the same declarations are equal (and have the same
+ * 64-bit {@link #getFingerprintHash() fingerprint hash}) so styles can be
+ * used as keys when caching the styles derived from them.
  *
  * @author Torbjrn Gannholm
  * @author Patrick Wright
  */
 public class CascadedStyle {
+    private static final PropertyDeclaration[] NO_DECLARATIONS = new PropertyDeclaration[0];
+    
+    private static final Map _anonymousStyles = new ConcurrentHashMap();
+    
+    /**
+     * The cascaded PropertyDeclarations sorted by {@link CSSName} id
+     */
+    private final PropertyDeclaration[] _declarations;
+    
     /**
-     * Map of PropertyDeclarations, keyed by {@link CSSName}
+     * The ids of the property names of <code>_declarations</code> 
      */
-    private Map cascadedProperties;
+    private final int[] _ids;
+    
+    private final long _fingerprintHash;
     
     private String fingerprint;
     
@@ -68,12 +84,18 @@ public class CascadedStyle {
      * to the value of the <code>display</code> parameter.  
      */
     public static CascadedStyle createAnonymousStyle(IdentValue display) {
-        CSSPrimitiveValue val = new PropertyValue(display);
-        
-        List props = Collections.singletonList(
-                new PropertyDeclaration(CSSName.DISPLAY, val, true, StylesheetInfo.USER));
-        
-        return new CascadedStyle(props.iterator());
+        // Immutable so there is no need to create a new one each time
+        CascadedStyle result = (CascadedStyle)_anonymousStyles.get(display);
+        if (result == null) {
+            CSSPrimitiveValue val = new PropertyValue(display);
+            
+            List props = Collections.singletonList(
+                    new PropertyDeclaration(CSSName.DISPLAY, val, true, StylesheetInfo.USER));
+            
+            result = new CascadedStyle(props);
+            _anonymousStyles.put(display, result);
+        }
+        return result;
     }
     
     /**
@@ -85,11 +107,11 @@ public class CascadedStyle {
      * @see #createLayoutPropertyDeclaration(CSSName, IdentValue)
      */
     public static CascadedStyle createLayoutStyle(PropertyDeclaration[] decls) {
-        return new CascadedStyle(Arrays.asList(decls).iterator());
+        return new CascadedStyle(Arrays.asList(decls));
     }
     
     public static CascadedStyle createLayoutStyle(List decls) {
-        return new CascadedStyle(decls.iterator());
+        return new CascadedStyle(decls);
     }    
     
     /**
@@ -130,38 +152,111 @@ public class CascadedStyle {
      *             specificity.
      */
     CascadedStyle(java.util.Iterator iter) {
-        this();
-
-        addProperties(iter);
+        this(toList(iter));
     }
-
-    private void addProperties(java.util.Iterator iter) {
-        //do a bucket-sort on importance and origin
-        //properties should already be in order of specificity
-        java.util.List[] buckets = new java.util.List[PropertyDeclaration.IMPORTANCE_AND_ORIGIN_COUNT];
-        for (int i = 0; i < buckets.length; i++) {
-            buckets[i] = new java.util.LinkedList();
-        }
-
+    
+    /**
+     * Like {@link #CascadedStyle(Iterator)}, but takes a list of 
+     * PropertyDeclarations in order of specificity.
+     */
+    CascadedStyle(List props) {
+        this(cascade(props));
+    }
+    
+    private static List toList(Iterator iter) {
+        List result = new ArrayList();
         while (iter.hasNext()) {
-            PropertyDeclaration prop = (PropertyDeclaration) iter.next();
-            buckets[prop.getImportanceAndOrigin()].add(prop);
+            result.add(iter.next());
         }
+        return result;
+    }
 
-        for (int i = 0; i < buckets.length; i++) {
-            for (java.util.Iterator it = buckets[i].iterator(); it.hasNext();) {
-                PropertyDeclaration prop = (PropertyDeclaration) it.next();
-                cascadedProperties.put(prop.getCSSName(), prop);
+    /**
+     * Returns the PropertyDeclaration which wins the cascade for each property
+     * name sorted by property name id.  The winner is the declaration with
+     * the highest importance and origin and, among those, the one which
+     * comes last (i.e. has the highest specificity).
+     */
+    private static PropertyDeclaration[] cascade(List props) {
+        int size = props.size();
+        if (size == 0) {
+            return NO_DECLARATIONS;
+        }
+        
+        // Sort by name, then importance and origin, then position.  The last
+        // declaration for each name wins.
+        long[] keys = new long[size];
+        for (int i = 0; i < size; i++) {
+            PropertyDeclaration prop = (PropertyDeclaration)props.get(i);
+            keys[i] = ((long)prop.getCSSName().FS_ID << 40) | 
+                ((long)prop.getImportanceAndOrigin() << 32) | i;
+        }
+        Arrays.sort(keys);
+        
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (i == size - 1 || (keys[i] >>> 40) != (keys[i + 1] >>> 40)) {
+                count++;
             }
         }
+        
+        PropertyDeclaration[] result = new PropertyDeclaration[count];
+        int pos = 0;
+        for (int i = 0; i < size; i++) {
+            if (i == size - 1 || (keys[i] >>> 40) != (keys[i + 1] >>> 40)) {
+                result[pos++] = (PropertyDeclaration)props.get((int)(keys[i] & 0xFFFFFFFFL));
+            }
+        }
+        
+        return result;
     }
     
     private CascadedStyle(CascadedStyle startingPoint, Iterator props) {
-        cascadedProperties = new TreeMap(startingPoint.cascadedProperties);
-        
-        addProperties(props);
+        this(merge(startingPoint._declarations, cascade(toList(props))));
+    }
+    
+    /**
+     * Merges two sorted arrays of declarations.  The declarations in 
+     * <code>overrides</code> replace those of <code>base</code>.
+     */
+    private static PropertyDeclaration[] merge(
+            PropertyDeclaration[] base, PropertyDeclaration[] overrides) {
+        List result = new ArrayList(base.length + overrides.length);
+        int i = 0;
+        int j = 0;
+        while (i < base.length && j < overrides.length) {
+            int baseId = base[i].getCSSName().FS_ID;
+            int overrideId = overrides[j].getCSSName().FS_ID;
+            if (baseId < overrideId) {
+                result.add(base[i++]);
+            } else if (baseId > overrideId) {
+                result.add(overrides[j++]);
+            } else {
+                result.add(overrides[j++]);
+                i++;
+            }
+        }
+        while (i < base.length) {
+            result.add(base[i++]);
+        }
+        while (j < overrides.length) {
+            result.add(overrides[j++]);
+        }
+        return (PropertyDeclaration[])result.toArray(new PropertyDeclaration[result.size()]);
     }
 
+    private CascadedStyle(PropertyDeclaration[] declarations) {
+        _declarations = declarations;
+        _ids = new int[declarations.length];
+        
+        long hash = declarations.length;
+        for (int i = 0; i < declarations.length; i++) {
+            _ids[i] = declarations[i].getCSSName().FS_ID;
+            hash = (hash ^ declarations[i].getFingerprintHash()) * 0x9E3779B97F4A7C15L;
+            hash ^= hash >>> 29;
+        }
+        _fingerprintHash = hash;
+    }
 
     /**
      * Default constructor with no initialization. Don't use this to instantiate
@@ -169,7 +264,7 @@ public class CascadedStyle {
      * properties.
      */
     private CascadedStyle() {
-        cascadedProperties = new TreeMap();
+        this(NO_DECLARATIONS);
     }
 
     /**
@@ -185,7 +280,7 @@ public class CascadedStyle {
      * @return True if the property is defined in this set.
      */
     public boolean hasProperty(CSSName cssName) {
-        return cascadedProperties.get( cssName ) != null;
+        return propertyByName(cssName) != null;
     }
 
 
@@ -200,9 +295,8 @@ public class CascadedStyle {
      *         if not found.
      */
     public PropertyDeclaration propertyByName(CSSName cssName) {
-        PropertyDeclaration prop = (PropertyDeclaration)cascadedProperties.get(cssName);
-
-        return prop;
+        int i = Arrays.binarySearch(_ids, cssName.FS_ID);
+        return i < 0 ? null : _declarations[i];
     }
 
     /**
@@ -227,27 +321,61 @@ public class CascadedStyle {
      * @return Iterator over a set of properly cascaded PropertyDeclarations.
      */
     public java.util.Iterator getCascadedPropertyDeclarations() {
-        List list = new ArrayList(cascadedProperties.size());
-        Iterator iter = cascadedProperties.values().iterator();
-        while ( iter.hasNext()) {
-            list.add(iter.next());
-        }
-        return list.iterator();
+        return Arrays.asList(_declarations).iterator();
     }
 
-    public int countAssigned() { return cascadedProperties.size(); }
+    public int countAssigned() { return _declarations.length; }
 
     public String getFingerprint() {
         if (this.fingerprint == null) {
             StringBuffer sb = new StringBuffer();
-            Iterator iter = cascadedProperties.values().iterator();
-            while (iter.hasNext()) {
-                sb.append(((PropertyDeclaration)iter.next()).getFingerprint());
+            for (int i = 0; i < _declarations.length; i++) {
+                sb.append(_declarations[i].getFingerprint());
             }
             this.fingerprint = sb.toString();
         }
         return this.fingerprint;
     }
+    
+    /**
+     * Returns a 64-bit hash of the declarations of this style.  Styles with
+     * the same fingerprint (see {@link #getFingerprint()}) have the same 
+     * hash.
+     */
+    public long getFingerprintHash() {
+        return _fingerprintHash;
+    }
+    
+    public int hashCode() {
+        return (int)(_fingerprintHash ^ (_fingerprintHash >>> 32));
+    }
+    
+    /**
+     * Two styles are equal if they have equal declarations for the same
+     * properties (i.e. the same fingerprint)
+     */
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (! (o instanceof CascadedStyle)) {
+            return false;
+        }
+        
+        CascadedStyle other = (CascadedStyle)o;
+        if (_fingerprintHash != other._fingerprintHash ||
+                _declarations.length != other._declarations.length) {
+            return false;
+        }
+        for (int i = 0; i < _declarations.length; i++) {
+            PropertyDeclaration d1 = _declarations[i];
+            PropertyDeclaration d2 = other._declarations[i];
+            if (d1 != d2 && ! d1.getFingerprint().equals(d2.getFingerprint())) {
+                return false;
+            }
+        }
+        return true;
+    }
 }// end class
 
 /*
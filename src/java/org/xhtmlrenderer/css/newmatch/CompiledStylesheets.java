@@ -0,0 +1,293 @@
+/*
+ * {{{ header & license
+ * Copyright (c) 2009 Wisconsin Court System
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * as published by the Free Software Foundation; either version 2.1
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ * }}}
+ */
+package org.xhtmlrenderer.css.newmatch;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.xhtmlrenderer.css.sheet.MediaRule;
+import org.xhtmlrenderer.css.sheet.PageRule;
+import org.xhtmlrenderer.css.sheet.Ruleset;
+import org.xhtmlrenderer.css.sheet.Stylesheet;
+
+/**
+ * The result of sorting the selectors and collecting the <code>@page</code>
+ * and <code>@font-face</code> rules of a set of stylesheets for a given
+ * medium (i.e. the work done when a {@link Matcher} is created).  Each 
+ * stylesheet (together with the stylesheets it imports) is compiled 
+ * separately.  When a document is set, the compiled form of each stylesheet
+ * the document links to is reused and merged with the document's other
+ * stylesheets in the order the document lists them, so the cascade is the
+ * same as without compiled stylesheets.  Stylesheets the document doesn't
+ * link to are not used.  
+ * <p>
+ * Instances are immutable so the same compiled stylesheets (typically the 
+ * user agent stylesheet plus the stylesheets shared by a batch of documents)
+ * can be used by any number of documents on any number of threads.
+ *
+ * @see Matcher#Matcher(org.xhtmlrenderer.css.extend.TreeResolver, org.xhtmlrenderer.css.extend.AttributeResolver, org.xhtmlrenderer.css.extend.StylesheetFactory, CompiledStylesheets, List)
+ */
+public class CompiledStylesheets {
+    private final String _medium;
+
+    private final List _stylesheets;
+    private final Map _uris;
+    private final Map _segments;
+    
+    private final int _selectorCount;
+
+    /**
+     * @param cascades For each stylesheet to compile, the list of 
+     * stylesheets it consists of in cascade order (i.e. the stylesheets it 
+     * imports followed by the stylesheet itself)
+     * @param uris The URIs the stylesheets were requested with (parallel
+     * to <code>cascades</code>, an entry may be <code>null</code>).  
+     * Documents which link to one of these URIs will use the compiled 
+     * stylesheet.
+     * @param medium The medium the stylesheets are compiled for
+     */
+    public CompiledStylesheets(List cascades, List uris, String medium) {
+        _medium = medium;
+        
+        List stylesheets = new ArrayList(cascades.size());
+        Map uriMap = new HashMap();
+        _segments = new IdentityHashMap();
+        
+        int count = 0;
+        for (int i = 0; i < cascades.size(); i++) {
+            List cascade = (List)cascades.get(i);
+            if (cascade.size() == 0) {
+                continue;
+            }
+            
+            Stylesheet stylesheet = (Stylesheet)cascade.get(cascade.size() - 1);
+            Segment segment = compile(cascade, medium);
+            
+            stylesheets.add(stylesheet);
+            _segments.put(stylesheet, segment);
+            String uri = (String)uris.get(i);
+            if (uri != null) {
+                uriMap.put(uri, stylesheet);
+            }
+            count += segment.getSelectorCount();
+        }
+        
+        _stylesheets = Collections.unmodifiableList(stylesheets);
+        _uris = Collections.unmodifiableMap(uriMap);
+        _selectorCount = count;
+    }
+    
+    /**
+     * Sorts the selectors of <code>stylesheets</code> (in cascade order) and
+     * collects their <code>@page</code> and <code>@font-face</code> rules. 
+     */
+    static Segment compile(List stylesheets, String medium) {
+        TreeMap sorter = new TreeMap();
+        List pageRules = new ArrayList();
+        List fontFaceRules = new ArrayList();
+        addAllStylesheets(stylesheets, sorter, pageRules, fontFaceRules, medium);
+        
+        return new Segment(sorter, pageRules, fontFaceRules);
+    }
+
+    private static void addAllStylesheets(
+            List stylesheets, TreeMap sorter, List pageRules, List fontFaceRules,
+            String medium) {
+        int count = 0;
+        for (Iterator i = stylesheets.iterator(); i.hasNext(); ) {
+            Stylesheet stylesheet = (Stylesheet)i.next();
+            for (Iterator j = stylesheet.getContents().iterator(); j.hasNext(); ) {
+                Object obj = (Object)j.next();
+                if (obj instanceof Ruleset) {
+                    for (Iterator k = ((Ruleset)obj).getFSSelectors().iterator(); k.hasNext(); ) {
+                        Selector selector = (Selector)k.next();
+                        sorter.put(selector.getOrder(++count), selector);
+                    }
+                } else if (obj instanceof PageRule) {
+                    pageRules.add(obj);
+                } else if (obj instanceof MediaRule) {
+                    MediaRule mediaRule = (MediaRule)obj;
+                    if (mediaRule.matches(medium)) {
+                        for (Iterator k = mediaRule.getContents().iterator(); k.hasNext(); ) {
+                            Ruleset ruleset = (Ruleset)k.next();
+                            for (Iterator l = ruleset.getFSSelectors().iterator(); l.hasNext(); ) {
+                                Selector selector = (Selector)l.next();
+                                sorter.put(selector.getOrder(++count), selector);
+                            }
+                        }
+                    }
+                }
+            }
+
+            fontFaceRules.addAll(stylesheet.getFontFaceRules());
+        }
+
+        sortPageRules(pageRules);
+    }
+
+    static void sortPageRules(List pageRules) {
+        // Stylesheets may be shared between documents so don't record the
+        // position in the rules.  The page rules were added in document order
+        // and the sort is stable so the position would only break ties anyway.
+        Collections.sort(pageRules, new Comparator() {
+            public int compare(Object o1, Object o2) {
+                PageRule p1 = (PageRule)o1;
+                PageRule p2 = (PageRule)o2;
+
+                if (p1.getOrder(0) - p2.getOrder(0) < 0) {
+                    return -1;
+                } else if (p1.getOrder(0) == p2.getOrder(0)) {
+                    return 0;
+                } else {
+                    return 1;
+                }
+            }
+        });
+    }
+
+    /**
+     * Merges the selectors of <code>segments</code> (which are in cascade 
+     * order) in cascade order.  Selectors are ordered by specificity and 
+     * then by the segment and their position in it.
+     */
+    static List mergeSelectors(List segments) {
+        if (segments.size() == 1) {
+            return ((Segment)segments.get(0))._selectors;
+        }
+        
+        int total = 0;
+        for (Iterator i = segments.iterator(); i.hasNext(); ) {
+            total += ((Segment)i.next()).getSelectorCount();
+        }
+        List result = new ArrayList(total);
+        
+        int[] next = new int[segments.size()];
+        while (result.size() < total) {
+            int best = -1;
+            String bestSpecificity = null;
+            for (int i = 0; i < next.length; i++) {
+                Segment segment = (Segment)segments.get(i);
+                if (next[i] < segment._specificities.length) {
+                    String specificity = segment._specificities[next[i]];
+                    // On a tie, the earlier segment comes first
+                    if (best == -1 || specificity.compareTo(bestSpecificity) < 0) {
+                        best = i;
+                        bestSpecificity = specificity;
+                    }
+                }
+            }
+            
+            Segment segment = (Segment)segments.get(best);
+            result.add(segment._selectors.get(next[best]++));
+        }
+
+        return result;
+    }
+
+    public String getMedium() {
+        return _medium;
+    }
+
+    /**
+     * Returns the compiled stylesheets (not including the stylesheets they
+     * import).
+     */
+    public List getStylesheets() {
+        return _stylesheets;
+    }
+
+    public boolean containsStylesheet(Stylesheet stylesheet) {
+        return _segments.containsKey(stylesheet);
+    }
+
+    public boolean containsURI(String uri) {
+        return _uris.containsKey(uri);
+    }
+    
+    /**
+     * Returns the compiled stylesheet requested with <code>uri</code> or 
+     * <code>null</code> if there isn't one.
+     */
+    public Stylesheet getStylesheet(String uri) {
+        return (Stylesheet)_uris.get(uri);
+    }
+
+    public int getSelectorCount() {
+        return _selectorCount;
+    }
+    
+    /**
+     * Returns the compiled form of <code>stylesheet</code> or 
+     * <code>null</code> if it isn't one of the compiled stylesheets.
+     */
+    Segment getSegment(Stylesheet stylesheet) {
+        return (Segment)_segments.get(stylesheet);
+    }
+    
+    /**
+     * The sorted selectors and the <code>@page</code> and 
+     * <code>@font-face</code> rules of a run of stylesheets.  Positions
+     * are relative to the start of the run so a segment can be used at any
+     * position in a document's cascade.
+     */
+    static class Segment {
+        private final String[] _specificities;
+        private final List _selectors;
+        private final List _pageRules;
+        private final List _fontFaceRules;
+        
+        private Segment(TreeMap sorter, List pageRules, List fontFaceRules) {
+            _specificities = new String[sorter.size()];
+            int i = 0;
+            for (Iterator iter = sorter.keySet().iterator(); iter.hasNext(); ) {
+                String order = (String)iter.next();
+                // See Selector.getOrder(int) (the last five digits are 
+                // the position)
+                _specificities[i++] = order.substring(0, order.length() - 5);
+            }
+            _selectors = Collections.unmodifiableList(new ArrayList(sorter.values()));
+            _pageRules = Collections.unmodifiableList(pageRules);
+            _fontFaceRules = Collections.unmodifiableList(fontFaceRules);
+        }
+        
+        int getSelectorCount() {
+            return _selectors.size();
+        }
+        
+        List getSelectors() {
+            return _selectors;
+        }
+
+        List getPageRules() {
+            return _pageRules;
+        }
+
+        List getFontFaceRules() {
+            return _fontFaceRules;
+        }
+    }
+}
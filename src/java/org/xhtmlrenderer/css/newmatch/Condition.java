@@ -367,7 +367,7 @@ abstract class Condition {
 
     }
     
-    private static String[] split(String s, char ch) {
+    static String[] split(String s, char ch) {
         if (s.indexOf(ch) == -1) {
             return new String[] { s };
         } else {
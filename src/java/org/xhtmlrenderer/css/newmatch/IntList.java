@@ -0,0 +1,52 @@
+/*
+ * {{{ header & license
+ * Copyright (c) 2009 Wisconsin Court System
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * as published by the Free Software Foundation; either version 2.1
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ * }}}
+ */
+package org.xhtmlrenderer.css.newmatch;
+
+/**
+ * A minimal growable list of <code>int</code>s
+ */
+class IntList {
+    static final int[] EMPTY = new int[0];
+
+    private int[] _values = new int[4];
+    private int _size;
+
+    public void add(int value) {
+        if (_size == _values.length) {
+            int[] values = new int[_size * 2];
+            System.arraycopy(_values, 0, values, 0, _size);
+            _values = values;
+        }
+        _values[_size++] = value;
+    }
+
+    public int size() {
+        return _size;
+    }
+
+    public int[] toArray() {
+        if (_size == 0) {
+            return EMPTY;
+        }
+        int[] result = new int[_size];
+        System.arraycopy(_values, 0, result, 0, _size);
+        return result;
+    }
+}
@@ -21,28 +21,34 @@
 package org.xhtmlrenderer.css.newmatch;
 
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
-import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.xhtmlrenderer.css.extend.AttributeResolver;
 import org.xhtmlrenderer.css.extend.StylesheetFactory;
 import org.xhtmlrenderer.css.extend.TreeResolver;
-import org.xhtmlrenderer.css.sheet.MediaRule;
 import org.xhtmlrenderer.css.sheet.PageRule;
-import org.xhtmlrenderer.css.sheet.Ruleset;
 import org.xhtmlrenderer.css.sheet.Stylesheet;
 import org.xhtmlrenderer.util.XRLog;
 import org.xhtmlrenderer.util.Util;
 
 
 /**
+ * Matches elements against the selectors of a list of stylesheets and 
+ * remembers the result for each element.
+ * <p>
+ * By default a matcher must only be used by one thread at a time and does
+ * no locking at all.  A matcher created in concurrent mode may be used by
+ * any number of threads at the same time (e.g. to style the subtrees of a
+ * document in parallel).  Its {@link Mapper}s are immutable once created 
+ * (apart from the cache of their children, which is a concurrent map) and
+ * the per element state is kept in concurrent maps.  The 
+ * {@link TreeResolver} and {@link AttributeResolver} must then also be safe
+ * for concurrent reads of the document.
+ *
  * @author Torbjorn Gannholm
  */
 public class Matcher {
@@ -52,19 +58,35 @@ public class Matcher {
     private org.xhtmlrenderer.css.extend.TreeResolver _treeRes;
     private org.xhtmlrenderer.css.extend.StylesheetFactory _styleFactory;
 
+    private final boolean _concurrent;
+
     private java.util.Map _map;
 
-    //handle dynamic
-    private Set _hoverElements;
-    private Set _activeElements;
-    private Set _focusElements;
-    private Set _visitElements;
+    //handle dynamic (element -> Boolean.TRUE)
+    private Map _hoverElements;
+    private Map _activeElements;
+    private Map _focusElements;
+    private Map _visitElements;
     
     private List _pageRules;
     private List _fontFaceRules;
     
+    // "page name/pseudo page" -> PageInfo
+    private Map _pageInfos;
+    
     public Matcher(
             TreeResolver tr, AttributeResolver ar, StylesheetFactory factory, List stylesheets, String medium) {
+        this(tr, ar, factory, stylesheets, medium, false);
+    }
+    
+    /**
+     * @param concurrent Whether the matcher may be used by several threads
+     * at the same time
+     */
+    public Matcher(
+            TreeResolver tr, AttributeResolver ar, StylesheetFactory factory, List stylesheets, String medium,
+            boolean concurrent) {
+        _concurrent = concurrent;
         newMaps();
         _treeRes = tr;
         _attRes = ar;
@@ -75,20 +97,54 @@ public class Matcher {
         docMapper = createDocumentMapper(stylesheets, medium);
     }
     
+    /**
+     * Creates a matcher for <code>stylesheets</code> (the document's 
+     * stylesheets in cascade order, including imported stylesheets) which
+     * reuses the compiled form of those which are part of 
+     * <code>compiled</code>.  The imports of a compiled stylesheet are part
+     * of its compiled form so they must not be listed again.  Only the other
+     * stylesheets need to be compiled.
+     */
+    public Matcher(
+            TreeResolver tr, AttributeResolver ar, StylesheetFactory factory, 
+            CompiledStylesheets compiled, List stylesheets) {
+        this(tr, ar, factory, compiled, stylesheets, false);
+    }
+    
+    /**
+     * @param concurrent Whether the matcher may be used by several threads
+     * at the same time
+     */
+    public Matcher(
+            TreeResolver tr, AttributeResolver ar, StylesheetFactory factory, 
+            CompiledStylesheets compiled, List stylesheets, boolean concurrent) {
+        _concurrent = concurrent;
+        newMaps();
+        _treeRes = tr;
+        _attRes = ar;
+        _styleFactory = factory;
+        
+        _pageRules = new ArrayList();
+        _fontFaceRules = new ArrayList();
+        docMapper = createDocumentMapper(compiled, stylesheets);
+    }
+    
+    public boolean isConcurrent() {
+        return _concurrent;
+    }
+    
     public void removeStyle(Object e) {
         _map.remove(e);
     }
 
     public CascadedStyle getCascadedStyle(Object e, boolean restyle) {
-        synchronized (e) {
-            Mapper em;
-            if (!restyle) {
-                em = getMapper(e);
-            } else {
-                em = matchElement(e);
-            }
-            return em.getCascadedStyle(e);
+        Mapper em;
+        if (!restyle) {
+            em = getMapper(e);
+        } else {
+            em = matchElement(e);
         }
+        return em.getCascadedStyle(e);
     }
 
     /**
@@ -96,13 +152,28 @@ public class Matcher {
      * We assume that restyle has already been done by a getCascadedStyle if necessary.
      */
     public CascadedStyle getPECascadedStyle(Object e, String pseudoElement) {
-        synchronized (e) {
-            Mapper em = getMapper(e);
-            return em.getPECascadedStyle(e, pseudoElement);
-        }
+        Mapper em = getMapper(e);
+        return em.getPECascadedStyle(e, pseudoElement);
     }
     
+    /**
+     * Returns the style of the pages named <code>pageName</code> (may be
+     * <code>null</code>) which match <code>pseudoPage</code>.  The result
+     * is cached so all pages with the same name and pseudo page share the 
+     * same <code>PageInfo</code> (which allows their margin areas to be
+     * shared too, see <code>PageBox</code>).
+     */
     public PageInfo getPageCascadedStyle(String pageName, String pseudoPage) {
+        String key = pageName + "/" + pseudoPage;
+        PageInfo result = (PageInfo)_pageInfos.get(key);
+        if (result == null) {
+            result = createPageCascadedStyle(pageName, pseudoPage);
+            _pageInfos.put(key, result);
+        }
+        return result;
+    }
+    
+    private PageInfo createPageCascadedStyle(String pageName, String pseudoPage) {
         List props = new ArrayList();
         Map marginBoxes = new HashMap();
 
@@ -130,102 +201,96 @@ public class Matcher {
     }
     
     public boolean isVisitedStyled(Object e) {
-        return _visitElements.contains(e);
+        return _visitElements.containsKey(e);
     }
 
     public boolean isHoverStyled(Object e) {
-        return _hoverElements.contains(e);
+        return _hoverElements.containsKey(e);
     }
 
     public boolean isActiveStyled(Object e) {
-        return _activeElements.contains(e);
+        return _activeElements.containsKey(e);
     }
 
     public boolean isFocusStyled(Object e) {
-        return _focusElements.contains(e);
+        return _focusElements.containsKey(e);
     }
 
     protected Mapper matchElement(Object e) {
-        synchronized (e) {
-            Object parent = _treeRes.getParentElement(e);
-            Mapper child;
-            if (parent != null) {
-                Mapper m = getMapper(parent);
-                child = m.mapChild(e);
-            } else {//has to be document or fragment node
-                child = docMapper.mapChild(e);
-            }
-            return child;
+        Object parent = _treeRes.getParentElement(e);
+        Mapper child;
+        if (parent != null) {
+            Mapper m = getMapper(parent);
+            child = m.mapChild(e);
+        } else {//has to be document or fragment node
+            child = docMapper.mapChild(e);
         }
+        return child;
     }
 
     Mapper createDocumentMapper(List stylesheets, String medium) {
-        java.util.TreeMap sorter = new java.util.TreeMap();
-        addAllStylesheets(stylesheets, sorter, medium);
-        XRLog.match("Matcher created with " + sorter.size() + " selectors");
-        return new Mapper(sorter.values());
+        CompiledStylesheets.Segment segment = CompiledStylesheets.compile(stylesheets, medium);
+        _pageRules.addAll(segment.getPageRules());
+        _fontFaceRules.addAll(segment.getFontFaceRules());
+        XRLog.match("Matcher created with " + segment.getSelectorCount() + " selectors");
+        return new Mapper(segment.getSelectors());
     }
     
-    private void addAllStylesheets(List stylesheets, TreeMap sorter, String medium) {
-        int count = 0;
-        int pCount = 0;
+    Mapper createDocumentMapper(CompiledStylesheets compiled, List stylesheets) {
+        // Runs of stylesheets which weren't precompiled are compiled 
+        // together.  The segments stay in document order. 
+        List segments = new ArrayList();
+        List run = new ArrayList();
+        int precompiled = 0;
+        int total = 0;
         for (Iterator i = stylesheets.iterator(); i.hasNext(); ) {
             Stylesheet stylesheet = (Stylesheet)i.next();
-            for (Iterator j = stylesheet.getContents().iterator(); j.hasNext(); ) {
-                Object obj = (Object)j.next();
-                if (obj instanceof Ruleset) {
-                    for (Iterator k = ((Ruleset)obj).getFSSelectors().iterator(); k.hasNext(); ) {
-                        Selector selector = (Selector)k.next();
-                        selector.setPos(++count);
-                        sorter.put(selector.getOrder(), selector);
-                    }
-                } else if (obj instanceof PageRule) {
-                    ((PageRule)obj).setPos(++pCount);
-                    _pageRules.add(obj);
-                } else if (obj instanceof MediaRule) {
-                    MediaRule mediaRule = (MediaRule)obj;
-                    if (mediaRule.matches(medium)) {
-                        for (Iterator k = mediaRule.getContents().iterator(); k.hasNext(); ) {
-                            Ruleset ruleset = (Ruleset)k.next();
-                            for (Iterator l = ruleset.getFSSelectors().iterator(); l.hasNext(); ) {
-                                Selector selector = (Selector)l.next();
-                                selector.setPos(++count);
-                                sorter.put(selector.getOrder(), selector);
-                            }
-                        }
-                    }
+            CompiledStylesheets.Segment segment = compiled.getSegment(stylesheet);
+            if (segment == null) {
+                run.add(stylesheet);
+            } else {
+                if (run.size() > 0) {
+                    segments.add(CompiledStylesheets.compile(run, compiled.getMedium()));
+                    run = new ArrayList();
                 }
+                segments.add(segment);
+                precompiled += segment.getSelectorCount();
             }
-            
-            _fontFaceRules.addAll(stylesheet.getFontFaceRules());
+        }
+        if (run.size() > 0 || segments.size() == 0) {
+            segments.add(CompiledStylesheets.compile(run, compiled.getMedium()));
         }
         
-        Collections.sort(_pageRules, new Comparator() {
-            public int compare(Object o1, Object o2) {
-                PageRule p1 = (PageRule)o1;
-                PageRule p2 = (PageRule)o2;
-                
-                if (p1.getOrder() - p2.getOrder() < 0) {
-                    return -1;
-                } else if (p1.getOrder() == p2.getOrder()) {
-                    return 0;
-                } else {
-                    return 1;
-                }
-            }
-        });
+        for (Iterator i = segments.iterator(); i.hasNext(); ) {
+            CompiledStylesheets.Segment segment = (CompiledStylesheets.Segment)i.next();
+            _pageRules.addAll(segment.getPageRules());
+            _fontFaceRules.addAll(segment.getFontFaceRules());
+            total += segment.getSelectorCount();
+        }
+        if (segments.size() > 1) {
+            CompiledStylesheets.sortPageRules(_pageRules);
+        }
+        
+        XRLog.match("Matcher created with " + precompiled + 
+                " precompiled and " + (total - precompiled) + " document selectors");
+        return new Mapper(CompiledStylesheets.mergeSelectors(segments));
     }
-
+    
     private void link(Object e, Mapper m) {
         _map.put(e, m);
     }
 
     private void newMaps() {
-        _map = Collections.synchronizedMap(new java.util.HashMap());
-        _hoverElements = Collections.synchronizedSet(new java.util.HashSet());
-        _activeElements = Collections.synchronizedSet(new java.util.HashSet());
-        _focusElements = Collections.synchronizedSet(new java.util.HashSet());
-        _visitElements = Collections.synchronizedSet(new java.util.HashSet());
+        _map = newMap();
+        _hoverElements = newMap();
+        _activeElements = newMap();
+        _focusElements = newMap();
+        _visitElements = newMap();
+        _pageInfos = newMap();
+    }
+    
+    private Map newMap() {
+        return _concurrent ? (Map)new ConcurrentHashMap() : (Map)new HashMap();
     }
 
     private Mapper getMapper(Object e) {
@@ -285,51 +350,82 @@ public class Matcher {
     }
 
     private org.xhtmlrenderer.css.sheet.Ruleset getElementStyle(Object e) {
-        synchronized (e) {
-            if (_attRes == null || _styleFactory == null) {
-                return null;
-            }
-            
-            String style = _attRes.getElementStyling(e);
-            if (Util.isNullOrEmpty(style)) {
-                return null;
-            }
-            
-            return _styleFactory.parseStyleDeclaration(org.xhtmlrenderer.css.sheet.StylesheetInfo.AUTHOR, style);
+        if (_attRes == null || _styleFactory == null) {
+            return null;
         }
+        
+        String style = _attRes.getElementStyling(e);
+        if (Util.isNullOrEmpty(style)) {
+            return null;
+        }
+        
+        return _styleFactory.parseStyleDeclaration(org.xhtmlrenderer.css.sheet.StylesheetInfo.AUTHOR, style);
     }
 
     private org.xhtmlrenderer.css.sheet.Ruleset getNonCssStyle(Object e) {
-        synchronized (e) {
-            if (_attRes == null || _styleFactory == null) {
-                return null;
-            }
-            String style = _attRes.getNonCssStyling(e);
-            if (Util.isNullOrEmpty(style)) {
-                return null;
-            }
-            return _styleFactory.parseStyleDeclaration(org.xhtmlrenderer.css.sheet.StylesheetInfo.AUTHOR, style);
+        if (_attRes == null || _styleFactory == null) {
+            return null;
+        }
+        String style = _attRes.getNonCssStyling(e);
+        if (Util.isNullOrEmpty(style)) {
+            return null;
         }
+        return _styleFactory.parseStyleDeclaration(org.xhtmlrenderer.css.sheet.StylesheetInfo.AUTHOR, style);
     }
 
     /**
      * Mapper represents a local CSS for a Node that is used to match the Node's
-     * children.
+     * children.  Mappers are immutable apart from the cache of their 
+     * children (which is only shared between threads in concurrent mode).
      *
      * @author Torbjorn Gannholm
      */
     class Mapper {
-        java.util.List axes;
-        private HashMap pseudoSelectors;
-        private List mappedSelectors;
-        private HashMap children;
+        //the selectors the document mapper tries against the root element
+        final java.util.List axes;
+        //the descendant axis selectors of the document mapper.  They are 
+        //carried forward to every element so they are shared by all mappers.
+        private final List descendantAxes;
+        private final SelectorBuckets descendantBuckets;
+        //chained selectors carried forward from ancestors (in addition to 
+        //descendantAxes).  The position of each is the index in 
+        //descendantAxes after which it must be tried (-1 if before all of
+        //them) so the original order of the selectors is preserved.
+        private final List extraAxes;
+        private final int[] extraPositions;
+        private final HashMap pseudoSelectors;
+        private final List mappedSelectors;
+        private final Map children = newMap();
 
         Mapper(java.util.Collection selectors) {
             axes = new java.util.ArrayList(selectors.size());
             axes.addAll(selectors);
+            
+            descendantAxes = new ArrayList(axes.size());
+            for (int i = 0, size = axes.size(); i < size; i++) {
+                Selector sel = (Selector) axes.get(i);
+                if (sel.getAxis() == Selector.DESCENDANT_AXIS) {
+                    descendantAxes.add(sel);
+                }
+            }
+            descendantBuckets = new SelectorBuckets(descendantAxes);
+            
+            extraAxes = null;
+            extraPositions = null;
+            pseudoSelectors = null;
+            mappedSelectors = null;
         }
 
-        private Mapper() {
+        private Mapper(
+                Mapper parent, List extraAxes, int[] extraPositions,
+                HashMap pseudoSelectors, List mappedSelectors) {
+            this.axes = null;
+            this.descendantAxes = parent.descendantAxes;
+            this.descendantBuckets = parent.descendantBuckets;
+            this.extraAxes = extraAxes;
+            this.extraPositions = extraPositions;
+            this.pseudoSelectors = pseudoSelectors;
+            this.mappedSelectors = mappedSelectors;
         }
 
         /**
@@ -341,100 +437,159 @@ public class Matcher {
          */
         Mapper mapChild(Object e) {
             //Mapper childMapper = new Mapper();
-            java.util.List childAxes = new ArrayList(axes.size() + 10);
+            java.util.List childExtraAxes = new ArrayList();
+            IntList childExtraPositions = new IntList();
             java.util.HashMap pseudoSelectors = new java.util.HashMap();
             java.util.List mappedSelectors = new java.util.LinkedList();
             StringBuffer key = new StringBuffer();
-            for (int i = 0, size = axes.size(); i < size; i++) {
-                Selector sel = (Selector) axes.get(i);
-                if (sel.getAxis() == Selector.DESCENDANT_AXIS) {
-                    //carry it forward to other descendants
-                    childAxes.add(sel);
-                } else if (sel.getAxis() == Selector.IMMEDIATE_SIBLING_AXIS) {
-                    throw new RuntimeException();
-                }
-                if (!sel.matches(e, _attRes, _treeRes)) {
-                    continue;
-                }
-                //Assumption: if it is a pseudo-element, it does not also have dynamic pseudo-class
-                String pseudoElement = sel.getPseudoElement();
-                if (pseudoElement != null) {
-                    java.util.List l = (java.util.List) pseudoSelectors.get(pseudoElement);
-                    if (l == null) {
-                        l = new java.util.LinkedList();
-                        pseudoSelectors.put(pseudoElement, l);
+            if (axes != null) {
+                int position = -1;
+                for (int i = 0, size = axes.size(); i < size; i++) {
+                    Selector sel = (Selector) axes.get(i);
+                    if (sel.getAxis() == Selector.DESCENDANT_AXIS) {
+                        //carry it forward to other descendants (as part of descendantAxes)
+                        position++;
+                    } else if (sel.getAxis() == Selector.IMMEDIATE_SIBLING_AXIS) {
+                        throw new RuntimeException();
+                    }
+                    Selector chain = matchSelector(e, sel, pseudoSelectors, mappedSelectors, key);
+                    if (chain != null) {
+                        childExtraAxes.add(chain);
+                        childExtraPositions.add(position);
                     }
-                    l.add(sel);
-                    key.append(sel.getSelectorID()).append(":");
-                    continue;
-                }
-                if (sel.isPseudoClass(Selector.VISITED_PSEUDOCLASS)) {
-                    _visitElements.add(e);
-                }
-                if (sel.isPseudoClass(Selector.ACTIVE_PSEUDOCLASS)) {
-                    _activeElements.add(e);
-                }
-                if (sel.isPseudoClass(Selector.HOVER_PSEUDOCLASS)) {
-                    _hoverElements.add(e);
-                }
-                if (sel.isPseudoClass(Selector.FOCUS_PSEUDOCLASS)) {
-                    _focusElements.add(e);
-                }
-                if (!sel.matchesDynamic(e, _attRes, _treeRes)) {
-                    continue;
                 }
-                key.append(sel.getSelectorID()).append(":");
-                Selector chain = sel.getChainedSelector();
-                if (chain == null) {
-                    mappedSelectors.add(sel);
-                } else if (chain.getAxis() == Selector.IMMEDIATE_SIBLING_AXIS) {
-                    throw new RuntimeException();
-                } else {
-                    childAxes.add(chain);
+            } else {
+                //only the descendant selectors in the buckets for e can match,
+                //but they are tried in the same order as the extra axes
+                int[] candidates = descendantBuckets.getCandidates(e, _attRes, _treeRes);
+                int c = 0;
+                int x = 0;
+                int extraCount = extraAxes.size();
+                while (c < candidates.length || x < extraCount) {
+                    if (x == extraCount || 
+                            (c < candidates.length && candidates[c] <= extraPositions[x])) {
+                        Selector sel = (Selector) descendantAxes.get(candidates[c]);
+                        Selector chain = matchSelector(e, sel, pseudoSelectors, mappedSelectors, key);
+                        if (chain != null) {
+                            childExtraAxes.add(chain);
+                            childExtraPositions.add(candidates[c]);
+                        }
+                        c++;
+                    } else {
+                        Selector sel = (Selector) extraAxes.get(x);
+                        int position = extraPositions[x];
+                        if (sel.getAxis() == Selector.DESCENDANT_AXIS) {
+                            //carry it forward to other descendants
+                            childExtraAxes.add(sel);
+                            childExtraPositions.add(position);
+                        } else if (sel.getAxis() == Selector.IMMEDIATE_SIBLING_AXIS) {
+                            throw new RuntimeException();
+                        }
+                        Selector chain = matchSelector(e, sel, pseudoSelectors, mappedSelectors, key);
+                        if (chain != null) {
+                            childExtraAxes.add(chain);
+                            childExtraPositions.add(position);
+                        }
+                        x++;
+                    }
                 }
             }
-            if (children == null) children = new HashMap();
-            Mapper childMapper = (Mapper) children.get(key.toString());
+            String childKey = key.toString();
+            Mapper childMapper = (Mapper) children.get(childKey);
             if (childMapper == null) {
-                childMapper = new Mapper();
-                childMapper.axes = childAxes;
-                childMapper.pseudoSelectors = pseudoSelectors;
-                childMapper.mappedSelectors = mappedSelectors;
-                children.put(key.toString(), childMapper);
+                childMapper = new Mapper(
+                        this, childExtraAxes, childExtraPositions.toArray(),
+                        pseudoSelectors, mappedSelectors);
+                if (_concurrent) {
+                    Mapper existing = (Mapper)
+                        ((ConcurrentHashMap)children).putIfAbsent(childKey, childMapper);
+                    if (existing != null) {
+                        childMapper = existing;
+                    }
+                } else {
+                    children.put(childKey, childMapper);
+                }
             }
             link(e, childMapper);
             return childMapper;
         }
 
-        CascadedStyle getCascadedStyle(Object e) {
-            CascadedStyle result;
-            synchronized (e) {
-                CascadedStyle cs = null;
-                org.xhtmlrenderer.css.sheet.Ruleset elementStyling = getElementStyle(e);
-                org.xhtmlrenderer.css.sheet.Ruleset nonCssStyling = getNonCssStyle(e);
-                List propList = new LinkedList();
-                //specificity 0,0,0,0
-                if (nonCssStyling != null) {
-                    propList.addAll(nonCssStyling.getPropertyDeclarations());
-                }
-                //these should have been returned in order of specificity
-                for (Iterator i = getMatchedRulesets(mappedSelectors); i.hasNext();) {
-                    org.xhtmlrenderer.css.sheet.Ruleset rs = (org.xhtmlrenderer.css.sheet.Ruleset) i.next();
-                    propList.addAll(rs.getPropertyDeclarations());
-                }
-                //specificity 1,0,0,0
-                if (elementStyling != null) {
-                    propList.addAll(elementStyling.getPropertyDeclarations());
-                }
-                if (propList.size() == 0)
-                    cs = CascadedStyle.emptyCascadedStyle;
-                else {
-                    cs = new CascadedStyle(propList.iterator());
+        /**
+         * Matches <code>sel</code> against <code>e</code> recording the 
+         * result.
+         * 
+         * @return The chained selector of <code>sel</code> if it must be 
+         * carried forward to the children of <code>e</code>
+         */
+        private Selector matchSelector(
+                Object e, Selector sel, HashMap pseudoSelectors, 
+                List mappedSelectors, StringBuffer key) {
+            if (!sel.matches(e, _attRes, _treeRes)) {
+                return null;
+            }
+            //Assumption: if it is a pseudo-element, it does not also have dynamic pseudo-class
+            String pseudoElement = sel.getPseudoElement();
+            if (pseudoElement != null) {
+                java.util.List l = (java.util.List) pseudoSelectors.get(pseudoElement);
+                if (l == null) {
+                    l = new java.util.LinkedList();
+                    pseudoSelectors.put(pseudoElement, l);
                 }
+                l.add(sel);
+                key.append(sel.getSelectorID()).append(":");
+                return null;
+            }
+            if (sel.isPseudoClass(Selector.VISITED_PSEUDOCLASS)) {
+                _visitElements.put(e, Boolean.TRUE);
+            }
+            if (sel.isPseudoClass(Selector.ACTIVE_PSEUDOCLASS)) {
+                _activeElements.put(e, Boolean.TRUE);
+            }
+            if (sel.isPseudoClass(Selector.HOVER_PSEUDOCLASS)) {
+                _hoverElements.put(e, Boolean.TRUE);
+            }
+            if (sel.isPseudoClass(Selector.FOCUS_PSEUDOCLASS)) {
+                _focusElements.put(e, Boolean.TRUE);
+            }
+            if (!sel.matchesDynamic(e, _attRes, _treeRes)) {
+                return null;
+            }
+            key.append(sel.getSelectorID()).append(":");
+            Selector chain = sel.getChainedSelector();
+            if (chain == null) {
+                mappedSelectors.add(sel);
+                return null;
+            } else if (chain.getAxis() == Selector.IMMEDIATE_SIBLING_AXIS) {
+                throw new RuntimeException();
+            } else {
+                return chain;
+            }
+        }
 
-                result = cs;
+        CascadedStyle getCascadedStyle(Object e) {
+            CascadedStyle cs = null;
+            org.xhtmlrenderer.css.sheet.Ruleset elementStyling = getElementStyle(e);
+            org.xhtmlrenderer.css.sheet.Ruleset nonCssStyling = getNonCssStyle(e);
+            List propList = new ArrayList();
+            //specificity 0,0,0,0
+            if (nonCssStyling != null) {
+                propList.addAll(nonCssStyling.getPropertyDeclarations());
             }
-            return result;
+            //these should have been returned in order of specificity
+            for (Iterator i = getMatchedRulesets(mappedSelectors); i.hasNext();) {
+                org.xhtmlrenderer.css.sheet.Ruleset rs = (org.xhtmlrenderer.css.sheet.Ruleset) i.next();
+                propList.addAll(rs.getPropertyDeclarations());
+            }
+            //specificity 1,0,0,0
+            if (elementStyling != null) {
+                propList.addAll(elementStyling.getPropertyDeclarations());
+            }
+            if (propList.size() == 0)
+                cs = CascadedStyle.emptyCascadedStyle;
+            else {
+                cs = new CascadedStyle(propList);
+            }
+            return cs;
         }
 
         /**
@@ -450,7 +605,7 @@ public class Matcher {
             java.util.List pe = (java.util.List) pseudoSelectors.get(pseudoElement);
             if (pe == null) return null;
 
-            java.util.List propList = new java.util.LinkedList();
+            java.util.List propList = new java.util.ArrayList();
             for (java.util.Iterator i = getSelectedRulesets(pe); i.hasNext();) {
                 org.xhtmlrenderer.css.sheet.Ruleset rs = (org.xhtmlrenderer.css.sheet.Ruleset) i.next();
                 propList.addAll(rs.getPropertyDeclarations());
@@ -458,7 +613,7 @@ public class Matcher {
             if (propList.size() == 0)
                 cs = CascadedStyle.emptyCascadedStyle;//already internalized
             else {
-                cs = new CascadedStyle(propList.iterator());
+                cs = new CascadedStyle(propList);
             }
             return cs;
         }
@@ -52,6 +52,10 @@ public class Selector {
     private int _pos;//to distinguish between selectors of same specificity
 
     private java.util.List conditions;
+    
+    //the first ID and class conditions, used to pick the bucket for the selector
+    private String _hashID;
+    private String _hashClass;
 
     public final static int DESCENDANT_AXIS = 0;
     public final static int CHILD_AXIS = 1;
@@ -69,7 +73,12 @@ public class Selector {
     private static int selectorCount = 0;
 
     public Selector() {
-        selectorID = selectorCount++;
+        selectorID = nextSelectorID();
+    }
+    
+    // Stylesheets may be parsed on several threads at once
+    private static synchronized int nextSelectorID() {
+        return selectorCount++;
     }
 
     /**
@@ -174,6 +183,9 @@ public class Selector {
      */
     public void addIDCondition(String id) {
         _specificityB++;
+        if (_hashID == null) {
+            _hashID = id;
+        }
         addCondition(Condition.createIDCondition(id));
     }
 
@@ -182,6 +194,9 @@ public class Selector {
      */
     public void addClassCondition(String className) {
         _specificityC++;
+        if (_hashClass == null) {
+            _hashClass = className;
+        }
         addCondition(Condition.createClassCondition(className));
     }
 
@@ -356,10 +371,22 @@ public class Selector {
         if (chainedSelector != null) {
             return chainedSelector.getOrder();
         }//only "deepest" value is correct
+        return getOrder(_pos);
+    }
+    
+    /**
+     * Like {@link #getOrder()}, but with the given position instead of the
+     * one set with {@link #setPos(int)}.  Doesn't modify the selector so it
+     * may be used when the stylesheet is shared between documents.
+     */
+    String getOrder(int pos) {
+        if (chainedSelector != null) {
+            return chainedSelector.getOrder(pos);
+        }//only "deepest" value is correct
         String b = "000" + getSpecificityB();
         String c = "000" + getSpecificityC();
         String d = "000" + getSpecificityD();
-        String p = "00000" + _pos;
+        String p = "00000" + pos;
         return "0" + b.substring(b.length() - 3) + c.substring(c.length() - 3) + d.substring(d.length() - 3) + p.substring(p.length() - 5);
     }
 
@@ -411,6 +438,31 @@ public class Selector {
         return selectorID;
     }
     
+    /**
+     * Returns the element name this selector requires (not including any
+     * chained or sibling selectors) or <code>null</code> if it applies to
+     * any element.
+     */
+    String getName() {
+        return _name;
+    }
+    
+    /**
+     * Returns an ID an element must have to match this selector or
+     * <code>null</code> if there is no ID condition.
+     */
+    String getHashID() {
+        return _hashID;
+    }
+    
+    /**
+     * Returns a class an element must have to match this selector or
+     * <code>null</code> if there is no class condition.
+     */
+    String getHashClass() {
+        return _hashClass;
+    }
+    
     public void setName(String name) {
         _name = name;
         _specificityD++;
@@ -0,0 +1,174 @@
+/*
+ * {{{ header & license
+ * Copyright (c) 2009 Wisconsin Court System
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * as published by the Free Software Foundation; either version 2.1
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ * }}}
+ */
+package org.xhtmlrenderer.css.newmatch;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.xhtmlrenderer.css.extend.AttributeResolver;
+import org.xhtmlrenderer.css.extend.TreeResolver;
+
+/**
+ * An index of a list of selectors by the ID, class or element name an element
+ * must have to match them (similar to the "rule hash" used by browsers).
+ * Each selector is put in exactly one bucket: the ID bucket if it has an ID
+ * condition, otherwise the class bucket if it has a class condition,
+ * otherwise the element name bucket if it names an element, otherwise the
+ * universal bucket.  An element then only needs to be matched against the
+ * selectors in the buckets for its ID, its classes, its name and the
+ * universal bucket.
+ * <p>
+ * Selectors are identified by their index in the list so callers can process
+ * the candidates in the original (cascade) order.
+ */
+class SelectorBuckets {
+    private final Map _byID;
+    private final Map _byClass;
+    private final Map _byName;
+    private final int[] _universal;
+
+    SelectorBuckets(List selectors) {
+        Map byID = new HashMap();
+        Map byClass = new HashMap();
+        Map byName = new HashMap();
+        IntList universal = new IntList();
+
+        for (int i = 0, size = selectors.size(); i < size; i++) {
+            Selector sel = (Selector)selectors.get(i);
+            if (sel.getHashID() != null) {
+                add(byID, sel.getHashID(), i);
+            } else if (sel.getHashClass() != null) {
+                add(byClass, sel.getHashClass(), i);
+            } else if (sel.getName() != null) {
+                add(byName, sel.getName(), i);
+            } else {
+                universal.add(i);
+            }
+        }
+
+        _byID = toArrays(byID);
+        _byClass = toArrays(byClass);
+        _byName = toArrays(byName);
+        _universal = universal.toArray();
+    }
+
+    private static void add(Map buckets, String key, int index) {
+        IntList l = (IntList)buckets.get(key);
+        if (l == null) {
+            l = new IntList();
+            buckets.put(key, l);
+        }
+        l.add(index);
+    }
+
+    private static Map toArrays(Map buckets) {
+        Map result = new HashMap(buckets.size() * 2);
+        for (Iterator i = buckets.entrySet().iterator(); i.hasNext(); ) {
+            Map.Entry entry = (Map.Entry)i.next();
+            result.put(entry.getKey(), ((IntList)entry.getValue()).toArray());
+        }
+        return result;
+    }
+
+    /**
+     * Returns the (ascending) indexes of the selectors which may match
+     * <code>e</code>.  Any selector not returned definitely doesn't match.
+     */
+    int[] getCandidates(Object e, AttributeResolver attRes, TreeResolver treeRes) {
+        int[] byName = get(_byName, treeRes.getElementName(e));
+
+        int[] byID = IntList.EMPTY;
+        String[] classes = null;
+        if (attRes != null) {
+            byID = get(_byID, attRes.getID(e));
+
+            if (_byClass.size() > 0) {
+                String c = attRes.getClass(e);
+                if (c != null) {
+                    classes = Condition.split(c, ' ');
+                }
+            }
+        }
+
+        if (classes == null) {
+            if (byID.length == 0 && byName.length == 0) {
+                return _universal;
+            } else if (byID.length == 0 && _universal.length == 0) {
+                return byName;
+            }
+        }
+
+        int count = _universal.length + byName.length + byID.length;
+        int[][] byClass = null;
+        if (classes != null) {
+            byClass = new int[classes.length][];
+            for (int i = 0; i < classes.length; i++) {
+                byClass[i] = get(_byClass, classes[i]);
+                count += byClass[i].length;
+            }
+        }
+
+        int[] result = new int[count];
+        int pos = 0;
+        pos = append(result, pos, _universal);
+        pos = append(result, pos, byName);
+        pos = append(result, pos, byID);
+        if (byClass != null) {
+            for (int i = 0; i < byClass.length; i++) {
+                pos = append(result, pos, byClass[i]);
+            }
+        }
+
+        Arrays.sort(result);
+
+        if (classes != null && classes.length > 1) {
+            // The same class may be listed more than once
+            int last = 0;
+            for (int i = 1; i < result.length; i++) {
+                if (result[i] != result[last]) {
+                    result[++last] = result[i];
+                }
+            }
+            if (last + 1 < result.length) {
+                int[] trimmed = new int[last + 1];
+                System.arraycopy(result, 0, trimmed, 0, last + 1);
+                result = trimmed;
+            }
+        }
+
+        return result;
+    }
+
+    private static int[] get(Map buckets, String key) {
+        if (key == null) {
+            return IntList.EMPTY;
+        }
+        int[] result = (int[])buckets.get(key);
+        return result == null ? IntList.EMPTY : result;
+    }
+
+    private static int append(int[] target, int pos, int[] source) {
+        System.arraycopy(source, 0, target, pos, source.length);
+        return pos + source.length;
+    }
+}
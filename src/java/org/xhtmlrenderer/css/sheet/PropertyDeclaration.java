@@ -73,6 +73,7 @@ public class PropertyDeclaration {
     private boolean identIsSet;
     
     private String _fingerprint;
+    private long _fingerprintHash;
 
     /**
      * ImportanceAndOrigin of stylesheet - how many different
@@ -160,6 +161,24 @@ public class PropertyDeclaration {
         }
         return _fingerprint;
     }
+    
+    /**
+     * Returns a 64-bit hash of {@link #getFingerprint()}
+     */
+    public long getFingerprintHash() {
+        long result = _fingerprintHash;
+        if (result == 0) {
+            // FNV-1a
+            String fingerprint = getFingerprint();
+            result = 0xcbf29ce484222325L;
+            for (int i = 0; i < fingerprint.length(); i++) {
+                result ^= fingerprint.charAt(i);
+                result *= 0x100000001b3L;
+            }
+            _fingerprintHash = result;
+        }
+        return result;
+    }
 
     /**
      * Returns an int representing the combined origin and importance of the
@@ -24,6 +24,8 @@ import java.awt.Cursor;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.logging.Level;
 
 import org.xhtmlrenderer.css.constants.CSSName;
@@ -72,15 +74,17 @@ public class CalculatedStyle {
      */
     private CalculatedStyle _parent;
 
-    private BorderPropertySet _border;
-    private RectPropertySet _margin;
-    private RectPropertySet _padding;
+    // Styles may be shared between threads so the values computed lazily
+    // are volatile and only published when finished
+    private volatile BorderPropertySet _border;
+    private volatile RectPropertySet _margin;
+    private volatile RectPropertySet _padding;
 
     private float _lineHeight;
-    private boolean _lineHeightResolved;
+    private volatile boolean _lineHeightResolved;
 
-    private FSFont _FSFont;
-    private FSFontMetrics _FSFontMetrics;
+    private volatile FSFont _FSFont;
+    private volatile FSFontMetrics _FSFontMetrics;
 
     private boolean _marginsAllowed = true;
     private boolean _paddingAllowed = true;
@@ -89,25 +93,24 @@ public class CalculatedStyle {
     /**
      * Cache child styles of this style that have the same cascaded properties
      */
-    private java.util.HashMap _childCache = new java.util.HashMap();
-    /*private java.util.HashMap _childCache = new java.util.LinkedHashMap(5, 0.75f, true) {
-        private static final int MAX_ENTRIES = 10;
-
-        protected boolean removeEldestEntry(Map.Entry eldest) {
-            return size() > MAX_ENTRIES;
-        }
-    };*/
+    private final ConcurrentHashMap _childCache = new ConcurrentHashMap(4);
+    
+    /**
+     * The store this style belongs to (if any)
+     */
+    private final CalculatedStyleCache.Generation _generation;
 
     /**
      * Our main array of property values defined in this style, keyed
-     * by the CSSName assigned ID.
+     * by the CSSName assigned ID.  Inherited and initial values are filled
+     * in lazily.
      */
-    private FSDerivedValue[] _derivedValuesById;
+    private final AtomicReferenceArray _derivedValuesById;
 
     /**
      * The derived Font for this style
      */
-    private FontSpecification _font;
+    private volatile FontSpecification _font;
 
 
     /**
@@ -115,7 +118,12 @@ public class CalculatedStyle {
      * this for class instantiation externally.
      */
     protected CalculatedStyle() {
-        _derivedValuesById = new FSDerivedValue[CSSName.countCSSPrimitiveNames()];
+        this((CalculatedStyleCache.Generation)null);
+    }
+    
+    CalculatedStyle(CalculatedStyleCache.Generation generation) {
+        _derivedValuesById = new AtomicReferenceArray(CSSName.countCSSPrimitiveNames());
+        _generation = generation;
     }
 
 
@@ -127,7 +135,7 @@ public class CalculatedStyle {
      * @param matched PARAM
      */
     private CalculatedStyle(CalculatedStyle parent, CascadedStyle matched) {
-        this();
+        this(parent._generation);
         _parent = parent;
 
         derive(matched);
@@ -172,21 +180,35 @@ public class CalculatedStyle {
      * @param matched the CascadedStyle to apply
      * @return The derived child style
      */
-    public synchronized CalculatedStyle deriveStyle(CascadedStyle matched) {
-        String fingerprint = matched.getFingerprint();
-        CalculatedStyle cs = (CalculatedStyle) _childCache.get(fingerprint);
+    public CalculatedStyle deriveStyle(CascadedStyle matched) {
+        // Cascaded styles with the same declarations are equal
+        CalculatedStyle cs = (CalculatedStyle) _childCache.get(matched);
 
-        if (cs == null) {
-            cs = new CalculatedStyle(this, matched);
-            _childCache.put(fingerprint, cs);
+        if (cs != null) {
+            if (_generation != null) {
+                _generation.hit();
+            }
+            return cs;
+        }
+        
+        cs = new CalculatedStyle(this, matched);
+        if (_generation != null) {
+            _generation.add();
+        }
+        CalculatedStyle existing = (CalculatedStyle) _childCache.putIfAbsent(matched, cs);
+        if (existing != null) {
+            if (_generation != null) {
+                _generation.remove();
+            }
+            cs = existing;
         }
         return cs;
     }
 
     public int countAssigned() {
         int c = 0;
-        for (int i = 0; i < _derivedValuesById.length; i++) {
-            if (_derivedValuesById[i] != null) c++;
+        for (int i = 0; i < _derivedValuesById.length(); i++) {
+            if (_derivedValuesById.get(i) != null) c++;
         }
         return c;
     }
@@ -330,33 +352,36 @@ public class CalculatedStyle {
     }
 
     public FontSpecification getFont(CssContext ctx) {
-        if (_font == null) {
-            _font = new FontSpecification();
+        FontSpecification font = _font;
+        if (font == null) {
+            font = new FontSpecification();
 
-            _font.families = valueByName(CSSName.FONT_FAMILY).asStringArray();
+            font.families = valueByName(CSSName.FONT_FAMILY).asStringArray();
 
             FSDerivedValue fontSize = valueByName(CSSName.FONT_SIZE);
             if (fontSize instanceof IdentValue) {
                 PropertyValue replacement;
                 IdentValue resolved = resolveAbsoluteFontSize();
                 if (resolved != null) {
-                    replacement = FontSizeHelper.resolveAbsoluteFontSize(resolved, _font.families);
+                    replacement = FontSizeHelper.resolveAbsoluteFontSize(resolved, font.families);
                 } else {
                     replacement = FontSizeHelper.getDefaultRelativeFontSize((IdentValue) fontSize);
                 }
-                _font.size = LengthValue.calcFloatProportionalValue(
+                font.size = LengthValue.calcFloatProportionalValue(
                         this, CSSName.FONT_SIZE, replacement.getCssText(),
                         replacement.getFloatValue(), replacement.getPrimitiveType(), 0, ctx);
             } else {
-                _font.size = getFloatPropertyProportionalTo(CSSName.FONT_SIZE, 0, ctx);
+                font.size = getFloatPropertyProportionalTo(CSSName.FONT_SIZE, 0, ctx);
             }
 
-            _font.fontWeight = getIdent(CSSName.FONT_WEIGHT);
+            font.fontWeight = getIdent(CSSName.FONT_WEIGHT);
 
-            _font.fontStyle = getIdent(CSSName.FONT_STYLE);
-            _font.variant = getIdent(CSSName.FONT_VARIANT);
+            font.fontStyle = getIdent(CSSName.FONT_STYLE);
+            font.variant = getIdent(CSSName.FONT_VARIANT);
+            
+            _font = font;
         }
-        return _font;
+        return font;
     }
 
     private IdentValue resolveAbsoluteFontSize() {
@@ -498,7 +523,7 @@ public class CalculatedStyle {
      * @return See desc.
      */
     public FSDerivedValue valueByName(CSSName cssName) {
-        FSDerivedValue val = _derivedValuesById[cssName.FS_ID];
+        FSDerivedValue val = (FSDerivedValue)_derivedValuesById.get(cssName.FS_ID);
 
         boolean needInitialValue = val == IdentValue.FS_INITIAL_VALUE;
 
@@ -525,7 +550,7 @@ public class CalculatedStyle {
                     val = CSSName.initialDerivedValue(cssName);
                 }
             }
-            _derivedValuesById[cssName.FS_ID] = val;
+            _derivedValuesById.set(cssName.FS_ID, val);
         }
         return val;
     }
@@ -559,7 +584,7 @@ public class CalculatedStyle {
         while (mProps.hasNext()) {
             PropertyDeclaration pd = (PropertyDeclaration) mProps.next();
             FSDerivedValue val = deriveValue(pd.getCSSName(), pd.getValue());
-            _derivedValuesById[pd.getCSSName().FS_ID] = val;
+            _derivedValuesById.set(pd.getCSSName().FS_ID, val);
         }
     }
 
@@ -569,9 +594,9 @@ public class CalculatedStyle {
 
     private String genStyleKey() {
         StringBuffer sb = new StringBuffer();
-        for (int i = 0; i < _derivedValuesById.length; i++) {
+        for (int i = 0; i < _derivedValuesById.length(); i++) {
             CSSName name = CSSName.getByID(i);
-            FSDerivedValue val = _derivedValuesById[i];
+            FSDerivedValue val = (FSDerivedValue)_derivedValuesById.get(i);
             if (val != null) {
                 sb.append(name.toString());
             } else {
@@ -608,7 +633,8 @@ public class CalculatedStyle {
         if (! useCache) {
             return newRectInstance(style, shorthandProp, sides, cbWidth, ctx);
         } else {
-            if (style._padding == null) {
+            RectPropertySet padding = style._padding;
+            if (padding == null) {
                 RectPropertySet result = newRectInstance(style, shorthandProp, sides, cbWidth, ctx);
                 boolean allZeros = result.isAllZeros();
                 
@@ -616,14 +642,16 @@ public class CalculatedStyle {
                     result = RectPropertySet.ALL_ZEROS;
                 }
                 
-                style._padding = result;
-                
-                if (! allZeros && style._padding.hasNegativeValues()) {
-                    style._padding.resetNegativeValues();
+                if (! allZeros && result.hasNegativeValues()) {
+                    result.resetNegativeValues();
                 }
+                
+                // Only publish the finished value
+                style._padding = result;
+                padding = result;
             }
 
-            return style._padding;
+            return padding;
         }
     }
 
@@ -636,15 +664,17 @@ public class CalculatedStyle {
         if (! useCache) {
             return newRectInstance(style, shorthandProp, sides, cbWidth, ctx);
         } else {
-            if (style._margin == null) {
+            RectPropertySet margin = style._margin;
+            if (margin == null) {
                 RectPropertySet result = newRectInstance(style, shorthandProp, sides, cbWidth, ctx);
                 if (result.isAllZeros()) {
                     result = RectPropertySet.ALL_ZEROS;
                 }
                 style._margin = result;
+                margin = result;
             }
 
-            return style._margin;
+            return margin;
         }
     }
     
@@ -664,7 +694,8 @@ public class CalculatedStyle {
 
     private static BorderPropertySet getBorderProperty(CalculatedStyle style,
                                                        CssContext ctx) {
-        if (style._border == null) {
+        BorderPropertySet border = style._border;
+        if (border == null) {
             BorderPropertySet result = BorderPropertySet.newInstance(style, ctx);
             
             boolean allZeros = result.isAllZeros();
@@ -672,13 +703,14 @@ public class CalculatedStyle {
                 result = BorderPropertySet.EMPTY_BORDER;
             }
             
-            style._border = result;
-            
-            if (! allZeros && style._border.hasNegativeValues()) {
-                style._border.resetNegativeValues();
+            if (! allZeros && result.hasNegativeValues()) {
+                result.resetNegativeValues();
             }
+            
+            style._border = result;
+            border = result;
         }
-        return style._border;
+        return border;
     }
 
     public static final int LEFT = 1;
@@ -712,17 +744,21 @@ public class CalculatedStyle {
     }
 
     public FSFont getFSFont(CssContext cssContext) {
-        if (_FSFont == null) {
-            _FSFont = cssContext.getFont(getFont(cssContext));
+        FSFont font = _FSFont;
+        if (font == null) {
+            font = cssContext.getFont(getFont(cssContext));
+            _FSFont = font;
         }
-        return _FSFont;
+        return font;
     }
 
     public FSFontMetrics getFSFontMetrics(CssContext c) {
-        if (_FSFontMetrics == null) {
-            _FSFontMetrics = c.getFSFontMetrics(getFSFont(c));
+        FSFontMetrics metrics = _FSFontMetrics;
+        if (metrics == null) {
+            metrics = c.getFSFontMetrics(getFSFont(c));
+            _FSFontMetrics = metrics;
         }
-        return _FSFontMetrics;
+        return metrics;
     }
 
     public IdentValue getWordWrap() {
@@ -0,0 +1,242 @@
+/*
+ * {{{ header & license
+ * Copyright (c) 2009 Wisconsin Court System
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * as published by the Free Software Foundation; either version 2.1
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ * }}}
+ */
+package org.xhtmlrenderer.css.style;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.xhtmlrenderer.css.constants.CSSName;
+import org.xhtmlrenderer.extend.FontResolver;
+import org.xhtmlrenderer.util.Configuration;
+
+/**
+ * A store of {@link CalculatedStyle}s.  Each style is interned by its parent
+ * (by identity) and its {@link org.xhtmlrenderer.css.newmatch.CascadedStyle}
+ * (by its declarations), so elements with the same parent style and the
+ * same cascaded declarations share one calculated style.
+ * <p>
+ * Lookups don't lock.  The store is bounded by an estimate of the memory
+ * used by its styles.  Once the limit is reached the whole tree is evicted:
+ * the next document to ask for a {@link #getRootStyle(FontResolver, float, int) root style}
+ * gets a new, empty, tree.  Documents which are already using the evicted
+ * tree keep adding their styles to it (as a document always kept its own
+ * styles) and it is dropped once they are done.
+ * <p>
+ * A store can be kept across documents (see
+ * {@link org.xhtmlrenderer.layout.SharedContext#setStyleCache(CalculatedStyleCache)}).
+ * Calculated styles cache fonts and lengths so there is a separate tree for
+ * each font resolver and resolution.  Since fonts are cached by family name,
+ * documents which define the same family differently with
+ * <code>@font-face</code> shouldn't share a store.
+ */
+public class CalculatedStyleCache {
+    private static CalculatedStyleCache _sharedInstance;
+
+    private final long _maxMemory;
+    private final int _estimatedStyleSize;
+
+    private volatile Generation _generation = new Generation();
+
+    private final AtomicLong _hits = new AtomicLong();
+    private final AtomicLong _misses = new AtomicLong();
+    private final AtomicLong _clears = new AtomicLong();
+
+    /**
+     * @param maxMemory The (estimated) number of bytes the styles may use
+     */
+    public CalculatedStyleCache(long maxMemory) {
+        _maxMemory = maxMemory;
+        // The object, its array of derived values and its entry in the
+        // parent's map.  The derived values themselves are mostly shared.
+        _estimatedStyleSize = 160 + 4 * CSSName.countCSSPrimitiveNames();
+    }
+
+    /**
+     * Creates a store with the size configured with the
+     * <code>xr.cache.calculated-styles.max-kb</code> property.
+     */
+    public static CalculatedStyleCache newInstance() {
+        return new CalculatedStyleCache(
+                Configuration.valueAsInt("xr.cache.calculated-styles.max-kb", 8192) * 1024L);
+    }
+
+    /**
+     * Returns the process-wide store.
+     */
+    public static synchronized CalculatedStyleCache getSharedInstance() {
+        if (_sharedInstance == null) {
+            _sharedInstance = newInstance();
+        }
+        return _sharedInstance;
+    }
+
+    /**
+     * Returns the style documents laid out with <code>fontResolver</code> at
+     * the given resolution should derive the style of their root element
+     * from.
+     */
+    public CalculatedStyle getRootStyle(FontResolver fontResolver, float mmPerDot, int dotsPerPixel) {
+        Generation generation = _generation;
+        if (generation.isFull()) {
+            clear();
+            generation = _generation;
+        }
+        return generation.getRootStyle(fontResolver, mmPerDot + "/" + dotsPerPixel);
+    }
+
+    /**
+     * Drops all styles.  Documents which are already using styles from this
+     * store aren't affected.
+     */
+    public void clear() {
+        _generation = new Generation();
+        _clears.incrementAndGet();
+    }
+
+    /**
+     * Drops the styles documents laid out with <code>fontResolver</code> 
+     * derive from (e.g. because the fonts it resolved have changed).  Styles
+     * derived with other font resolvers are kept.  The dropped styles are
+     * still counted towards the size of the store until it is next cleared.
+     */
+    public void clear(FontResolver fontResolver) {
+        _generation.removeRootStyles(fontResolver);
+    }
+
+    /**
+     * Returns the number of styles in the store
+     */
+    public int getSize() {
+        return _generation.getSize();
+    }
+
+    /**
+     * Returns the estimated number of bytes used by the styles in the store
+     */
+    public long getEstimatedMemory() {
+        return (long)getSize() * _estimatedStyleSize;
+    }
+
+    public long getMaxMemory() {
+        return _maxMemory;
+    }
+
+    public long getHitCount() {
+        return _hits.get();
+    }
+
+    public long getMissCount() {
+        return _misses.get();
+    }
+
+    /**
+     * Returns the fraction of lookups which found an existing style
+     */
+    public double getHitRate() {
+        long hits = getHitCount();
+        long total = hits + getMissCount();
+        return total == 0 ? 0.0 : (double)hits / total;
+    }
+
+    /**
+     * Returns how often the store was cleared
+     */
+    public long getClearCount() {
+        return _clears.get();
+    }
+
+    public void resetStatistics() {
+        _hits.set(0);
+        _misses.set(0);
+        _clears.set(0);
+    }
+
+    public String toString() {
+        return "CalculatedStyleCache[size=" + getSize() +
+            ", memory=" + (getEstimatedMemory() / 1024) + "KB/" + (getMaxMemory() / 1024) + "KB" +
+            ", hits=" + getHitCount() + ", misses=" + getMissCount() +
+            ", clears=" + getClearCount() + "]";
+    }
+
+    /**
+     * The styles added since the store was last cleared.  Styles remember
+     * their generation so styles created by documents which started before a
+     * clear are accounted for (and bounded) separately.
+     */
+    class Generation {
+        private final AtomicInteger _size = new AtomicInteger();
+        private volatile boolean _full;
+
+        // Font resolvers are held weakly so renderers can be discarded
+        private final Map _roots = new WeakHashMap();
+
+        synchronized CalculatedStyle getRootStyle(FontResolver fontResolver, String resolution) {
+            Map roots = (Map)_roots.get(fontResolver);
+            if (roots == null) {
+                roots = new HashMap();
+                _roots.put(fontResolver, roots);
+            }
+            CalculatedStyle result = (CalculatedStyle)roots.get(resolution);
+            if (result == null) {
+                result = new EmptyStyle(this);
+                roots.put(resolution, result);
+            }
+            return result;
+        }
+
+        synchronized void removeRootStyles(FontResolver fontResolver) {
+            _roots.remove(fontResolver);
+        }
+
+        void hit() {
+            _hits.incrementAndGet();
+        }
+
+        /**
+         * Records a new style.  Once the generation uses up the store's 
+         * budget it is marked full, which evicts it from the store the next
+         * time a root style is asked for.
+         */
+        void add() {
+            _misses.incrementAndGet();
+            if ((long)_size.incrementAndGet() * _estimatedStyleSize > _maxMemory) {
+                _full = true;
+            }
+        }
+
+        /**
+         * Undoes {@link #add()} if another thread added an equal style first.
+         */
+        void remove() {
+            _size.decrementAndGet();
+        }
+
+        boolean isFull() {
+            return _full;
+        }
+
+        int getSize() {
+            return _size.get();
+        }
+    }
+}
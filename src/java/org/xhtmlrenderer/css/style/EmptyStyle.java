@@ -34,6 +34,10 @@ public class EmptyStyle extends CalculatedStyle {
     public EmptyStyle() {
         super();
     }
+    
+    EmptyStyle(CalculatedStyleCache.Generation generation) {
+        super(generation);
+    }
 
 }
 
@@ -20,8 +20,8 @@
  */
 package org.xhtmlrenderer.css.style.derived;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.w3c.dom.css.CSSValue;
 import org.xhtmlrenderer.css.constants.CSSName;
@@ -31,7 +31,9 @@ import org.xhtmlrenderer.css.style.CalculatedStyle;
 import org.xhtmlrenderer.css.style.FSDerivedValue;
 
 public class DerivedValueFactory {
-    private static final Map CACHED_COLORS = new HashMap();
+    // Styles are derived on several threads at once (e.g. by the renderers
+    // of a PDFRenderingService)
+    private static final Map CACHED_COLORS = new ConcurrentHashMap();
     
     public static FSDerivedValue newDerivedValue(
             CalculatedStyle style, CSSName cssName, PropertyValue value) {
@@ -45,6 +45,14 @@ public interface TextRenderer {
 
     public int getWidth(FontContext context, FSFont font, String string);
 
+    /**
+     * Returns the width of the characters <code>start</code> (inclusive) to
+     * <code>end</code> (exclusive) of <code>string</code>.  This is the same
+     * as measuring <code>string.substring(start, end)</code>, but lets the
+     * line breaking code measure words without creating a string for each.
+     */
+    public int getWidth(FontContext context, FSFont font, String string, int start, int end);
+
     public void setFontScale(float scale);
 
     public float getFontScale();
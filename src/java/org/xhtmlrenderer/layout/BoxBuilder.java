@@ -229,6 +229,46 @@ public class BoxBuilder {
         return cellCount > 0 ? result : null;
     }
     
+    /**
+     * Returns the running elements (in order) the <code>element()</code>
+     * functions in the content of the margin boxes <code>names</code> refer 
+     * to on the current page (an entry is <code>null</code> if there is no
+     * such running element).  Apart from these, the content of a margin area 
+     * is the same on every page with the same <code>PageInfo</code> (page
+     * counters are only evaluated when the page is painted).
+     */
+    public static List getMarginAreaRunningBlocks(
+            LayoutContext c, PageInfo pageInfo, MarginBoxName[] names) {
+        List result = null;
+        for (int i = 0; i < names.length; i++) {
+            List props = (List)pageInfo.getMarginBoxes().get(names[i]);
+            if (props == null) {
+                continue;
+            }
+            for (Iterator j = props.iterator(); j.hasNext(); ) {
+                PropertyDeclaration decl = (PropertyDeclaration)j.next();
+                if (decl.getCSSName() != CSSName.CONTENT) {
+                    continue;
+                }
+                List values = ((PropertyValue)decl.getValue()).getValues();
+                if (values == null) {
+                    continue;
+                }
+                for (Iterator k = values.iterator(); k.hasNext(); ) {
+                    PropertyValue value = (PropertyValue)k.next();
+                    if (value.getPropertyValueType() == PropertyValue.VALUE_TYPE_FUNCTION &&
+                            isElementFunction(value.getFunction())) {
+                        if (result == null) {
+                            result = new ArrayList();
+                        }
+                        result.add(getRunningBlock(c, value));
+                    }
+                }
+            }
+        }
+        return result == null ? Collections.EMPTY_LIST : result;
+    }
+    
     private static TableCellBox createMarginBox(
             LayoutContext c,
             CascadedStyle cascadedStyle,
@@ -35,18 +35,30 @@ import org.xhtmlrenderer.render.RenderingContext;
  * A class to collect boxes which intersect a given clip region.  If available,
  * aggregate bounds information will be used.  Block and inline content are
  * added to separate lists as they are painted in separate render phases.
+ * When printing, a {@link PagedBoxIndex} (if one has been created for the
+ * root layer) is used to only visit the children which may intersect the
+ * current page.
  */
 public class BoxCollector {
+    private PagedBoxIndex _pagedBoxIndex;
+    private int _pageNo = -1;
+    
     public void collect(
             CssContext c, Shape clip, Layer layer, 
             List blockContent, List inlineContent, BoxRangeLists rangeLists) {
+        initPagedBoxIndex(c, clip, layer);
         if (layer.isInline()) {
             collectInlineLayer(c, clip, layer, blockContent, inlineContent, rangeLists);
         } else {
-            collect(c, clip, layer, layer.getMaster(), blockContent, inlineContent, rangeLists);
+            collectBoxes(c, clip, layer, layer.getMaster(), blockContent, inlineContent, rangeLists);
         }
     }
     
+    private void initPagedBoxIndex(CssContext c, Shape clip, Layer layer) {
+        _pagedBoxIndex = layer.getPagedBoxIndex();
+        _pageNo = _pagedBoxIndex == null ? -1 : _pagedBoxIndex.findPageNo(c, clip);
+    }
+    
     public boolean intersectsAny(
             CssContext c, Shape clip, Box master) {
         return intersectsAny(c, clip, master, master);
@@ -71,7 +83,7 @@ public class BoxCollector {
                             inlineContent.add(b);
                         }
                     } else {
-                        collect(c, clip, layer, bb, blockContent, inlineContent, rangeLists);
+                        collectBoxes(c, clip, layer, bb, blockContent, inlineContent, rangeLists);
                     }
                 }
             }
@@ -93,6 +105,13 @@ public class BoxCollector {
     public void collect(
             CssContext c, Shape clip, Layer layer, Box container, 
             List blockContent, List inlineContent, BoxRangeLists rangeLists) {
+        initPagedBoxIndex(c, clip, layer);
+        collectBoxes(c, clip, layer, container, blockContent, inlineContent, rangeLists);
+    }
+    
+    private void collectBoxes(
+            CssContext c, Shape clip, Layer layer, Box container, 
+            List blockContent, List inlineContent, BoxRangeLists rangeLists) {
         if (layer != container.getContainingLayer()) {
             return;
         }
@@ -134,9 +153,20 @@ public class BoxCollector {
 
             if (container.getPaintingInfo() == null || intersectsAggregateBounds) {
                 if (container.getLayer() == null || container == layer.getMaster()) {
-                    for (int i = 0; i < container.getChildCount(); i++) {
-                        Box child = container.getChild(i);
-                        collect(c, clip, layer, child, blockContent, inlineContent, rangeLists);
+                    List children = null;
+                    if (_pageNo != -1) {
+                        children = _pagedBoxIndex.getChildren(container, _pageNo);
+                    }
+                    if (children == null) {
+                        for (int i = 0; i < container.getChildCount(); i++) {
+                            Box child = container.getChild(i);
+                            collectBoxes(c, clip, layer, child, blockContent, inlineContent, rangeLists);
+                        }
+                    } else {
+                        for (int i = 0; i < children.size(); i++) {
+                            Box child = (Box)children.get(i);
+                            collectBoxes(c, clip, layer, child, blockContent, inlineContent, rangeLists);
+                        }
                     }
                 }
             }
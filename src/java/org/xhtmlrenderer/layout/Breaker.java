@@ -35,8 +35,7 @@ public class Breaker {
             int avail, CalculatedStyle style) {
         FSFont font = style.getFSFont(c);
         context.setEnd(getFirstLetterEnd(context.getMaster(), context.getStart()));
-        context.setWidth(c.getTextRenderer().getWidth(
-                c.getFontContext(), font, context.getCalculatedSubstring()));
+        context.setWidth(getCalculatedWidth(c, context, font));
         
         if (context.getWidth() > avail) {
             context.setNeedsNewLine(true);
@@ -73,8 +72,7 @@ public class Breaker {
         // ====== handle nowrap
         if (whitespace == IdentValue.NOWRAP) {
         	context.setEnd(context.getLast());
-        	context.setWidth(c.getTextRenderer().getWidth(
-                    c.getFontContext(), font, context.getCalculatedSubstring()));
+        	context.setWidth(getCalculatedWidth(c, context, font));
             return;
         }
 
@@ -82,17 +80,15 @@ public class Breaker {
         if (whitespace == IdentValue.PRE ||
                 whitespace == IdentValue.PRE_WRAP ||
                 whitespace == IdentValue.PRE_LINE) {
-            int n = context.getStartSubstring().indexOf(WhitespaceStripper.EOL);
+            int n = context.getMaster().indexOf(WhitespaceStripper.EOLC, context.getStart());
             if (n > -1) {
-                context.setEnd(context.getStart() + n + 1);
-                context.setWidth(c.getTextRenderer().getWidth(
-                        c.getFontContext(), font, context.getCalculatedSubstring()));
+                context.setEnd(n + 1);
+                context.setWidth(getCalculatedWidth(c, context, font));
                 context.setNeedsNewLine(true);
                 context.setEndsOnNL(true);
             } else if (whitespace == IdentValue.PRE) {
             	context.setEnd(context.getLast());
-                context.setWidth(c.getTextRenderer().getWidth(
-                        c.getFontContext(), font, context.getCalculatedSubstring()));  
+                context.setWidth(getCalculatedWidth(c, context, font));
             }
         }
 
@@ -110,9 +106,13 @@ public class Breaker {
             LineBreakContext context, int avail, CalculatedStyle style,
             boolean tryToBreakAnywhere) {
         FSFont font = style.getFSFont(c);
-        String currentString = context.getStartSubstring();
+        // Work on the text from the start of the context without creating
+        // substrings.  All positions below are relative to start.
+        String text = context.getMaster();
+        int start = context.getStart();
+        int length = text.length() - start;
         int left = 0;
-        int right = tryToBreakAnywhere ? 1 : currentString.indexOf(WhitespaceStripper.SPACE, left + 1);
+        int right = tryToBreakAnywhere ? 1 : indexOfSpace(text, start, left + 1);
         int lastWrap = 0;
         int graphicsLength = 0;
         int lastGraphicsLength = 0;
@@ -120,14 +120,14 @@ public class Breaker {
         while (right > 0 && graphicsLength <= avail) {
             lastGraphicsLength = graphicsLength;
             graphicsLength += c.getTextRenderer().getWidth(
-                    c.getFontContext(), font, currentString.substring(left, right));
+                    c.getFontContext(), font, text, start + left, start + right);
             lastWrap = left;
             left = right;
             if ( tryToBreakAnywhere ) {
-                right = ( right + 1 ) % currentString.length();
+                right = ( right + 1 ) % length;
             }
             else { // break only on whitespace
-                right = currentString.indexOf(WhitespaceStripper.SPACE, left + 1);
+                right = indexOfSpace(text, start, left + 1);
             }
         }
 
@@ -136,7 +136,7 @@ public class Breaker {
             lastWrap = left;
             lastGraphicsLength = graphicsLength;
             graphicsLength += c.getTextRenderer().getWidth(
-                    c.getFontContext(), font, currentString.substring(left));
+                    c.getFontContext(), font, text, start + left, text.length());
         }
 
         if (graphicsLength <= avail) {
@@ -159,15 +159,14 @@ public class Breaker {
             context.setWidth(lastGraphicsLength);
         } else {//unbreakable string
             if (left == 0) {
-                left = currentString.length();
+                left = length;
             }
             
             context.setEnd(context.getStart() + left);
             context.setUnbreakable(true);
             
-            if (left == currentString.length()) {
-                context.setWidth(c.getTextRenderer().getWidth(
-                        c.getFontContext(), font, context.getCalculatedSubstring()));
+            if (left == length) {
+                context.setWidth(getCalculatedWidth(c, context, font));
             } else {
                 context.setWidth(graphicsLength);
             }
@@ -175,5 +174,19 @@ public class Breaker {
         return;
     }
 
+    /**
+     * Returns the position of the next space at or after <code>from</code>
+     * relative to <code>start</code> or <code>-1</code> if there isn't one.
+     */
+    private static int indexOfSpace(String text, int start, int from) {
+        int result = text.indexOf(' ', start + from);
+        return result == -1 ? -1 : result - start;
+    }
+
+    private static int getCalculatedWidth(
+            LayoutContext c, LineBreakContext context, FSFont font) {
+        return c.getTextRenderer().getWidth(c.getFontContext(), font,
+                context.getMaster(), context.getStart(), context.getEnd());
+    }
 }
 
@@ -22,6 +22,7 @@ package org.xhtmlrenderer.layout;
 import java.awt.Dimension;
 import java.awt.Point;
 import java.awt.Rectangle;
+import java.awt.Shape;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
@@ -46,6 +47,7 @@ import org.xhtmlrenderer.render.InlineLayoutBox;
 import org.xhtmlrenderer.render.PageBox;
 import org.xhtmlrenderer.render.RenderingContext;
 import org.xhtmlrenderer.render.ViewportBox;
+import org.xhtmlrenderer.util.Configuration;
 
 /**
  * All positioned content as well as content with an overflow value other
@@ -84,6 +86,8 @@ public class Layer {
     
     private Map _runningBlocks;
     
+    private PagedBoxIndex _pagedBoxIndex;
+    
     private Box _selectionStart;
     private Box _selectionEnd;
     
@@ -150,10 +154,17 @@ public class Layer {
         }
     }
 
-    private void paintFloats(RenderingContext c) {
+    private void paintFloats(RenderingContext c, int pageNo) {
         if (_floats != null) {
-            for (int i = _floats.size() - 1; i >= 0; i--) {
-                BlockBox floater = (BlockBox) _floats.get(i);
+            List floats = null;
+            if (pageNo != -1) {
+                floats = getPagedBoxIndex().getFloats(this, pageNo);
+            }
+            if (floats == null) {
+                floats = _floats;
+            }
+            for (int i = floats.size() - 1; i >= 0; i--) {
+                BlockBox floater = (BlockBox) floats.get(i);
                 paintAsLayer(c, floater);
             }
         }
@@ -166,10 +177,27 @@ public class Layer {
         }
     }
     
-    private static final int POSITIVE = 1;
-    private static final int ZERO = 2;
-    private static final int NEGATIVE = 3;
-    private static final int AUTO = 4;
+    static final int POSITIVE = 1;
+    static final int ZERO = 2;
+    static final int NEGATIVE = 3;
+    static final int AUTO = 4;
+    
+    /**
+     * Returns the layers painted in the given phase in painting order.  If 
+     * <code>pageNo</code> is not <code>-1</code> only the layers which may 
+     * intersect that page are returned.
+     */
+    private List getPaintedLayers(int which, int pageNo) {
+        if (pageNo != -1) {
+            return getPagedBoxIndex().getLayers(this, which, pageNo);
+        } else {
+            return getPaintedLayers(which);
+        }
+    }
+    
+    List getPaintedLayers(int which) {
+        return which == AUTO ? collectLayers(AUTO) : getSortedLayers(which);
+    }
     
     private List collectLayers(int which) {
         List result = new ArrayList();
@@ -309,9 +337,12 @@ public class Layer {
             
             List blocks = new ArrayList();
             List lines = new ArrayList();
+            
+            Shape clip = c.getOutputDevice().getClip();
+            int pageNo = getIndexedPageNo(c, clip);
     
             BoxCollector collector = new BoxCollector();
-            collector.collect(c, c.getOutputDevice().getClip(), this, blocks, lines, rangeLists);
+            collector.collect(c, clip, this, blocks, lines, rangeLists);
     
             if (! isInline()) {
                 paintLayerBackgroundAndBorder(c);
@@ -321,31 +352,41 @@ public class Layer {
             }
             
             if (isRootLayer() || isStackingContext()) {
-                paintLayers(c, getSortedLayers(NEGATIVE));
+                paintLayers(c, getPaintedLayers(NEGATIVE, pageNo));
             }
             
             Map collapsedTableBorders = collectCollapsedTableBorders(c, blocks);
     
             paintBackgroundsAndBorders(c, blocks, collapsedTableBorders, rangeLists);
-            paintFloats(c);
+            paintFloats(c, pageNo);
             paintListMarkers(c, blocks, rangeLists);
             paintInlineContent(c, lines, rangeLists);
             paintReplacedElements(c, blocks, rangeLists);
             paintSelection(c, lines); // XXX do only when there is a selection
     
             if (isRootLayer() || isStackingContext()) {
-                paintLayers(c, collectLayers(AUTO));
+                paintLayers(c, getPaintedLayers(AUTO, pageNo));
                 // TODO z-index: 0 layers should be painted atomically
-                paintLayers(c, getSortedLayers(ZERO));
-                paintLayers(c, getSortedLayers(POSITIVE));
+                paintLayers(c, getPaintedLayers(ZERO, pageNo));
+                paintLayers(c, getPaintedLayers(POSITIVE, pageNo));
             }
         }
     }
     
-    private List getFloats() {
+    List getFloats() {
         return _floats == null ? Collections.EMPTY_LIST : _floats;
     }
     
+    /**
+     * Returns the page number to use when consulting the page index or
+     * <code>-1</code> if there is no index or it cannot be used with
+     * <code>clip</code>.
+     */
+    private int getIndexedPageNo(RenderingContext c, Shape clip) {
+        PagedBoxIndex index = getPagedBoxIndex();
+        return index == null ? -1 : index.findPageNo(c, clip);
+    }
+    
     public Box find(CssContext cssCtx, int absX, int absY, boolean findAnonymous) {
         Box result = null;
         if (isRootLayer() || isStackingContext()) {
@@ -1063,9 +1104,35 @@ public class Layer {
     
     public void layoutPages(LayoutContext c) {
         c.setRootDocumentLayer(c.getRootLayer());
+        Map marginAreaCache = null;
+        if (Configuration.isTrue("xr.layout.share-margin-areas", true)) {
+            marginAreaCache = new HashMap();
+        }
         for (Iterator i = _pages.iterator(); i.hasNext(); ) {
             PageBox pageBox = (PageBox)i.next();
-            pageBox.layout(c);
+            pageBox.layout(c, marginAreaCache);
+        }
+    }
+    
+    /**
+     * Builds an index of which boxes, floats, and child layers intersect
+     * which page.  Once built, painting a page (in 
+     * <code>PAGED_MODE_PRINT</code>) only considers the content of that page 
+     * instead of walking the entire box tree.  Must be called on the root 
+     * layer after layout (including {@link #layoutPages(LayoutContext)}) 
+     * is complete.
+     */
+    public void createPagedBoxIndex(CssContext c) {
+        _pagedBoxIndex = new PagedBoxIndex(c, this);
+    }
+    
+    public PagedBoxIndex getPagedBoxIndex() {
+        if (isRootLayer()) {
+            return _pagedBoxIndex;
+        } else if (getParent() != null) {
+            return getParent().getPagedBoxIndex();
+        } else {
+            return null;
         }
     }
     
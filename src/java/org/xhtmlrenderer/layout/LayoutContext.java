@@ -281,6 +281,10 @@ public class LayoutContext implements CssContext {
     public boolean isPrint() {
         return _sharedContext.isPrint();
     }
+    
+    public boolean isSequentialPagePainting() {
+        return _sharedContext.isSequentialPagePainting();
+    }
 
     public StyleTracker getFirstLinesTracker() {
         return _firstLines;
@@ -0,0 +1,349 @@
+/*
+ * {{{ header & license
+ * Copyright (c) 2009 Wisconsin Court System
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * as published by the Free Software Foundation; either version 2.1
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ * }}}
+ */
+package org.xhtmlrenderer.layout;
+
+import java.awt.Rectangle;
+import java.awt.Shape;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.xhtmlrenderer.css.style.CssContext;
+import org.xhtmlrenderer.newtable.TableBox;
+import org.xhtmlrenderer.newtable.TableSectionBox;
+import org.xhtmlrenderer.render.Box;
+import org.xhtmlrenderer.render.LineBox;
+import org.xhtmlrenderer.render.PageBox;
+import org.xhtmlrenderer.render.RenderingContext;
+
+/**
+ * A page bucketed index of the box tree of a root layer.  It is built once
+ * after the pages have been layed out and lets {@link BoxCollector} (and
+ * {@link Layer} for floats and child layers) only consider the boxes which
+ * can intersect the page currently being painted instead of walking the
+ * entire box tree for every page.
+ * <p>
+ * The index is conservative.  Anything which wasn't indexed (or whose
+ * position may change while painting, e.g. fixed content and repeated table
+ * headers and footers) is reported as not indexed and the caller falls back
+ * to the full walk.  Boxes taken from the index are still tested against the
+ * actual clip so the boxes collected are the same either way.
+ */
+public class PagedBoxIndex {
+    /**
+     * Containers with fewer children than this are walked as before.  The
+     * bookkeeping isn't worth it for them.
+     */
+    private static final int MIN_INDEXED_CHILD_COUNT = 8;
+
+    /**
+     * Bounds are widened by this much to absorb rounding in the clip
+     * returned by the output device.
+     */
+    private static final int SLOP = 1;
+
+    private final int[] _pageTops;
+    private final int[] _pageBottoms;
+
+    private final Map _childrenByContainer = new IdentityHashMap();
+    private final Map _floatsByLayer = new IdentityHashMap();
+    private final Map _pageRangesByLayer = new IdentityHashMap();
+    private final Map _paintedLayersByLayer = new IdentityHashMap();
+
+    public PagedBoxIndex(CssContext c, Layer root) {
+        List pages = root.getPages();
+
+        _pageTops = new int[pages.size()];
+        _pageBottoms = new int[pages.size()];
+        for (int i = 0; i < pages.size(); i++) {
+            PageBox page = (PageBox)pages.get(i);
+            _pageTops[i] = page.getTop();
+            _pageBottoms[i] = page.getBottom();
+        }
+
+        if (_pageTops.length > 0) {
+            indexLayer(root);
+        }
+    }
+
+    /**
+     * Returns the page number the index can be used for when collecting
+     * boxes within <code>clip</code> or <code>-1</code> if the index
+     * cannot be used (e.g. we're not printing or the clip isn't limited
+     * to the current page).
+     */
+    public int findPageNo(CssContext c, Shape clip) {
+        if (clip == null || ! (c instanceof RenderingContext)) {
+            return -1;
+        }
+
+        RenderingContext rc = (RenderingContext)c;
+        PageBox page = rc.getPage();
+        int pageNo = rc.getPageNo();
+        if (! rc.isPrint() || page == null || pageNo < 0 || pageNo >= _pageTops.length) {
+            return -1;
+        }
+
+        if (_pageTops[pageNo] != page.getTop() || _pageBottoms[pageNo] != page.getBottom()) {
+            return -1;
+        }
+
+        Rectangle bounds = clip.getBounds();
+        if (bounds.y < page.getTop() - SLOP ||
+                bounds.y + bounds.height > page.getBottom() + SLOP) {
+            return -1;
+        }
+
+        return pageNo;
+    }
+
+    /**
+     * Returns the children of <code>container</code> which may intersect
+     * page <code>pageNo</code> (in document order) or <code>null</code> if
+     * <code>container</code> was not indexed.
+     */
+    public List getChildren(Box container, int pageNo) {
+        PageBuckets buckets = (PageBuckets)_childrenByContainer.get(container);
+        return buckets == null ? null : buckets.get(pageNo);
+    }
+
+    /**
+     * Returns the floats drawn by <code>layer</code> which may intersect
+     * page <code>pageNo</code> or <code>null</code> if the floats of
+     * <code>layer</code> were not indexed.
+     */
+    public List getFloats(Layer layer, int pageNo) {
+        PageBuckets buckets = (PageBuckets)_floatsByLayer.get(layer);
+        return buckets == null ? null : buckets.get(pageNo);
+    }
+
+    /**
+     * Returns the child layers <code>layer</code> paints in the given phase
+     * (see {@link Layer#getPaintedLayers(int)}) which may intersect page
+     * <code>pageNo</code>.  The painting order is preserved.  Since the
+     * layer tree doesn't change after layout, the (sorted) lists are only 
+     * calculated once per layer and phase.
+     */
+    public List getLayers(Layer layer, int which, int pageNo) {
+        PageBuckets[] all = (PageBuckets[])_paintedLayersByLayer.get(layer);
+        if (all == null) {
+            all = new PageBuckets[Layer.AUTO + 1];
+            _paintedLayersByLayer.put(layer, all);
+        }
+
+        PageBuckets buckets = all[which];
+        if (buckets == null) {
+            List layers = layer.getPaintedLayers(which);
+
+            buckets = new PageBuckets(0, _pageTops.length - 1);
+            for (int i = 0; i < layers.size(); i++) {
+                Layer child = (Layer)layers.get(i);
+                int[] range = (int[])_pageRangesByLayer.get(child);
+                int first = range == null ? 0 : range[0];
+                int last = range == null ? _pageTops.length - 1 : range[1];
+                for (int j = first; j <= last; j++) {
+                    buckets.add(j, child);
+                }
+            }
+
+            all[which] = buckets;
+        }
+
+        return buckets.get(pageNo);
+    }
+
+    private int[] indexLayer(Layer layer) {
+        Box master = layer.getMaster();
+        if (master.getStyle().isFixed()) {
+            // Repositioned on every page
+            return null;
+        }
+
+        if (! layer.isInline()) {
+            indexChildren(layer, master);
+        }
+        indexFloats(layer);
+
+        int[] result = getPageRange(master);
+
+        List children = layer.getChildren();
+        for (int i = 0; i < children.size(); i++) {
+            Layer child = (Layer)children.get(i);
+            int[] childRange = indexLayer(child);
+            if (result != null) {
+                if (childRange == null) {
+                    result = null;
+                } else {
+                    result[0] = Math.min(result[0], childRange[0]);
+                    result[1] = Math.max(result[1], childRange[1]);
+                }
+            }
+        }
+
+        if (result != null) {
+            _pageRangesByLayer.put(layer, result);
+        }
+
+        return result;
+    }
+
+    private void indexFloats(Layer layer) {
+        List floats = layer.getFloats();
+        if (floats.size() < MIN_INDEXED_CHILD_COUNT) {
+            return;
+        }
+
+        PageBuckets buckets = createBuckets(floats);
+        if (buckets != null) {
+            _floatsByLayer.put(layer, buckets);
+        }
+    }
+
+    private void indexChildren(Layer layer, Box container) {
+        if (container instanceof LineBox) {
+            return;
+        }
+
+        if (container instanceof TableSectionBox) {
+            TableSectionBox section = (TableSectionBox)container;
+            if (section.isHeader() || section.isFooter()) {
+                // May be moved to the top (or bottom) of every page the table
+                // is painted on
+                return;
+            }
+        }
+
+        if (container.getLayer() != null && container != layer.getMaster()) {
+            return;
+        }
+
+        int count = container.getChildCount();
+        List candidates = new ArrayList(count);
+        for (int i = 0; i < count; i++) {
+            Box child = container.getChild(i);
+            if (child.getContainingLayer() == layer) {
+                candidates.add(child);
+                indexChildren(layer, child);
+            }
+        }
+
+        if (count >= MIN_INDEXED_CHILD_COUNT && ! (container instanceof TableBox)) {
+            PageBuckets buckets = createBuckets(candidates);
+            if (buckets != null) {
+                _childrenByContainer.put(container, buckets);
+            }
+        }
+    }
+
+    private PageBuckets createBuckets(List boxes) {
+        if (boxes.size() == 0) {
+            return new PageBuckets(0, 0);
+        }
+
+        int first = Integer.MAX_VALUE;
+        int last = Integer.MIN_VALUE;
+
+        int[][] ranges = new int[boxes.size()][];
+        for (int i = 0; i < boxes.size(); i++) {
+            int[] range = getPageRange((Box)boxes.get(i));
+            if (range == null) {
+                // Can't place it so the container can't be indexed
+                return null;
+            }
+            ranges[i] = range;
+            first = Math.min(first, range[0]);
+            last = Math.max(last, range[1]);
+        }
+
+        PageBuckets result = new PageBuckets(first, last);
+        for (int i = 0; i < boxes.size(); i++) {
+            int[] range = ranges[i];
+            for (int j = range[0]; j <= range[1]; j++) {
+                result.add(j, boxes.get(i));
+            }
+        }
+
+        return result;
+    }
+
+    private int[] getPageRange(Box box) {
+        PaintingInfo info = box.getPaintingInfo();
+        if (info == null) {
+            return null;
+        }
+
+        Rectangle bounds = info.getAggregateBounds();
+        int top = bounds.y - SLOP;
+        int bottom = bounds.y + Math.max(bounds.height, 0) + SLOP;
+
+        return new int[] { findPageNo(top), findPageNo(bottom - 1) };
+    }
+
+    private int findPageNo(int y) {
+        int low = 0;
+        int high = _pageTops.length - 1;
+
+        if (y < _pageTops[low]) {
+            return low;
+        } else if (y >= _pageTops[high]) {
+            return high;
+        }
+
+        while (low < high) {
+            int mid = (low + high + 1) >> 1;
+            if (_pageTops[mid] <= y) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+
+        return low;
+    }
+
+    private static class PageBuckets {
+        private final int _first;
+        private final List[] _pages;
+
+        public PageBuckets(int first, int last) {
+            _first = first;
+            _pages = new List[last - first + 1];
+        }
+
+        public void add(int pageNo, Object o) {
+            List page = _pages[pageNo - _first];
+            if (page == null) {
+                page = new ArrayList();
+                _pages[pageNo - _first] = page;
+            }
+            page.add(o);
+        }
+
+        public List get(int pageNo) {
+            int i = pageNo - _first;
+            if (i < 0 || i >= _pages.length || _pages[i] == null) {
+                return Collections.EMPTY_LIST;
+            }
+            return _pages[i];
+        }
+    }
+}
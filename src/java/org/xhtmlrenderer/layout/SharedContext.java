@@ -26,7 +26,7 @@ import org.w3c.dom.NodeList;
 import org.xhtmlrenderer.context.AWTFontResolver;
 import org.xhtmlrenderer.context.StyleReference;
 import org.xhtmlrenderer.css.style.CalculatedStyle;
-import org.xhtmlrenderer.css.style.EmptyStyle;
+import org.xhtmlrenderer.css.style.CalculatedStyleCache;
 import org.xhtmlrenderer.css.value.FontSpecification;
 import org.xhtmlrenderer.extend.*;
 import org.xhtmlrenderer.render.Box;
@@ -36,6 +36,7 @@ import org.xhtmlrenderer.render.RenderingContext;
 import org.xhtmlrenderer.simple.extend.FormSubmissionListener;
 import org.xhtmlrenderer.swing.Java2DTextRenderer;
 import org.xhtmlrenderer.swing.SwingReplacedElementFactory;
+import org.xhtmlrenderer.util.Configuration;
 import org.xhtmlrenderer.util.XRLog;
 
 import java.awt.*;
@@ -82,6 +83,19 @@ public class SharedContext {
     private int dotsPerPixel = 1;
 
     private Map styleMap;
+    
+    private CalculatedStyleCache styleCache;
+    
+    /**
+     * Whether the style cache is only used by this context (and is cleared
+     * with each new document)
+     */
+    private boolean privateStyleCache;
+    
+    /**
+     * Whether the pages are always painted one at a time, in order
+     */
+    private boolean sequentialPagePainting;
 
     private ReplacedElementFactory replacedElementFactory;
     private Rectangle temp_canvas;
@@ -147,6 +161,9 @@ public class SharedContext {
 
     public void flushFonts() {
         font_resolver.flushCache();
+        // Calculated styles cache their fonts (the store may be shared with
+        // other renderers which use other font resolvers)
+        getStyleCache().clear(font_resolver);
     }
 
     /**
@@ -472,6 +489,23 @@ public class SharedContext {
     public boolean isPrint() {
         return print;
     }
+    
+    public boolean isSequentialPagePainting() {
+        return sequentialPagePainting;
+    }
+
+    /**
+     * Sets whether the pages of a paged document are always painted one at
+     * a time (e.g. when writing a PDF).  Margin areas with content which is
+     * only evaluated when a page is painted (like page counters) are then 
+     * shared between pages too, since painting one page can't disturb 
+     * another (see {@link org.xhtmlrenderer.render.PageBox#layout(LayoutContext, Map)}).
+     * Must not be set if pages may be painted in parallel.  The default is
+     * <code>false</code>.
+     */
+    public void setSequentialPagePainting(boolean sequentialPagePainting) {
+        this.sequentialPagePainting = sequentialPagePainting;
+    }
 
     public void setPrint(boolean print) {
         this.print = print;
@@ -549,7 +583,8 @@ public class SharedContext {
             Node parent = e.getParentNode();
             CalculatedStyle parentCalculatedStyle;
             if (parent instanceof Document) {
-                parentCalculatedStyle = new EmptyStyle();
+                parentCalculatedStyle = getStyleCache().getRootStyle(
+                        getFontResolver(), getMmPerPx(), getDotsPerPixel());
             } else {
                 parentCalculatedStyle = getStyle((Element)parent, false);
             }
@@ -566,6 +601,42 @@ public class SharedContext {
        styleMap = null;
        idMap = null;
        replacedElementFactory.reset();
+       if (privateStyleCache && styleCache != null) {
+           styleCache.clear();
+       }
+    }
+    
+    /**
+     * Returns the store the calculated styles of documents are interned in.
+     * Unless one was set with {@link #setStyleCache(CalculatedStyleCache)},
+     * this is the process-wide store if the 
+     * <code>xr.cache.calculated-styles.shared</code> property is 
+     * <code>true</code> or else a store which is cleared when a new document 
+     * is loaded.
+     */
+    public CalculatedStyleCache getStyleCache() {
+        if (styleCache == null) {
+            if (Configuration.isTrue("xr.cache.calculated-styles.shared", false)) {
+                styleCache = CalculatedStyleCache.getSharedInstance();
+            } else {
+                styleCache = CalculatedStyleCache.newInstance();
+                privateStyleCache = true;
+            }
+        }
+        return styleCache;
+    }
+    
+    /**
+     * Sets the store to intern calculated styles in.  The store is kept
+     * across documents so that documents which use the same stylesheets 
+     * can share their calculated styles.
+     */
+    public void setStyleCache(CalculatedStyleCache styleCache) {
+        if (styleCache == null) {
+            throw new NullPointerException("styleCache may not be null");
+        }
+        this.styleCache = styleCache;
+        this.privateStyleCache = false;
     }
 
     public ReplacedElementFactory getReplacedElementFactory() {
@@ -39,6 +39,18 @@ import org.xml.sax.Locator;
 import org.xml.sax.SAXException;
 import org.xml.sax.helpers.AttributesImpl;
 
+/**
+ * Splits a single XML document into several documents.  Each child of the
+ * root element (other than <code>head</code>) becomes the root element of a
+ * new document and a copy of the <code>head</code> element of the input is
+ * added to each document.
+ * <p>
+ * By default the documents are collected and are available from 
+ * {@link #getDocuments()} once the input has been parsed.  If a
+ * {@link DocumentHandler} is provided, each document is passed to it as soon
+ * as it is complete and is not kept, so the memory needed does not depend on
+ * the number of documents in the input (see {@link SplitDocumentWriter}).
+ */
 public class DocumentSplitter implements ContentHandler {
     private static final String HEAD_ELEMENT_NAME = "head";
     
@@ -59,8 +71,26 @@ public class DocumentSplitter implements ContentHandler {
     private boolean _inDocument = false;
     
     private List _documents = new LinkedList();
+    private Document _currentDocument;
+    
+    private final DocumentHandler _documentHandler;
+    
+    private DocumentBuilderFactory _documentBuilderFactory;
+    private SAXTransformerFactory _transformerFactory;
     
     private boolean _replayedHead = false;
+    
+    public DocumentSplitter() {
+        this(null);
+    }
+    
+    /**
+     * @param documentHandler Is passed each document as soon as it is 
+     * complete (if <code>null</code>, the documents are collected instead)
+     */
+    public DocumentSplitter(DocumentHandler documentHandler) {
+        _documentHandler = documentHandler;
+    }
 
     public void characters(char[] ch, int start, int length) throws SAXException {
         if (_inHead) {
@@ -145,14 +175,21 @@ public class DocumentSplitter implements ContentHandler {
                     try {
                         _inDocument = true;
                         _replayedHead = false;
-                        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-                        factory.setNamespaceAware(true);
-                        factory.setValidating(false);
+                        if (_documentBuilderFactory == null) {
+                            _documentBuilderFactory = DocumentBuilderFactory.newInstance();
+                            _documentBuilderFactory.setNamespaceAware(true);
+                            _documentBuilderFactory.setValidating(false);
+                            
+                            _transformerFactory = 
+                                (SAXTransformerFactory)SAXTransformerFactory.newInstance();
+                        }
                         
-                        Document doc = factory.newDocumentBuilder().newDocument();
-                        _documents.add(doc);
-                        _handler = 
-                            ((SAXTransformerFactory)SAXTransformerFactory.newInstance()).newTransformerHandler();
+                        Document doc = _documentBuilderFactory.newDocumentBuilder().newDocument();
+                        if (_documentHandler == null) {
+                            _documents.add(doc);
+                        }
+                        _currentDocument = doc;
+                        _handler = _transformerFactory.newTransformerHandler();
                         _handler.setResult(new DOMResult(doc));
                         
                         _handler.startDocument();
@@ -197,6 +234,20 @@ public class DocumentSplitter implements ContentHandler {
                 _handler.endElement(uri, localName, qName);
                 _handler.endDocument();
                 _inDocument = false;
+                
+                _handler = null;
+                Document doc = _currentDocument;
+                _currentDocument = null;
+                
+                if (_documentHandler != null) {
+                    try {
+                        _documentHandler.handleDocument(doc);
+                    } catch (SAXException e) {
+                        throw e;
+                    } catch (Exception e) {
+                        throw new SAXException(e.getMessage(), e);
+                    }
+                }
             } else {
                 _handler.endElement(uri, localName, qName);
             }
@@ -214,10 +265,23 @@ public class DocumentSplitter implements ContentHandler {
         }
     }
     
+    /**
+     * Returns the documents split from the input (always empty if a 
+     * {@link DocumentHandler} was provided)
+     */
     public List getDocuments() {
         return _documents;
     }
     
+    /**
+     * Receives the documents from a {@link DocumentSplitter} one at a time.
+     * A document is only passed on once it is complete.  Any exception thrown
+     * aborts the parse.
+     */
+    public interface DocumentHandler {
+        public void handleDocument(Document doc) throws Exception;
+    }
+    
     private static final class Namespace {
         private String _prefix;
         private String _uri;
@@ -38,4 +38,19 @@ public class ITextFSFont implements FSFont {
     public FontDescription getFontDescription() {
         return _font;
     }
+
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (! (o instanceof ITextFSFont)) {
+            return false;
+        }
+        ITextFSFont other = (ITextFSFont)o;
+        return _font == other._font && _size == other._size;
+    }
+
+    public int hashCode() {
+        return System.identityHashCode(_font) * 31 + Float.floatToIntBits(_size);
+    }
 }
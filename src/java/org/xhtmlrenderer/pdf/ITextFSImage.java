@@ -25,9 +25,18 @@ import com.lowagie.text.Image;
 
 public class ITextFSImage implements FSImage {
     private Image _image;
+    private String _uri;
     
     public ITextFSImage(Image image) {
+        this(image, null);
+    }
+    
+    /**
+     * @param uri The URI the image was loaded from (may be <code>null</code>)
+     */
+    public ITextFSImage(Image image, String uri) {
         _image = image;
+        _uri = uri;
     }
 
     public int getWidth() {
@@ -53,7 +62,19 @@ public class ITextFSImage implements FSImage {
         _image.scaleAbsolute(targetWidth, targetHeight);
     }
     
+    /**
+     * Returns a copy of this image which can be scaled independently.  The
+     * image data is shared (and will only be written to a PDF once).
+     */
+    public ITextFSImage copy() {
+        return new ITextFSImage(Image.getInstance(_image), _uri);
+    }
+    
     public Image getImage() {
         return _image;
     }
+    
+    public String getUri() {
+        return _uri;
+    }
 }
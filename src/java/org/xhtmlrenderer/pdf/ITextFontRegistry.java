@@ -0,0 +1,597 @@
+/*
+ * {{{ header & license
+ * Copyright (c) 2009 Wisconsin Court System
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * as published by the Free Software Foundation; either version 2.1
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ * }}}
+ */
+package org.xhtmlrenderer.pdf;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.FilenameFilter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+
+import org.xhtmlrenderer.css.constants.IdentValue;
+import org.xhtmlrenderer.pdf.ITextFontResolver.FontDescription;
+import org.xhtmlrenderer.pdf.ITextFontResolver.FontFamily;
+import org.xhtmlrenderer.pdf.ITextFontResolver.LazyFont;
+import org.xhtmlrenderer.util.XRLog;
+import org.xhtmlrenderer.util.XRRuntimeException;
+
+import com.lowagie.text.DocumentException;
+import com.lowagie.text.pdf.BaseFont;
+
+/**
+ * The fonts available to one or more {@link ITextFontResolver}s.  A registry
+ * starts out with the PDF base 14 fonts.  Fonts added to the registry are
+ * only read (and described) once no matter how often they are added, so
+ * a registry can be shared by any number of renderers on any number of
+ * threads (see {@link #getSharedInstance()}).
+ * <p>
+ * Font families are never modified once they've been added to the registry.
+ * Adding a font replaces its family with an updated copy so lookups don't
+ * need to lock.  Fonts loaded from <code>@font-face</code> rules are not
+ * added to the registry.  They are kept by the resolver for the current
+ * document.
+ * <p>
+ * Font directories can also be added using a font index (see
+ * {@link #addFontDirectory(String, boolean, File)}).  Fonts added this way
+ * aren't read until a document actually uses them.
+ */
+public class ITextFontRegistry {
+    private static Map _baseFontFamilies;
+
+    private static ITextFontRegistry _sharedInstance;
+
+    private static final String FONT_INDEX_HEADER = "# Flying Saucer font index 1";
+
+    private final Map _fontFamilies = new ConcurrentHashMap();
+    private final Set _addedFonts = new HashSet();
+
+    private volatile int _generation;
+
+    public ITextFontRegistry() {
+        _fontFamilies.putAll(getBaseFontFamilies());
+    }
+
+    /**
+     * Returns the process-wide registry
+     */
+    public static synchronized ITextFontRegistry getSharedInstance() {
+        if (_sharedInstance == null) {
+            _sharedInstance = new ITextFontRegistry();
+        }
+        return _sharedInstance;
+    }
+
+    /**
+     * Returns the font family called <code>fontFamilyName</code> or
+     * <code>null</code> if there is no such family.  The family must not be
+     * modified.
+     */
+    FontFamily getFontFamily(String fontFamilyName) {
+        return (FontFamily)_fontFamilies.get(fontFamilyName);
+    }
+
+    /**
+     * Returns a number which changes whenever a font is added to the
+     * registry.  Resolvers use it to know when to drop fonts they've cached.
+     */
+    int getGeneration() {
+        return _generation;
+    }
+
+    public void addFontDirectory(String dir, boolean embedded)
+            throws DocumentException, IOException {
+        File[] files = listFontFiles(dir);
+        if (files != null) {
+            for (int i = 0; i < files.length; i++) {
+                addFont(files[i].getAbsolutePath(), embedded);
+            }
+        }
+    }
+
+    /**
+     * Like {@link #addFontDirectory(String, boolean)}, but the fonts in
+     * the directory aren't read until a document uses them.  The family
+     * names, style, weight and metrics of each font are kept in
+     * <code>indexFile</code>.  Fonts which aren't in the index yet or which
+     * have been modified since they were indexed are read and the index is
+     * rewritten.  The same index file can be used for any number of
+     * directories.
+     */
+    public synchronized void addFontDirectory(String dir, boolean embedded, File indexFile)
+            throws DocumentException, IOException {
+        File[] files = listFontFiles(dir);
+        if (files == null) {
+            return;
+        }
+
+        Map index = readFontIndex(indexFile);
+        boolean changed = false;
+
+        String prefix = new File(dir).getAbsolutePath() + File.separator;
+        for (Iterator i = index.keySet().iterator(); i.hasNext(); ) {
+            String path = (String)i.next();
+            if (path.startsWith(prefix) &&
+                    path.indexOf(File.separatorChar, prefix.length()) == -1 &&
+                    ! new File(path).exists()) {
+                i.remove();
+                changed = true;
+            }
+        }
+
+        for (int i = 0; i < files.length; i++) {
+            File file = files[i];
+            String path = file.getAbsolutePath();
+            String key = path + "|null|" + BaseFont.CP1252 + "|" + embedded + "|null";
+            if (_addedFonts.contains(key)) {
+                continue;
+            }
+
+            FontIndexEntry entry = (FontIndexEntry)index.get(path);
+            if (entry == null || entry.lastModified != file.lastModified() ||
+                    entry.length != file.length()) {
+                entry = createFontIndexEntry(file);
+                index.put(path, entry);
+                changed = true;
+            }
+
+            LazyFont font = new LazyFont(path, BaseFont.CP1252, embedded);
+            for (int j = 0; j < entry.fontFamilyNames.length; j++) {
+                FontDescription descr = new FontDescription(font);
+                descr.setStyle(entry.style);
+                descr.setWeight(entry.weight);
+                descr.setUnderlinePosition(entry.underlinePosition);
+                descr.setUnderlineThickness(entry.underlineThickness);
+                descr.setYStrikeoutSize(entry.yStrikeoutSize);
+                descr.setYStrikeoutPosition(entry.yStrikeoutPosition);
+
+                addFontDescription(entry.fontFamilyNames[j], descr);
+            }
+
+            _addedFonts.add(key);
+            XRLog.load("Registered font " + path + " (from index)");
+        }
+
+        if (changed) {
+            writeFontIndex(indexFile, index);
+        }
+    }
+
+    private File[] listFontFiles(String dir) {
+        File f = new File(dir);
+        if (f.isDirectory()) {
+            return f.listFiles(new FilenameFilter() {
+                public boolean accept(File dir, String name) {
+                    String lower = name.toLowerCase();
+                    return lower.endsWith(".otf") || lower.endsWith(".ttf");
+                }
+            });
+        } else {
+            return null;
+        }
+    }
+
+    private FontIndexEntry createFontIndexEntry(File file)
+            throws DocumentException, IOException {
+        String path = file.getAbsolutePath();
+        BaseFont font = BaseFont.createFont(path, BaseFont.CP1252, false);
+
+        FontDescription descr = new FontDescription(font);
+        try {
+            TrueTypeUtil.populateDescription(path, font, descr);
+        } catch (Exception e) {
+            throw new XRRuntimeException(e.getMessage(), e);
+        }
+
+        FontIndexEntry result = new FontIndexEntry();
+        result.path = path;
+        result.lastModified = file.lastModified();
+        result.length = file.length();
+        result.fontFamilyNames = TrueTypeUtil.getFamilyNames(font);
+        result.style = descr.getStyle();
+        result.weight = descr.getWeight();
+        result.underlinePosition = descr.getUnderlinePosition();
+        result.underlineThickness = descr.getUnderlineThickness();
+        result.yStrikeoutSize = descr.getYStrikeoutSize();
+        result.yStrikeoutPosition = descr.getYStrikeoutPosition();
+
+        XRLog.load("Indexed font " + path);
+
+        return result;
+    }
+
+    /**
+     * Reads a font index.  A missing or unreadable index is treated as
+     * empty (i.e. the fonts will simply be read again).
+     */
+    private Map readFontIndex(File indexFile) {
+        Map result = new TreeMap();
+        if (! indexFile.exists()) {
+            return result;
+        }
+
+        BufferedReader reader = null;
+        try {
+            reader = new BufferedReader(new InputStreamReader(
+                    new FileInputStream(indexFile), "UTF-8"));
+            String line = reader.readLine();
+            if (! FONT_INDEX_HEADER.equals(line)) {
+                XRLog.load(Level.WARNING, "Ignoring font index " + indexFile +
+                        " with unknown format");
+                return result;
+            }
+            while ( (line = reader.readLine()) != null) {
+                if (line.length() == 0) {
+                    continue;
+                }
+                FontIndexEntry entry = FontIndexEntry.valueOf(line);
+                result.put(entry.path, entry);
+            }
+        } catch (Exception e) {
+            XRLog.load(Level.WARNING, "Could not read font index " + indexFile, e);
+            result.clear();
+        } finally {
+            close(reader);
+        }
+
+        return result;
+    }
+
+    /**
+     * Writes a font index.  The index is written to a temporary file first
+     * so other processes never see a partially written index.  Failing to
+     * write the index isn't an error since the fonts can always be read
+     * again.
+     */
+    private void writeFontIndex(File indexFile, Map index) {
+        File tmp = new File(indexFile.getAbsolutePath() + ".tmp");
+        Writer writer = null;
+        try {
+            writer = new BufferedWriter(new OutputStreamWriter(
+                    new FileOutputStream(tmp), "UTF-8"));
+            writer.write(FONT_INDEX_HEADER);
+            writer.write('\n');
+            for (Iterator i = index.values().iterator(); i.hasNext(); ) {
+                writer.write(i.next().toString());
+                writer.write('\n');
+            }
+            writer.close();
+            writer = null;
+
+            if (! tmp.renameTo(indexFile)) {
+                indexFile.delete();
+                if (! tmp.renameTo(indexFile)) {
+                    throw new IOException("Could not rename " + tmp + " to " + indexFile);
+                }
+            }
+        } catch (IOException e) {
+            XRLog.load(Level.WARNING, "Could not write font index " + indexFile, e);
+            tmp.delete();
+        } finally {
+            close(writer);
+        }
+    }
+
+    private static void close(Reader reader) {
+        if (reader != null) {
+            try {
+                reader.close();
+            } catch (IOException e) {
+                // ignore
+            }
+        }
+    }
+
+    private static void close(Writer writer) {
+        if (writer != null) {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                // ignore
+            }
+        }
+    }
+
+    public void addFont(String path, boolean embedded)
+            throws DocumentException, IOException {
+        addFont(path, BaseFont.CP1252, embedded);
+    }
+
+    public void addFont(String path, String encoding, boolean embedded)
+            throws DocumentException, IOException {
+        addFont(path, encoding, embedded, null);
+    }
+
+    public void addFont(String path, String encoding, boolean embedded, String pathToPFB)
+            throws DocumentException, IOException {
+        addFont(path, null, encoding, embedded, pathToPFB);
+    }
+
+    public synchronized void addFont(String path, String fontFamilyNameOverride,
+                        String encoding, boolean embedded, String pathToPFB)
+            throws DocumentException, IOException {
+        String key = path + "|" + fontFamilyNameOverride + "|" + encoding + "|" +
+            embedded + "|" + pathToPFB;
+        if (_addedFonts.contains(key)) {
+            return;
+        }
+
+        String lower = path.toLowerCase();
+        if (lower.endsWith(".otf") || lower.endsWith(".ttf") || lower.indexOf(".ttc,") != -1) {
+            BaseFont font = BaseFont.createFont(path, encoding, embedded);
+
+            String[] fontFamilyNames;
+            if (fontFamilyNameOverride != null) {
+                fontFamilyNames = new String[] { fontFamilyNameOverride };
+            } else {
+                fontFamilyNames = TrueTypeUtil.getFamilyNames(font);
+            }
+
+            for (int i = 0; i < fontFamilyNames.length; i++) {
+                FontDescription descr = new FontDescription(font);
+                try {
+                    TrueTypeUtil.populateDescription(path, font, descr);
+                } catch (Exception e) {
+                    throw new XRRuntimeException(e.getMessage(), e);
+                }
+
+                addFontDescription(fontFamilyNames[i], descr);
+            }
+        } else if (lower.endsWith(".ttc")) {
+            String[] names = BaseFont.enumerateTTCNames(path);
+            for (int i = 0; i < names.length; i++) {
+                addFont(path + "," + i, fontFamilyNameOverride, encoding, embedded, null);
+            }
+        } else if (lower.endsWith(".afm") || lower.endsWith(".pfm")) {
+            if (embedded && pathToPFB == null) {
+                throw new IOException("When embedding a font, path to PFB/PFA file must be specified");
+            }
+
+            BaseFont font = BaseFont.createFont(
+                    path, encoding, embedded, false, null, readFile(pathToPFB));
+
+            String fontFamilyName;
+            if (fontFamilyNameOverride != null) {
+                fontFamilyName = fontFamilyNameOverride;
+            } else {
+                fontFamilyName = font.getFamilyFontName()[0][3];
+            }
+
+            FontDescription descr = new FontDescription(font);
+            // XXX Need to set weight, underline position, etc.  This information
+            // is contained in the AFM file (and even parsed by Type1Font), but
+            // unfortunately it isn't exposed to the caller.
+            addFontDescription(fontFamilyName, descr);
+        } else {
+            throw new IOException("Unsupported font type");
+        }
+
+        _addedFonts.add(key);
+        XRLog.load("Registered font " + path);
+    }
+
+    private void addFontDescription(String fontFamilyName, FontDescription descr) {
+        FontFamily old = (FontFamily)_fontFamilies.get(fontFamilyName);
+
+        FontFamily fontFamily;
+        if (old == null) {
+            fontFamily = new FontFamily();
+            fontFamily.setName(fontFamilyName);
+        } else {
+            fontFamily = old.copy();
+        }
+        fontFamily.addFontDescription(descr);
+
+        _fontFamilies.put(fontFamilyName, fontFamily);
+        if (old != null) {
+            // Keep aliases (e.g. Serif and TimesRoman) pointing to the same family
+            for (Iterator i = _fontFamilies.entrySet().iterator(); i.hasNext(); ) {
+                Map.Entry entry = (Map.Entry)i.next();
+                if (entry.getValue() == old) {
+                    entry.setValue(fontFamily);
+                }
+            }
+        }
+
+        _generation++;
+    }
+
+    private byte[] readFile(String path) throws IOException {
+        File f = new File(path);
+        if (f.exists()) {
+            ByteArrayOutputStream result = new ByteArrayOutputStream((int)f.length());
+            InputStream is = null;
+            try {
+                is = new FileInputStream(path);
+                byte[] buf = new byte[10240];
+                int i;
+                while ( (i = is.read(buf)) != -1) {
+                    result.write(buf, 0, i);
+                }
+                is.close();
+                is = null;
+
+                return result.toByteArray();
+            } finally {
+                if (is != null) {
+                    try {
+                        is.close();
+                    } catch (IOException e) {
+                        // ignore
+                    }
+                }
+            }
+        } else {
+            throw new IOException("File " + path + " does not exist or is not accessible");
+        }
+    }
+
+    private static synchronized Map getBaseFontFamilies() {
+        if (_baseFontFamilies == null) {
+            HashMap result = new HashMap();
+
+            try {
+                addCourier(result);
+                addTimes(result);
+                addHelvetica(result);
+            } catch (DocumentException e) {
+                throw new RuntimeException(e.getMessage(), e);
+            } catch (IOException e) {
+                throw new RuntimeException(e.getMessage(), e);
+            }
+
+            _baseFontFamilies = result;
+        }
+        return _baseFontFamilies;
+    }
+
+    private static BaseFont createFont(String name) throws DocumentException, IOException {
+        return BaseFont.createFont(name, "winansi", true);
+    }
+
+    private static void addCourier(HashMap result) throws DocumentException, IOException {
+        FontFamily courier = new FontFamily();
+        courier.setName("Courier");
+
+        courier.addFontDescription(new FontDescription(
+                createFont(BaseFont.COURIER_BOLDOBLIQUE), IdentValue.OBLIQUE, 700));
+        courier.addFontDescription(new FontDescription(
+                createFont(BaseFont.COURIER_OBLIQUE), IdentValue.OBLIQUE, 400));
+        courier.addFontDescription(new FontDescription(
+                createFont(BaseFont.COURIER_BOLD), IdentValue.NORMAL, 700));
+        courier.addFontDescription(new FontDescription(
+                createFont(BaseFont.COURIER), IdentValue.NORMAL, 400));
+
+        result.put("DialogInput", courier);
+        result.put("Monospaced", courier);
+        result.put("Courier", courier);
+    }
+
+    private static void addTimes(HashMap result) throws DocumentException, IOException {
+        FontFamily times = new FontFamily();
+        times.setName("Times");
+
+        times.addFontDescription(new FontDescription(
+                createFont(BaseFont.TIMES_BOLDITALIC), IdentValue.ITALIC, 700));
+        times.addFontDescription(new FontDescription(
+                createFont(BaseFont.TIMES_ITALIC), IdentValue.ITALIC, 400));
+        times.addFontDescription(new FontDescription(
+                createFont(BaseFont.TIMES_BOLD), IdentValue.NORMAL, 700));
+        times.addFontDescription(new FontDescription(
+                createFont(BaseFont.TIMES_ROMAN), IdentValue.NORMAL, 400));
+
+        result.put("Serif", times);
+        result.put("TimesRoman", times);
+    }
+
+    private static void addHelvetica(HashMap result) throws DocumentException, IOException {
+        FontFamily helvetica = new FontFamily();
+        helvetica.setName("Helvetica");
+
+        helvetica.addFontDescription(new FontDescription(
+                createFont(BaseFont.HELVETICA_BOLDOBLIQUE), IdentValue.OBLIQUE, 700));
+        helvetica.addFontDescription(new FontDescription(
+                createFont(BaseFont.HELVETICA_OBLIQUE), IdentValue.OBLIQUE, 400));
+        helvetica.addFontDescription(new FontDescription(
+                createFont(BaseFont.HELVETICA_BOLD), IdentValue.NORMAL, 700));
+        helvetica.addFontDescription(new FontDescription(
+                createFont(BaseFont.HELVETICA), IdentValue.NORMAL, 400));
+
+        result.put("Dialog", helvetica);
+        result.put("SansSerif", helvetica);
+    }
+
+    /**
+     * One font file in a font index.  Each entry is stored on one line as
+     * tab separated fields: path, modification time, length, style, weight,
+     * underline position and thickness, strikeout size and position,
+     * followed by the font's family names.
+     */
+    private static class FontIndexEntry {
+        String path;
+        long lastModified;
+        long length;
+
+        String[] fontFamilyNames;
+
+        IdentValue style;
+        int weight;
+
+        float underlinePosition;
+        float underlineThickness;
+        float yStrikeoutSize;
+        float yStrikeoutPosition;
+
+        static FontIndexEntry valueOf(String line) {
+            String[] fields = line.split("\t");
+            if (fields.length < 9) {
+                throw new IllegalArgumentException("Invalid font index entry: " + line);
+            }
+
+            FontIndexEntry result = new FontIndexEntry();
+            result.path = fields[0];
+            result.lastModified = Long.parseLong(fields[1]);
+            result.length = Long.parseLong(fields[2]);
+            result.style = IdentValue.getByIdentString(fields[3]);
+            result.weight = Integer.parseInt(fields[4]);
+            result.underlinePosition = Float.parseFloat(fields[5]);
+            result.underlineThickness = Float.parseFloat(fields[6]);
+            result.yStrikeoutSize = Float.parseFloat(fields[7]);
+            result.yStrikeoutPosition = Float.parseFloat(fields[8]);
+
+            result.fontFamilyNames = new String[fields.length - 9];
+            System.arraycopy(fields, 9, result.fontFamilyNames, 0, result.fontFamilyNames.length);
+
+            return result;
+        }
+
+        public String toString() {
+            StringBuffer result = new StringBuffer();
+            result.append(path).append('\t');
+            result.append(lastModified).append('\t');
+            result.append(length).append('\t');
+            result.append(style).append('\t');
+            result.append(weight).append('\t');
+            result.append(underlinePosition).append('\t');
+            result.append(underlineThickness).append('\t');
+            result.append(yStrikeoutSize).append('\t');
+            result.append(yStrikeoutPosition);
+            for (int i = 0; i < fontFamilyNames.length; i++) {
+                result.append('\t').append(fontFamilyNames[i]);
+            }
+            return result.toString();
+        }
+    }
+}
@@ -19,12 +19,8 @@
  */
 package org.xhtmlrenderer.pdf;
 
-import java.io.ByteArrayOutputStream;
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FilenameFilter;
 import java.io.IOException;
-import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
@@ -49,39 +45,68 @@ import com.lowagie.text.DocumentException;
 import com.lowagie.text.pdf.BaseFont;
 
 public class ITextFontResolver implements FontResolver {
-    private Map _fontFamilies = createInitialFontMap();
+    private ITextFontRegistry _fontRegistry;
+    private boolean _privateFontRegistry;
+    private int _fontRegistryGeneration;
+
+    // The families with fonts from @font-face rules of the current document
+    private Map _fontFaceFamilies = new HashMap();
     private Map _fontCache = new HashMap();
 
     private final SharedContext _sharedContext;
 
     public ITextFontResolver(SharedContext sharedContext) {
+        this(sharedContext, new ITextFontRegistry());
+        _privateFontRegistry = true;
+    }
+
+    /**
+     * Creates a resolver which uses the fonts of <code>fontRegistry</code>.
+     * Fonts added to this resolver are added to the registry.
+     */
+    public ITextFontResolver(SharedContext sharedContext, ITextFontRegistry fontRegistry) {
         _sharedContext = sharedContext;
+        _fontRegistry = fontRegistry;
+        _fontRegistryGeneration = fontRegistry.getGeneration();
+    }
+
+    public ITextFontRegistry getFontRegistry() {
+        return _fontRegistry;
+    }
+
+    /**
+     * Sets the registry which provides the fonts available to this resolver
+     * (e.g. {@link ITextFontRegistry#getSharedInstance()}).  Fonts added to
+     * this resolver afterwards are added to the registry.
+     */
+    public void setFontRegistry(ITextFontRegistry fontRegistry) {
+        _fontRegistry = fontRegistry;
+        _privateFontRegistry = false;
+        _fontRegistryGeneration = fontRegistry.getGeneration();
+        _fontCache = new HashMap();
     }
 
     public FSFont resolveFont(SharedContext renderingContext, FontSpecification spec) {
         return resolveFont(renderingContext, spec.families, spec.size, spec.fontWeight, spec.fontStyle, spec.variant);
     }
 
+    /**
+     * Drops all cached fonts.  If this resolver has its own registry, the
+     * fonts which were added to it are dropped too.  A shared registry is not
+     * modified.
+     */
     public void flushCache() {
-        _fontFamilies = createInitialFontMap();
+        if (_privateFontRegistry) {
+            _fontRegistry = new ITextFontRegistry();
+            _fontRegistryGeneration = _fontRegistry.getGeneration();
+        }
+        _fontFaceFamilies = new HashMap();
         _fontCache = new HashMap();
     }
 
     public void flushFontFaceFonts() {
         _fontCache = new HashMap();
-
-        for (Iterator i = _fontFamilies.values().iterator(); i.hasNext(); ) {
-            FontFamily family = (FontFamily)i.next();
-            for (Iterator j = family.getFontDescriptions().iterator(); j.hasNext(); ) {
-                FontDescription d = (FontDescription)j.next();
-                if (d.isFromFontFace()) {
-                    j.remove();
-                }
-            }
-            if (family.getFontDescriptions().size() == 0) {
-                i.remove();
-            }
-        }
+        _fontFaceFamilies = new HashMap();
     }
 
     public void importFontFaces(List fontFaces) {
@@ -137,92 +162,36 @@ public class ITextFontResolver implements FontResolver {
 
     public void addFontDirectory(String dir, boolean embedded)
             throws DocumentException, IOException {
-        File f = new File(dir);
-        if (f.isDirectory()) {
-            File[] files = f.listFiles(new FilenameFilter() {
-                public boolean accept(File dir, String name) {
-                    String lower = name.toLowerCase();
-                    return lower.endsWith(".otf") || lower.endsWith(".ttf");
-                }
-            });
-            for (int i = 0; i < files.length; i++) {
-                addFont(files[i].getAbsolutePath(), embedded);
-            }
-        }
+        _fontRegistry.addFontDirectory(dir, embedded);
+    }
+
+    /**
+     * @see ITextFontRegistry#addFontDirectory(String, boolean, File)
+     */
+    public void addFontDirectory(String dir, boolean embedded, File indexFile)
+            throws DocumentException, IOException {
+        _fontRegistry.addFontDirectory(dir, embedded, indexFile);
     }
 
     public void addFont(String path, boolean embedded)
             throws DocumentException, IOException {
-        addFont(path, BaseFont.CP1252, embedded);
+        _fontRegistry.addFont(path, embedded);
     }
 
     public void addFont(String path, String encoding, boolean embedded)
             throws DocumentException, IOException {
-        addFont(path, encoding, embedded, null);
+        _fontRegistry.addFont(path, encoding, embedded);
     }
 
     public void addFont(String path, String encoding, boolean embedded, String pathToPFB)
             throws DocumentException, IOException {
-        addFont(path, null, encoding, embedded, pathToPFB);
+        _fontRegistry.addFont(path, encoding, embedded, pathToPFB);
     }
 
     public void addFont(String path, String fontFamilyNameOverride,
                         String encoding, boolean embedded, String pathToPFB)
             throws DocumentException, IOException {
-        String lower = path.toLowerCase();
-        if (lower.endsWith(".otf") || lower.endsWith(".ttf") || lower.indexOf(".ttc,") != -1) {
-            BaseFont font = BaseFont.createFont(path, encoding, embedded);
-
-            String[] fontFamilyNames;
-            if (fontFamilyNameOverride != null) {
-                fontFamilyNames = new String[] { fontFamilyNameOverride };
-            } else {
-                fontFamilyNames = TrueTypeUtil.getFamilyNames(font);
-            }
-
-            for (int i = 0; i < fontFamilyNames.length; i++) {
-                String fontFamilyName = fontFamilyNames[i];
-                FontFamily fontFamily = getFontFamily(fontFamilyName);
-
-                FontDescription descr = new FontDescription(font);
-                try {
-                    TrueTypeUtil.populateDescription(path, font, descr);
-                } catch (Exception e) {
-                    throw new XRRuntimeException(e.getMessage(), e);
-                }
-
-                fontFamily.addFontDescription(descr);
-            }
-        } else if (lower.endsWith(".ttc")) {
-            String[] names = BaseFont.enumerateTTCNames(path);
-            for (int i = 0; i < names.length; i++) {
-                addFont(path + "," + i, fontFamilyNameOverride, encoding, embedded, null);
-            }
-        } else if (lower.endsWith(".afm") || lower.endsWith(".pfm")) {
-            if (embedded && pathToPFB == null) {
-                throw new IOException("When embedding a font, path to PFB/PFA file must be specified");
-            }
-
-            BaseFont font = BaseFont.createFont(
-                    path, encoding, embedded, false, null, readFile(pathToPFB));
-
-            String fontFamilyName;
-            if (fontFamilyNameOverride != null) {
-                fontFamilyName = fontFamilyNameOverride;
-            } else {
-                fontFamilyName = font.getFamilyFontName()[0][3];
-            }
-
-            FontFamily fontFamily = getFontFamily(fontFamilyName);
-
-            FontDescription descr = new FontDescription(font);
-            // XXX Need to set weight, underline position, etc.  This information
-            // is contained in the AFM file (and even parsed by Type1Font), but
-            // unfortunately it isn't exposed to the caller.
-            fontFamily.addFontDescription(descr);
-        } else {
-            throw new IOException("Unsupported font type");
-        }
+        _fontRegistry.addFont(path, fontFamilyNameOverride, encoding, embedded, pathToPFB);
     }
 
     private void addFontFaceFont(
@@ -240,7 +209,7 @@ public class ITextFontResolver implements FontResolver {
             }
 
             for (int i = 0; i < fontFamilyNames.length; i++) {
-                FontFamily fontFamily = getFontFamily(fontFamilyNames[i]);
+                FontFamily fontFamily = getFontFaceFamily(fontFamilyNames[i]);
 
                 FontDescription descr = new FontDescription(font);
                 try {
@@ -263,7 +232,7 @@ public class ITextFontResolver implements FontResolver {
                     name, encoding, embedded, false, afmttf, pfb);
 
             String fontFamilyName = font.getFamilyFontName()[0][3];
-            FontFamily fontFamily = getFontFamily(fontFamilyName);
+            FontFamily fontFamily = getFontFaceFamily(fontFamilyName);
 
             FontDescription descr = new FontDescription(font);
             descr.setFromFontFace(true);
@@ -276,42 +245,35 @@ public class ITextFontResolver implements FontResolver {
         }
     }
 
-    private byte[] readFile(String path) throws IOException {
-        File f = new File(path);
-        if (f.exists()) {
-            ByteArrayOutputStream result = new ByteArrayOutputStream((int)f.length());
-            InputStream is = null;
-            try {
-                is = new FileInputStream(path);
-                byte[] buf = new byte[10240];
-                int i;
-                while ( (i = is.read(buf)) != -1) {
-                    result.write(buf, 0, i);
-                }
-                is.close();
-                is = null;
-
-                return result.toByteArray();
-            } finally {
-                if (is != null) {
-                    try {
-                        is.close();
-                    } catch (IOException e) {
-                        // ignore
-                    }
-                }
-            }
-        } else {
-            throw new IOException("File " + path + " does not exist or is not accessible");
+    /**
+     * Returns the font family called <code>fontFamilyName</code> including
+     * any fonts from <code>@font-face</code> rules or <code>null</code> if 
+     * there is no such family.
+     */
+    public FontFamily getFontFamily(String fontFamilyName) {
+        FontFamily fontFamily = (FontFamily)_fontFaceFamilies.get(fontFamilyName);
+        if (fontFamily == null) {
+            fontFamily = _fontRegistry.getFontFamily(fontFamilyName);
         }
+        return fontFamily;
     }
 
-    public FontFamily getFontFamily(String fontFamilyName) {
-        FontFamily fontFamily = (FontFamily)_fontFamilies.get(fontFamilyName);
+    /**
+     * Returns the family <code>@font-face</code> fonts for 
+     * <code>fontFamilyName</code> should be added to.  It starts out as a copy
+     * of the registry's family (if any) so the registry is never modified.
+     */
+    private FontFamily getFontFaceFamily(String fontFamilyName) {
+        FontFamily fontFamily = (FontFamily)_fontFaceFamilies.get(fontFamilyName);
         if (fontFamily == null) {
-            fontFamily = new FontFamily();
-            fontFamily.setName(fontFamilyName);
-            _fontFamilies.put(fontFamilyName, fontFamily);
+            FontFamily registered = _fontRegistry.getFontFamily(fontFamilyName);
+            if (registered != null) {
+                fontFamily = registered.copy();
+            } else {
+                fontFamily = new FontFamily();
+                fontFamily.setName(fontFamilyName);
+            }
+            _fontFaceFamilies.put(fontFamilyName, fontFamily);
         }
         return fontFamily;
     }
@@ -360,13 +322,20 @@ public class ITextFontResolver implements FontResolver {
     private FSFont resolveFont(SharedContext ctx, String fontFamily, float size, IdentValue weight, IdentValue style, IdentValue variant) {
         String normalizedFontFamily = normalizeFontFamily(fontFamily);
 
+        int generation = _fontRegistry.getGeneration();
+        if (generation != _fontRegistryGeneration) {
+            // Fonts were added to the registry
+            _fontCache = new HashMap();
+            _fontRegistryGeneration = generation;
+        }
+
         String cacheKey = getHashName(normalizedFontFamily, weight, style);
         FontDescription result = (FontDescription)_fontCache.get(cacheKey);
         if (result != null) {
             return new ITextFSFont(result, size);
         }
 
-        FontFamily family = (FontFamily)_fontFamilies.get(normalizedFontFamily);
+        FontFamily family = getFontFamily(normalizedFontFamily);
         if (family != null) {
             result = family.match(convertWeightToInt(weight), style);
             if (result != null) {
@@ -416,85 +385,26 @@ public class ITextFontResolver implements FontResolver {
         return name + "-" + weight + "-" + style;
     }
 
-    private static Map createInitialFontMap() {
-        HashMap result = new HashMap();
-
-        try {
-            addCourier(result);
-            addTimes(result);
-            addHelvetica(result);
-        } catch (DocumentException e) {
-            throw new RuntimeException(e.getMessage(), e);
-        } catch (IOException e) {
-            throw new RuntimeException(e.getMessage(), e);
-        }
-
-        return result;
-    }
-
-    private static BaseFont createFont(String name) throws DocumentException, IOException {
-        return BaseFont.createFont(name, "winansi", true);
-    }
-
-    private static void addCourier(HashMap result) throws DocumentException, IOException {
-        FontFamily courier = new FontFamily();
-        courier.setName("Courier");
-
-        courier.addFontDescription(new FontDescription(
-                createFont(BaseFont.COURIER_BOLDOBLIQUE), IdentValue.OBLIQUE, 700));
-        courier.addFontDescription(new FontDescription(
-                createFont(BaseFont.COURIER_OBLIQUE), IdentValue.OBLIQUE, 400));
-        courier.addFontDescription(new FontDescription(
-                createFont(BaseFont.COURIER_BOLD), IdentValue.NORMAL, 700));
-        courier.addFontDescription(new FontDescription(
-                createFont(BaseFont.COURIER), IdentValue.NORMAL, 400));
-
-        result.put("DialogInput", courier);
-        result.put("Monospaced", courier);
-        result.put("Courier", courier);
-    }
-
-    private static void addTimes(HashMap result) throws DocumentException, IOException {
-        FontFamily times = new FontFamily();
-        times.setName("Times");
-
-        times.addFontDescription(new FontDescription(
-                createFont(BaseFont.TIMES_BOLDITALIC), IdentValue.ITALIC, 700));
-        times.addFontDescription(new FontDescription(
-                createFont(BaseFont.TIMES_ITALIC), IdentValue.ITALIC, 400));
-        times.addFontDescription(new FontDescription(
-                createFont(BaseFont.TIMES_BOLD), IdentValue.NORMAL, 700));
-        times.addFontDescription(new FontDescription(
-                createFont(BaseFont.TIMES_ROMAN), IdentValue.NORMAL, 400));
-
-        result.put("Serif", times);
-        result.put("TimesRoman", times);
-    }
-
-    private static void addHelvetica(HashMap result) throws DocumentException, IOException {
-        FontFamily helvetica = new FontFamily();
-        helvetica.setName("Helvetica");
-
-        helvetica.addFontDescription(new FontDescription(
-                createFont(BaseFont.HELVETICA_BOLDOBLIQUE), IdentValue.OBLIQUE, 700));
-        helvetica.addFontDescription(new FontDescription(
-                createFont(BaseFont.HELVETICA_OBLIQUE), IdentValue.OBLIQUE, 400));
-        helvetica.addFontDescription(new FontDescription(
-                createFont(BaseFont.HELVETICA_BOLD), IdentValue.NORMAL, 700));
-        helvetica.addFontDescription(new FontDescription(
-                createFont(BaseFont.HELVETICA), IdentValue.NORMAL, 400));
-
-        result.put("Dialog", helvetica);
-        result.put("SansSerif", helvetica);
-    }
-
-    private static class FontFamily {
+    static class FontFamily {
         private String _name;
         private List _fontDescriptions;
 
         public FontFamily() {
         }
 
+        /**
+         * Returns a copy of this family which can be modified without 
+         * affecting this family.  The font descriptions are shared.
+         */
+        public FontFamily copy() {
+            FontFamily result = new FontFamily();
+            result._name = _name;
+            if (_fontDescriptions != null) {
+                result._fontDescriptions = new ArrayList(_fontDescriptions);
+            }
+            return result;
+        }
+
         public List getFontDescriptions() {
             return _fontDescriptions;
         }
@@ -619,7 +529,8 @@ public class ITextFontResolver implements FontResolver {
         private IdentValue _style;
         private int _weight;
 
-        private BaseFont _font;
+        private volatile BaseFont _font;
+        private LazyFont _lazyFont;
 
         private float _underlinePosition;
         private float _underlineThickness;
@@ -643,12 +554,26 @@ public class ITextFontResolver implements FontResolver {
             setMetricDefaults();
         }
 
+        /**
+         * Creates a description whose font isn't loaded until it's first
+         * needed.  The style, weight and metrics must be set by the caller.
+         */
+        FontDescription(LazyFont lazyFont) {
+            _lazyFont = lazyFont;
+        }
+
         public BaseFont getFont() {
-            return _font;
+            BaseFont font = _font;
+            if (font == null && _lazyFont != null) {
+                font = _lazyFont.getFont();
+                _font = font;
+            }
+            return font;
         }
 
         public void setFont(BaseFont font) {
             _font = font;
+            _lazyFont = null;
         }
 
         public int getWeight() {
@@ -727,4 +652,38 @@ public class ITextFontResolver implements FontResolver {
             _isFromFontFace = isFromFontFace;
         }
     }
+
+    /**
+     * A font file which is only read the first time one of its
+     * {@link FontDescription}s is actually used.  All descriptions of the
+     * file share the same instance so the file is only read (and embedded)
+     * once.
+     */
+    static class LazyFont {
+        private final String _path;
+        private final String _encoding;
+        private final boolean _embedded;
+
+        private BaseFont _font;
+
+        LazyFont(String path, String encoding, boolean embedded) {
+            _path = path;
+            _encoding = encoding;
+            _embedded = embedded;
+        }
+
+        synchronized BaseFont getFont() {
+            if (_font == null) {
+                try {
+                    _font = BaseFont.createFont(_path, _encoding, _embedded);
+                } catch (DocumentException e) {
+                    throw new XRRuntimeException("Could not load font " + _path, e);
+                } catch (IOException e) {
+                    throw new XRRuntimeException("Could not load font " + _path, e);
+                }
+                XRLog.load("Loaded font " + _path);
+            }
+            return _font;
+        }
+    }
 }
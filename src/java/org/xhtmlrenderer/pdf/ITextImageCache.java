@@ -0,0 +1,251 @@
+/*
+ * {{{ header & license
+ * Copyright (c) 2009 Wisconsin Court System
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * as published by the Free Software Foundation; either version 2.1
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ * }}}
+ */
+package org.xhtmlrenderer.pdf;
+
+import java.io.IOException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+import org.xhtmlrenderer.util.Configuration;
+import org.xhtmlrenderer.util.LRUCache;
+import org.xhtmlrenderer.util.XRLog;
+
+import com.lowagie.text.BadElementException;
+import com.lowagie.text.Element;
+import com.lowagie.text.Image;
+
+/**
+ * A cache of decoded iText {@link Image}s which may be shared by any number
+ * of {@link ITextUserAgent}s on any number of threads, so an image used by
+ * many documents (e.g. a logo) is only decoded once per process.
+ * <p>
+ * Entries are identified by the image's URI and a validator: by default a
+ * digest of the image's content (see
+ * {@link LRUCache#createContentValidator(byte[])}), so a changed image
+ * is never mistaken for the cached one.  With
+ * {@link LRUCache#VALIDATE_LAST_MODIFIED} local files are validated by
+ * their modification time and length and don't need to be read at all.
+ * <p>
+ * The cached images are never modified or handed out.  Callers get a copy
+ * (which shares the image data) they are free to scale.  If several threads
+ * ask for the same image at the same time, one of them decodes it and the
+ * others wait for it.  Images which iText ties to a particular PDF (like
+ * WMF images) aren't cached.
+ * <p>
+ * Lookups don't lock (see {@link LRUCache}).  The cache is bounded by the
+ * number of entries and the size of the image data.
+ */
+public class ITextImageCache {
+    private static ITextImageCache _sharedInstance;
+
+    private final LRUCache _cache;
+    private final ConcurrentHashMap _loading = new ConcurrentHashMap();
+
+    private final int _validation;
+
+    /**
+     * @param validation One of the <code>VALIDATE_*</code> constants of
+     * {@link LRUCache}
+     */
+    public ITextImageCache(int maxEntries, long maxBytes, int validation) {
+        _cache = new LRUCache("image", maxEntries, maxBytes);
+        _validation = validation;
+    }
+
+    /**
+     * Returns the process-wide cache.  Its size and validation can be
+     * configured with the <code>xr.cache.pdf-images.shared.*</code>
+     * properties.
+     */
+    public static synchronized ITextImageCache getSharedInstance() {
+        if (_sharedInstance == null) {
+            _sharedInstance = new ITextImageCache(
+                    Configuration.valueAsInt("xr.cache.pdf-images.shared.max-entries", 256),
+                    Configuration.valueAsLong("xr.cache.pdf-images.shared.max-kb", 32768) * 1024,
+                    LRUCache.parseValidation(Configuration.valueFor(
+                            "xr.cache.pdf-images.shared.validation", "content"),
+                            LRUCache.VALIDATE_CONTENT));
+        }
+        return _sharedInstance;
+    }
+
+    public int getValidation() {
+        return _validation;
+    }
+
+    /**
+     * Returns a copy of the cached image for <code>uri</code> if it can be
+     * validated without reading the image (i.e. validation is by
+     * modification time and <code>uri</code> is a local file or validation
+     * is turned off).  Otherwise returns <code>null</code> and the caller
+     * should read the image and call {@link #getImage(String, byte[])}.
+     */
+    public Image get(String uri) {
+        if (_validation == LRUCache.VALIDATE_NONE) {
+            return get(uri, null, true);
+        } else if (_validation == LRUCache.VALIDATE_LAST_MODIFIED) {
+            String validator = LRUCache.createLastModifiedValidator(uri);
+            if (validator != null) {
+                return get(uri, validator, true);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns a copy of the image at <code>uri</code>, whose content is
+     * <code>content</code>, decoding it only if it isn't cached yet.
+     */
+    public Image getImage(final String uri, final byte[] content)
+            throws IOException, BadElementException {
+        String validator;
+        if (_validation == LRUCache.VALIDATE_NONE) {
+            validator = null;
+        } else if (_validation == LRUCache.VALIDATE_LAST_MODIFIED &&
+                (validator = LRUCache.createLastModifiedValidator(uri)) != null) {
+            // validator set
+        } else {
+            validator = LRUCache.createContentValidator(content);
+        }
+
+        // a miss was already counted by get(String) if the caller could 
+        // have used it
+        Image result = get(uri, validator, 
+                validator != null && ! validator.startsWith("lm:"));
+        if (result != null) {
+            return result;
+        }
+
+        final String v = validator;
+        FutureTask task = new FutureTask(new Callable() {
+            public Object call() throws Exception {
+                Image image = Image.getInstance(content);
+                if (isCacheable(image)) {
+                    _cache.put(uri, v, image, Math.max(content.length, getSize(image)));
+                }
+                return image;
+            }
+        });
+
+        Object key = uri + '\n' + validator;
+        FutureTask existing = (FutureTask)_loading.putIfAbsent(key, task);
+        if (existing == null) {
+            try {
+                task.run();
+            } finally {
+                _loading.remove(key);
+            }
+            existing = task;
+        } else {
+            XRLog.load("Waiting for image " + uri + " to be decoded by another thread");
+        }
+
+        try {
+            return Image.getInstance((Image)existing.get());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for " + uri);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException)cause;
+            } else if (cause instanceof BadElementException) {
+                throw (BadElementException)cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException)cause;
+            } else {
+                throw new RuntimeException(cause.getMessage(), cause);
+            }
+        }
+    }
+
+    /**
+     * Returns <code>true</code> if <code>image</code> can be used by any
+     * number of PDFs at the same time
+     */
+    private static boolean isCacheable(Image image) {
+        switch (image.type()) {
+            case Element.JPEG:
+            case Element.JPEG2000:
+            case Element.IMGRAW:
+            case Element.JBIG2:
+                return image.getImageMask() == null || isCacheable(image.getImageMask());
+            default:
+                return false;
+        }
+    }
+
+    private Image get(String uri, String validator, boolean countMiss) {
+        Image image = (Image)_cache.get(uri, validator, countMiss);
+        return image == null ? null : Image.getInstance(image);
+    }
+
+    public void clear() {
+        _cache.clear();
+    }
+
+    /**
+     * Returns the size of the (encoded) data of <code>image</code>
+     */
+    static long getSize(Image image) {
+        if (image == null) {
+            return 0;
+        }
+        long result = 0;
+        if (image.getRawData() != null) {
+            result += image.getRawData().length;
+        }
+        if (image.getOriginalData() != null && image.getOriginalData() != image.getRawData()) {
+            result += image.getOriginalData().length;
+        }
+        return result + getSize(image.getImageMask());
+    }
+
+    public long getHitCount() {
+        return _cache.getHitCount();
+    }
+
+    public long getMissCount() {
+        return _cache.getMissCount();
+    }
+
+    public long getEvictionCount() {
+        return _cache.getEvictionCount();
+    }
+
+    public int getSize() {
+        return _cache.size();
+    }
+
+    /**
+     * Returns the (approximate) number of bytes used by the cached images
+     */
+    public long getByteSize() {
+        return _cache.getByteSize();
+    }
+
+    public String toString() {
+        return "ITextImageCache[size=" + getSize() + ", bytes=" + getByteSize() +
+            ", hits=" + getHitCount() + ", misses=" + getMissCount() +
+            ", evictions=" + getEvictionCount() + "]";
+    }
+}
@@ -0,0 +1,393 @@
+/*
+ * {{{ header & license
+ * Copyright (c) 2009 Wisconsin Court System
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * as published by the Free Software Foundation; either version 2.1
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ * }}}
+ */
+package org.xhtmlrenderer.pdf;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.zip.Deflater;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+
+import org.xhtmlrenderer.extend.UserAgentCallback;
+import org.xhtmlrenderer.util.Configuration;
+import org.xhtmlrenderer.util.DownscaleQuality;
+import org.xhtmlrenderer.util.ImageUtil;
+import org.xhtmlrenderer.util.LRUCache;
+import org.xhtmlrenderer.util.ScalingOptions;
+import org.xhtmlrenderer.util.XRLog;
+
+import com.lowagie.text.BadElementException;
+import com.lowagie.text.DocumentException;
+import com.lowagie.text.Element;
+import com.lowagie.text.Image;
+
+/**
+ * Limits the resolution of the images written to a PDF.  An image which 
+ * would be shown at more than the maximum resolution (in dots per inch, 
+ * at the size it is drawn) is resampled to the maximum resolution and 
+ * recompressed before it is handed to iText.  JPEG images are recompressed
+ * as JPEG (with the configured quality), other images losslessly (Flate).
+ * Layout isn't affected: the resampled image is drawn at the same size as 
+ * the original.
+ * <p>
+ * Resampled images are cached by URI, target size and resolution so an
+ * image drawn many times (on many pages or by many documents) is only 
+ * resampled once.  A cached image is only used if the original image is
+ * unchanged: local files are validated by their modification time and
+ * length, other images by a digest of their data (see {@link LRUCache}),
+ * so renderers which decode the same image separately still share the
+ * resampled image.  The cache may be shared by any number of threads.  It
+ * is bounded by the number of entries and the size of the compressed image
+ * data.
+ */
+public class ITextImageResampler {
+    private static ITextImageResampler _sharedInstance;
+    
+    // Marks images which can't (or needn't) be resampled
+    private static final Object NOT_RESAMPLED = new Object();
+    
+    private final float _maxDpi;
+    private final float _jpegQuality;
+    
+    private final LRUCache _cache;
+    // Digests of the data of decoded images by serial id (copies of a
+    // decoded image share its serial id)
+    private final LRUCache _digests;
+    
+    /**
+     * @param maxDpi The maximum resolution of images in the PDF
+     * @param jpegQuality The quality used to recompress JPEG images (between
+     * 0 and 1)
+     * @param maxEntries The maximum number of cached images
+     * @param maxBytes The maximum size of the (compressed) data of the cached
+     * images
+     */
+    public ITextImageResampler(float maxDpi, float jpegQuality, int maxEntries, long maxBytes) {
+        if (maxDpi <= 0) {
+            throw new IllegalArgumentException("The maximum resolution must be positive");
+        }
+        _maxDpi = maxDpi;
+        _jpegQuality = jpegQuality;
+        _cache = new LRUCache("resampled image", maxEntries, maxBytes);
+        _digests = new LRUCache("image digest", maxEntries, Long.MAX_VALUE);
+    }
+    
+    /**
+     * Returns the process-wide resampler configured by the
+     * <code>xr.pdf.images.*</code> and 
+     * <code>xr.cache.pdf-images.resampled.*</code> properties or
+     * <code>null</code> if <code>xr.pdf.images.max-dpi</code> isn't set.
+     */
+    public static synchronized ITextImageResampler getSharedInstance() {
+        float maxDpi = Configuration.valueAsFloat("xr.pdf.images.max-dpi", 0);
+        if (maxDpi <= 0) {
+            return null;
+        }
+        if (_sharedInstance == null) {
+            _sharedInstance = new ITextImageResampler(
+                    maxDpi,
+                    Configuration.valueAsFloat("xr.pdf.images.jpeg-quality", 0.85f),
+                    Configuration.valueAsInt("xr.cache.pdf-images.resampled.max-entries", 256),
+                    Configuration.valueAsLong("xr.cache.pdf-images.resampled.max-kb", 16384) * 1024);
+        }
+        return _sharedInstance;
+    }
+    
+    public float getMaxDpi() {
+        return _maxDpi;
+    }
+    
+    public float getJpegQuality() {
+        return _jpegQuality;
+    }
+    
+    /**
+     * Returns the image to draw instead of <code>image</code> when it is 
+     * shown at <code>width</code> x <code>height</code> points.  Returns
+     * <code>image</code> itself if its resolution isn't too high or it
+     * can't be resampled.
+     * 
+     * @param uri The URI of the image.  If <code>null</code>, the image isn't
+     * resampled.
+     * @param uac Used to read the image again if the original data isn't 
+     * kept with the decoded image
+     */
+    public Image getImage(String uri, Image image, float width, float height, UserAgentCallback uac) {
+        if (uri == null || width <= 0 || height <= 0) {
+            return image;
+        }
+        
+        int pixelWidth = (int)image.getWidth();
+        int pixelHeight = (int)image.getHeight();
+        
+        int targetWidth = Math.min(pixelWidth, (int)Math.ceil(width * _maxDpi / 72));
+        int targetHeight = Math.min(pixelHeight, (int)Math.ceil(height * _maxDpi / 72));
+        if (targetWidth == pixelWidth && targetHeight == pixelHeight) {
+            return image;
+        }
+        
+        String key = uri + '\n' + targetWidth + 'x' + targetHeight + '@' + _maxDpi;
+        String validator = createValidator(uri, image);
+        Object cached = _cache.get(key, validator);
+        if (cached == null) {
+            Image resampled = null;
+            if (isResampleable(image)) {
+                try {
+                    resampled = resample(uri, image, targetWidth, targetHeight, uac);
+                } catch (IOException e) {
+                    // May be temporary (e.g. the image couldn't be read 
+                    // again) so try again next time
+                    XRLog.exception("Can't resample image " + uri, e);
+                    return image;
+                } catch (BadElementException e) {
+                    XRLog.exception("Can't resample image " + uri, e);
+                    return image;
+                }
+            }
+            // Images which can't be resampled are remembered too
+            if (resampled == null) {
+                cached = NOT_RESAMPLED;
+                _cache.put(key, validator, cached, 0);
+            } else {
+                cached = resampled;
+                _cache.put(key, validator, cached, ITextImageCache.getSize(resampled));
+            }
+        }
+        
+        return cached == NOT_RESAMPLED ? image : Image.getInstance((Image)cached);
+    }
+    
+    /**
+     * Returns the validator of the original image: its modification time 
+     * and length if it's a local file, otherwise a digest of its data 
+     * (computed once per decoded image).
+     */
+    private String createValidator(String uri, Image image) {
+        String validator = LRUCache.createLastModifiedValidator(uri);
+        if (validator != null) {
+            return validator;
+        }
+        
+        Long serialId = image.getMySerialId();
+        validator = (String)_digests.get(serialId);
+        if (validator == null) {
+            byte[] data = image.getOriginalData();
+            if (data == null) {
+                data = image.getRawData();
+            }
+            if (data == null) {
+                // Nothing to digest so only the same decoded image matches
+                validator = "serial:" + serialId;
+            } else {
+                validator = LRUCache.createContentValidator(data);
+            }
+            _digests.put(serialId, null, validator, 0);
+        }
+        return validator;
+    }
+    
+    private static boolean isResampleable(Image image) {
+        if (image.type() != Element.JPEG && image.type() != Element.IMGRAW) {
+            return false;
+        }
+        // Only gray and RGB images (CMYK JPEGs can't be decoded by ImageIO)
+        return image.getColorspace() == 1 || image.getColorspace() == 3;
+    }
+    
+    private Image resample(String uri, Image image, int targetWidth, int targetHeight, UserAgentCallback uac) 
+            throws IOException, BadElementException {
+        byte[] data = image.getOriginalData();
+        if (data == null) {
+            data = uac.getBinaryResource(uri);
+            if (data == null) {
+                throw new IOException("Unable to read " + uri + " again");
+            }
+        }
+        
+        BufferedImage decoded = ImageUtil.readImage(
+                new ByteArrayInputStream(data), targetWidth, targetHeight);
+        if (decoded == null) {
+            return null;
+        }
+        
+        boolean gray = decoded.getColorModel().getNumColorComponents() == 1;
+        boolean alpha = decoded.getColorModel().hasAlpha();
+        
+        BufferedImage scaled = scale(decoded, targetWidth, targetHeight, gray, alpha);
+        
+        Image result;
+        if (image.type() == Element.JPEG && ! alpha) {
+            result = Image.getInstance(encodeJpeg(scaled));
+        } else {
+            result = encodeFlate(scaled, gray, alpha);
+        }
+        
+        XRLog.load("Resampled " + uri + " from " + (int)image.getWidth() + "x" + (int)image.getHeight() +
+                " to " + targetWidth + "x" + targetHeight + " (" + ITextImageCache.getSize(image) + 
+                " -> " + ITextImageCache.getSize(result) + " bytes)");
+        
+        return result;
+    }
+    
+    private BufferedImage scale(BufferedImage img, int width, int height, boolean gray, boolean alpha) {
+        // The scalers need an image of a well known type
+        int type = gray && ! alpha ? BufferedImage.TYPE_BYTE_GRAY :
+            alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        if (img.getType() != type) {
+            BufferedImage converted = new BufferedImage(img.getWidth(), img.getHeight(), type);
+            Graphics2D g = converted.createGraphics();
+            g.drawImage(img, 0, 0, null);
+            g.dispose();
+            img = converted;
+        }
+        
+        ScalingOptions opt = new ScalingOptions(
+                width, height, type, 
+                DownscaleQuality.HIGH_QUALITY, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        return ImageUtil.getScaledInstance(opt, img);
+    }
+    
+    private byte[] encodeJpeg(BufferedImage img) throws IOException {
+        Iterator writers = ImageIO.getImageWritersByFormatName("jpeg");
+        if (! writers.hasNext()) {
+            throw new IOException("No JPEG writer available");
+        }
+        ImageWriter writer = (ImageWriter)writers.next();
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        ImageOutputStream ios = ImageIO.createImageOutputStream(result);
+        try {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(_jpegQuality);
+            writer.setOutput(ios);
+            writer.write(null, new IIOImage(img, null, null), param);
+        } finally {
+            writer.dispose();
+            ios.close();
+        }
+        return result.toByteArray();
+    }
+    
+    /**
+     * Creates a (pre-compressed) raw image with a soft mask if 
+     * <code>img</code> has an alpha channel
+     */
+    private Image encodeFlate(BufferedImage img, boolean gray, boolean alpha) 
+            throws BadElementException {
+        int width = img.getWidth();
+        int height = img.getHeight();
+        int components = gray ? 1 : 3;
+        
+        byte[] pixels = new byte[width * height * components];
+        byte[] alphas = alpha ? new byte[width * height] : null;
+        boolean opaque = true;
+        
+        int[] row = new int[width];
+        int p = 0;
+        int a = 0;
+        for (int y = 0; y < height; y++) {
+            img.getRGB(0, y, width, 1, row, 0, width);
+            for (int x = 0; x < width; x++) {
+                int argb = row[x];
+                if (gray) {
+                    pixels[p++] = (byte)argb;
+                } else {
+                    pixels[p++] = (byte)(argb >> 16);
+                    pixels[p++] = (byte)(argb >> 8);
+                    pixels[p++] = (byte)argb;
+                }
+                if (alpha) {
+                    alphas[a] = (byte)(argb >>> 24);
+                    opaque &= alphas[a] == (byte)0xff;
+                    a++;
+                }
+            }
+        }
+        
+        Image result = Image.getInstance(width, height, components, 8, deflate(pixels));
+        result.setDeflated(true);
+        if (alpha && ! opaque) {
+            Image mask = Image.getInstance(width, height, 1, 8, deflate(alphas));
+            mask.setDeflated(true);
+            try {
+                mask.makeMask();
+                result.setImageMask(mask);
+            } catch (DocumentException e) {
+                throw new BadElementException(e);
+            }
+        }
+        return result;
+    }
+    
+    private static byte[] deflate(byte[] data) {
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try {
+            deflater.setInput(data);
+            deflater.finish();
+            ByteArrayOutputStream result = new ByteArrayOutputStream(data.length / 4 + 64);
+            byte[] buf = new byte[8192];
+            while (! deflater.finished()) {
+                int count = deflater.deflate(buf);
+                result.write(buf, 0, count);
+            }
+            return result.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+    
+    public void clear() {
+        _cache.clear();
+    }
+    
+    public int getSize() {
+        return _cache.size();
+    }
+    
+    /**
+     * Returns the size of the compressed data of the cached images
+     */
+    public long getByteSize() {
+        return _cache.getByteSize();
+    }
+    
+    public long getHitCount() {
+        return _cache.getHitCount();
+    }
+    
+    public long getMissCount() {
+        return _cache.getMissCount();
+    }
+    
+    public String toString() {
+        return "ITextImageResampler[max-dpi=" + _maxDpi + ", size=" + getSize() + 
+            ", bytes=" + getByteSize() + ", hits=" + getHitCount() + 
+            ", misses=" + getMissCount() + "]";
+    }
+}
@@ -42,6 +42,7 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -59,7 +60,10 @@ import org.xhtmlrenderer.css.style.CssContext;
 import org.xhtmlrenderer.extend.FSImage;
 import org.xhtmlrenderer.extend.NamespaceHandler;
 import org.xhtmlrenderer.extend.OutputDevice;
+import org.xhtmlrenderer.extend.ReplacedElement;
+import org.xhtmlrenderer.layout.Layer;
 import org.xhtmlrenderer.layout.SharedContext;
+import org.xhtmlrenderer.newtable.TableBox;
 import org.xhtmlrenderer.render.AbstractOutputDevice;
 import org.xhtmlrenderer.render.BlockBox;
 import org.xhtmlrenderer.render.BorderPainter;
@@ -68,12 +72,16 @@ import org.xhtmlrenderer.render.FSFont;
 import org.xhtmlrenderer.render.InlineLayoutBox;
 import org.xhtmlrenderer.render.InlineText;
 import org.xhtmlrenderer.render.JustificationInfo;
+import org.xhtmlrenderer.render.LineBox;
 import org.xhtmlrenderer.render.PageBox;
 import org.xhtmlrenderer.render.RenderingContext;
+import org.xhtmlrenderer.render.TextDecoration;
+import org.xhtmlrenderer.util.Configuration;
 import org.xhtmlrenderer.util.XRRuntimeException;
 
 import com.lowagie.text.DocumentException;
 import com.lowagie.text.Image;
+import com.lowagie.text.pdf.BaseFont;
 import com.lowagie.text.pdf.CMYKColor;
 import com.lowagie.text.pdf.PdfAction;
 import com.lowagie.text.pdf.PdfAnnotation;
@@ -85,6 +93,7 @@ import com.lowagie.text.pdf.PdfImportedPage;
 import com.lowagie.text.pdf.PdfName;
 import com.lowagie.text.pdf.PdfOutline;
 import com.lowagie.text.pdf.PdfReader;
+import com.lowagie.text.pdf.PdfTemplate;
 import com.lowagie.text.pdf.PdfTextArray;
 import com.lowagie.text.pdf.PdfWriter;
 
@@ -106,6 +115,12 @@ public class ITextOutputDevice extends AbstractOutputDevice implements OutputDev
     
     private ITextFSFont _font;
     
+    // Text is drawn in one text object (BT ... ET) until something other
+    // than text is drawn.  The font and size are only set when they change.
+    private boolean _inText;
+    private BaseFont _textFont;
+    private float _textFontSize;
+    
     private AffineTransform _transform = new AffineTransform();
     
     private Color _color = Color.BLACK;
@@ -138,12 +153,54 @@ public class ITextOutputDevice extends AbstractOutputDevice implements OutputDev
     
     private Set _linkTargetAreas;
     
+    private static final int MARGIN_AREA_STATIC = 0;
+    private static final int MARGIN_AREA_DYNAMIC = 1;
+    private static final int MARGIN_AREA_UNSHAREABLE = 2;
+    
+    private static final int PAINT_ALL_LINES = 0;
+    private static final int PAINT_STATIC_LINES = 1;
+    private static final int PAINT_DYNAMIC_LINES = 2;
+    
+    private final boolean _useMarginAreaTemplates;
+    
+    // margin area table -> MarginAreaTemplate
+    private final Map _marginAreaTemplates = new IdentityHashMap();
+    
+    private int _paintLines = PAINT_ALL_LINES;
+    // When painting only the dynamic lines of a margin area, everything else
+    // is suppressed
+    private boolean _suppressDrawing;
+    // Whether anything (but a clip) was drawn since this was last reset
+    private boolean _drawn;
+    // When probing, nothing is drawn, but _drawn is still set
+    private boolean _probing;
+    
+    private ITextImageResampler _imageResampler;
+    
     public ITextOutputDevice(float dotsPerPoint) {
         _dotsPerPoint = dotsPerPoint;
+        _useMarginAreaTemplates = Configuration.isTrue("xr.pdf.margin-area-templates", true);
+        _imageResampler = ITextImageResampler.getSharedInstance();
+    }
+    
+    /**
+     * Sets the resampler which limits the resolution of the images written
+     * to the PDF (by default the process-wide one if the
+     * <code>xr.pdf.images.max-dpi</code> property is set).  May be 
+     * <code>null</code> to embed all images as they are.
+     */
+    public void setImageResampler(ITextImageResampler imageResampler) {
+        _imageResampler = imageResampler;
+    }
+    
+    public ITextImageResampler getImageResampler() {
+        return _imageResampler;
     }
     
     public void setWriter(PdfWriter writer) {
         _writer = writer;
+        // Templates belong to the writer which created them
+        _marginAreaTemplates.clear();
     }
     
     public PdfWriter getWriter() {
@@ -158,6 +215,9 @@ public class ITextOutputDevice extends AbstractOutputDevice implements OutputDev
         _currentPage = currentPage;
         _pageHeight = height;
         
+        _inText = false;
+        _textFont = null;
+        
         _currentPage.saveState();
         
         _transform = new AffineTransform();
@@ -178,16 +238,294 @@ public class ITextOutputDevice extends AbstractOutputDevice implements OutputDev
     }
     
     public void finishPage() {
+        endText();
         _currentPage.restoreState();
     }
     
+    /**
+     * Paints the margin areas of <code>page</code>.  A margin area which is
+     * shared by several pages (see {@link PageBox#isSharedMarginArea(int)})
+     * is written once to a <code>PdfTemplate</code> which every page then
+     * references.  Lines which contain page counters (e.g. "Page 3 of 10")
+     * are left out of the template and painted on each page on top of it.
+     * Margin areas which contain links or form fields are painted on each
+     * page as usual.
+     */
+    public void paintMarginAreas(RenderingContext c, PageBox page) {
+        for (int i = 0; i < page.getMarginAreaCount(); i++) {
+            TableBox table = page.getMarginArea(i);
+            if (table == null) {
+                continue;
+            }
+            
+            MarginAreaTemplate template = null;
+            if (_useMarginAreaTemplates && page.isSharedMarginArea(i)) {
+                template = getMarginAreaTemplate(c, page, i, table);
+            }
+            
+            if (template == null) {
+                page.paintMarginArea(c, i, 0, Layer.PAGED_MODE_PRINT);
+            } else {
+                endText();
+                _currentPage.addTemplate(template.getTemplate(), 0, 0);
+                if (template.isDynamic()) {
+                    paintMarginArea(c, page, i, PAINT_DYNAMIC_LINES);
+                }
+            }
+        }
+    }
+    
+    private MarginAreaTemplate getMarginAreaTemplate(
+            RenderingContext c, PageBox page, int which, TableBox table) {
+        Point position = page.getMarginAreaPaintingPosition(c, which, 0, Layer.PAGED_MODE_PRINT);
+        
+        MarginAreaTemplate result = (MarginAreaTemplate)_marginAreaTemplates.get(table);
+        if (result == null) {
+            // Don't create a template until the margin area is used by a 
+            // second page
+            _marginAreaTemplates.put(table, new MarginAreaTemplate(position, _pageHeight));
+            return null;
+        }
+        
+        // The template is drawn in page coordinates
+        if (result.getPageHeight() != _pageHeight || ! result.getPosition().equals(position)) {
+            return null;
+        }
+        
+        if (! result.isChecked()) {
+            int type = getMarginAreaContentType(table);
+            if (type != MARGIN_AREA_UNSHAREABLE) {
+                // If everything is dynamic (e.g. just "Page 3 of 10"), the
+                // template would be empty.  iText writes every template it
+                // creates so find out first.
+                if (hasStaticContent(c, page, which)) {
+                    result.setTemplate(createMarginAreaTemplate(c, page, which));
+                    result.setDynamic(type == MARGIN_AREA_DYNAMIC);
+                }
+            }
+            result.setChecked(true);
+        }
+        
+        return result.getTemplate() == null ? null : result;
+    }
+    
+    private boolean hasStaticContent(RenderingContext c, PageBox page, int which) {
+        _probing = true;
+        try {
+            paintStaticLines(c, page, which, new PdfContentByte(_writer));
+        } finally {
+            _probing = false;
+        }
+        return _drawn;
+    }
+    
+    private PdfTemplate createMarginAreaTemplate(RenderingContext c, PageBox page, int which) {
+        PdfTemplate result = PdfTemplate.createTemplate(
+                _writer, _writer.getPageSize().getWidth(), _pageHeight);
+        paintStaticLines(c, page, which, result);
+        return result;
+    }
+    
+    private void paintStaticLines(
+            RenderingContext c, PageBox page, int which, PdfContentByte target) {
+        endText();
+        
+        PdfContentByte pageContent = _currentPage;
+        Color fillColor = _fillColor;
+        Color strokeColor = _strokeColor;
+        Stroke oldStroke = _oldStroke;
+        BaseFont textFont = _textFont;
+        float textFontSize = _textFontSize;
+        
+        // The template inherits the graphics state of the page when it is
+        // used so it must set everything it needs itself
+        _currentPage = target;
+        _fillColor = null;
+        _strokeColor = null;
+        _oldStroke = null;
+        _textFont = null;
+        _drawn = false;
+        try {
+            target.saveState();
+            paintMarginArea(c, page, which, PAINT_STATIC_LINES);
+            endText();
+            target.restoreState();
+        } finally {
+            _inText = false;
+            _currentPage = pageContent;
+            _fillColor = fillColor;
+            _strokeColor = strokeColor;
+            _oldStroke = oldStroke;
+            _textFont = textFont;
+            _textFontSize = textFontSize;
+        }
+    }
+    
+    private void paintMarginArea(RenderingContext c, PageBox page, int which, int lines) {
+        _paintLines = lines;
+        _suppressDrawing = lines == PAINT_DYNAMIC_LINES;
+        try {
+            page.paintMarginArea(c, which, 0, Layer.PAGED_MODE_PRINT);
+        } finally {
+            _paintLines = PAINT_ALL_LINES;
+            _suppressDrawing = false;
+        }
+    }
+    
+    /**
+     * Returns whether <code>box</code> looks the same on every page 
+     * (<code>MARGIN_AREA_STATIC</code>), whether only some of its lines 
+     * change (<code>MARGIN_AREA_DYNAMIC</code>) or whether it must be 
+     * painted on each page (<code>MARGIN_AREA_UNSHAREABLE</code>).
+     */
+    private int getMarginAreaContentType(Box box) {
+        int result = MARGIN_AREA_STATIC;
+        
+        if (box instanceof LineBox) {
+            LineBox line = (LineBox)box;
+            if (line.isContainsDynamicFunction()) {
+                // Only text can be left out of the template
+                if (line.getNonFlowContent().size() > 0 || ! isTextOnly(line)) {
+                    return MARGIN_AREA_UNSHAREABLE;
+                }
+                result = MARGIN_AREA_DYNAMIC;
+            }
+            for (Iterator i = line.getNonFlowContent().iterator(); i.hasNext(); ) {
+                result = Math.max(result, getMarginAreaContentType((Box)i.next()));
+            }
+        }
+        
+        // Links and form fields add annotations to the page
+        Element elem = box.getElement();
+        if (elem != null && _sharedContext.getNamespaceHandler().getLinkUri(elem) != null) {
+            return MARGIN_AREA_UNSHAREABLE;
+        }
+        
+        if (box instanceof BlockBox) {
+            ReplacedElement replaced = ((BlockBox)box).getReplacedElement();
+            if (replaced != null && ! (replaced instanceof ITextImageElement)) {
+                return MARGIN_AREA_UNSHAREABLE;
+            }
+        }
+        
+        if (box instanceof InlineLayoutBox) {
+            InlineLayoutBox iB = (InlineLayoutBox)box;
+            for (int i = 0; i < iB.getInlineChildCount() && result != MARGIN_AREA_UNSHAREABLE; i++) {
+                Object child = iB.getInlineChild(i);
+                if (child instanceof Box) {
+                    result = Math.max(result, getMarginAreaContentType((Box)child));
+                }
+            }
+        } else {
+            for (int i = 0; i < box.getChildCount() && result != MARGIN_AREA_UNSHAREABLE; i++) {
+                result = Math.max(result, getMarginAreaContentType(box.getChild(i)));
+            }
+        }
+        
+        return result;
+    }
+    
+    private boolean isTextOnly(Box box) {
+        if (box instanceof InlineLayoutBox) {
+            InlineLayoutBox iB = (InlineLayoutBox)box;
+            for (int i = 0; i < iB.getInlineChildCount(); i++) {
+                Object child = iB.getInlineChild(i);
+                if (! (child instanceof InlineText || isTextOnly((Box)child))) {
+                    return false;
+                }
+            }
+            return true;
+        } else if (box instanceof LineBox) {
+            for (int i = 0; i < box.getChildCount(); i++) {
+                if (! isTextOnly(box.getChild(i))) {
+                    return false;
+                }
+            }
+            return true;
+        } else {
+            return false;
+        }
+    }
+    
+    /**
+     * Returns whether the content of <code>line</code> is painted when
+     * only the static or only the dynamic lines of a margin area are painted
+     * (see {@link #paintMarginAreas(RenderingContext, PageBox)}).  If it 
+     * returns <code>true</code>, the caller must call 
+     * {@link #endLineContent()} when it is done.
+     */
+    private boolean startLineContent(LineBox line) {
+        if (_paintLines == PAINT_ALL_LINES) {
+            return true;
+        } else if (_paintLines == PAINT_STATIC_LINES) {
+            return ! line.isContainsDynamicFunction();
+        } else if (line.isContainsDynamicFunction()) {
+            _suppressDrawing = false;
+            return true;
+        } else {
+            return false;
+        }
+    }
+    
+    private void endLineContent() {
+        _suppressDrawing = _paintLines == PAINT_DYNAMIC_LINES;
+    }
+    
+    /**
+     * Returns whether something may be drawn now (and records that it was)
+     */
+    private boolean isDrawing() {
+        if (_suppressDrawing) {
+            return false;
+        }
+        _drawn = true;
+        return ! _probing;
+    }
+    
+    public void drawText(RenderingContext c, InlineText inlineText) {
+        if (startLineContent(inlineText.getParent().getLineBox())) {
+            super.drawText(c, inlineText);
+            endLineContent();
+        }
+    }
+    
+    public void drawTextDecoration(
+            RenderingContext c, InlineLayoutBox iB, TextDecoration decoration) {
+        if (startLineContent(iB.getLineBox())) {
+            super.drawTextDecoration(c, iB, decoration);
+            endLineContent();
+        }
+    }
+    
+    public void drawTextDecoration(RenderingContext c, LineBox lineBox) {
+        if (startLineContent(lineBox)) {
+            super.drawTextDecoration(c, lineBox);
+            endLineContent();
+        }
+    }
+    
+    public void paintBorder(RenderingContext c, Box box) {
+        if (! (box instanceof InlineLayoutBox)) {
+            super.paintBorder(c, box);
+        } else if (startLineContent(((InlineLayoutBox)box).getLineBox())) {
+            super.paintBorder(c, box);
+            endLineContent();
+        }
+    }
+    
+
     public void paintReplacedElement(RenderingContext c, BlockBox box) {
         ITextReplacedElement element = (ITextReplacedElement)box.getReplacedElement();
         element.paint(c, this, box);
     }
     
     public void paintBackground(RenderingContext c, Box box) {
-        super.paintBackground(c, box);
+        if (! (box instanceof InlineLayoutBox)) {
+            super.paintBackground(c, box);
+        } else if (startLineContent(((InlineLayoutBox)box).getLineBox())) {
+            super.paintBackground(c, box);
+            endLineContent();
+        }
         
         processLink(c, box);
     }
@@ -466,28 +804,54 @@ public class ITextOutputDevice extends AbstractOutputDevice implements OutputDev
     }
     
     public void drawString(String s, float x, float y, JustificationInfo info) {
-        if (s.length() == 0)
+        if (s.length() == 0 || ! isDrawing())
             return;
         PdfContentByte cb = _currentPage;
         ensureFillColor();
-        AffineTransform at = (AffineTransform)getTransform().clone();
-        at.translate(x, y);
-        AffineTransform inverse = normalizeMatrix(at);
-        AffineTransform flipper = AffineTransform.getScaleInstance(1, -1);
-        inverse.concatenate(flipper);
-        inverse.scale(_dotsPerPoint, _dotsPerPoint);
-        double[] mx = new double[6];
-        inverse.getMatrix(mx);
-        cb.beginText();
-        cb.setFontAndSize(_font.getFontDescription().getFont(), _font.getSize2D() / _dotsPerPoint);
-        cb.setTextMatrix((float)mx[0], (float)mx[1], (float)mx[2], (float)mx[3], (float)mx[4], (float)mx[5]);
+        
+        if (! _inText) {
+            cb.beginText();
+            _inText = true;
+        }
+        
+        BaseFont font = _font.getFontDescription().getFont();
+        float fontSize = _font.getSize2D() / _dotsPerPoint;
+        if (font != _textFont || fontSize != _textFontSize) {
+            cb.setFontAndSize(font, fontSize);
+            _textFont = font;
+            _textFontSize = fontSize;
+        }
+        
+        // Same as normalizeMatrix(transform * translate(x, y)) * 
+        // scale(1, -1) * scale(dotsPerPoint, dotsPerPoint)
+        AffineTransform t = _transform;
+        double tx = t.getScaleX() * x + t.getShearX() * y + t.getTranslateX();
+        double ty = t.getShearY() * x + t.getScaleY() * y + t.getTranslateY();
+        cb.setTextMatrix(
+                (float)(t.getScaleX() * _dotsPerPoint),
+                (float)(-t.getShearY() * _dotsPerPoint),
+                (float)(-t.getShearX() * _dotsPerPoint),
+                (float)(t.getScaleY() * _dotsPerPoint),
+                (float)tx,
+                (float)(_pageHeight - ty));
+        
         if (info == null) {
             cb.showText(s);
         } else {
             PdfTextArray array = makeJustificationArray(s, info);
             cb.showText(array);
         }
-        cb.endText();
+    }
+    
+    /**
+     * Closes the current text object (if any).  This must be called before
+     * anything other than text is written to the page.
+     */
+    private void endText() {
+        if (_inText) {
+            _currentPage.endText();
+            _inText = false;
+        }
     }
 
     private PdfTextArray makeJustificationArray(String s, JustificationInfo info) {
@@ -510,10 +874,6 @@ public class ITextOutputDevice extends AbstractOutputDevice implements OutputDev
         return array;
     }
 
-    private AffineTransform getTransform() {
-        return _transform;
-    }
-    
     private void ensureFillColor() {
         if (! (_color.equals(_fillColor))) {
             _fillColor = _color;
@@ -528,7 +888,14 @@ public class ITextOutputDevice extends AbstractOutputDevice implements OutputDev
         }
     }    
     
+    /**
+     * Returns the content of the current page.  Any pending text is
+     * finished first so the caller can write any content.
+     */
     public PdfContentByte getCurrentPage() {
+        endText();
+        // The caller may change the font (or restore an earlier state)
+        _textFont = null;
         return _currentPage;
     }
     
@@ -536,6 +903,12 @@ public class ITextOutputDevice extends AbstractOutputDevice implements OutputDev
         PdfContentByte cb = _currentPage;
         if (s==null) return;
         
+        if (drawType != CLIP && ! isDrawing()) {
+            return;
+        }
+        
+        endText();
+        
         if (drawType==STROKE) {
             if (!(_stroke instanceof BasicStroke)) {
                 s = _stroke.createStrokedShape(s);
@@ -741,8 +1114,10 @@ public class ITextOutputDevice extends AbstractOutputDevice implements OutputDev
     
     public void setClip(Shape s) {
         PdfContentByte cb = _currentPage;
+        endText();
         cb.restoreState();
         cb.saveState();
+        _textFont = null;
         if (s != null)
             s = _transform.createTransformedShape(s);
         if (s == null) {
@@ -762,6 +1137,10 @@ public class ITextOutputDevice extends AbstractOutputDevice implements OutputDev
     }
     
     public void drawImage(FSImage fsImage, int x, int y) {
+        if (! isDrawing()) {
+            return;
+        }
+        
         if (fsImage instanceof PDFAsImage) {
             drawPDFAsImage((PDFAsImage)fsImage, x, y);
         } else {
@@ -783,6 +1162,16 @@ public class ITextOutputDevice extends AbstractOutputDevice implements OutputDev
             double[] mx = new double[6];
             inverse.getMatrix(mx);
             
+            if (_imageResampler != null) {
+                // The size of the image on the page in points
+                image = _imageResampler.getImage(
+                        ((ITextFSImage)fsImage).getUri(), image,
+                        (float)Math.sqrt(mx[0] * mx[0] + mx[1] * mx[1]),
+                        (float)Math.sqrt(mx[2] * mx[2] + mx[3] * mx[3]),
+                        _sharedContext.getUac());
+            }
+            
+            endText();
             try {
                 _currentPage.addImage(image, 
                         (float)mx[0], (float)mx[1], (float)mx[2], 
@@ -824,11 +1213,13 @@ public class ITextOutputDevice extends AbstractOutputDevice implements OutputDev
         mx[0] = image.scaleWidth();
         mx[3] = image.scaleHeight();
         
+        endText();
         _currentPage.restoreState();
         _currentPage.addTemplate(page,
                 (float)mx[0], (float)mx[1], (float)mx[2],
                 (float)mx[3], (float)mx[4], (float)mx[5]);
         _currentPage.saveState();
+        _textFont = null;
     }
     
     public PdfReader getReader(URL url) throws IOException, URISyntaxException {
@@ -847,10 +1238,12 @@ public class ITextOutputDevice extends AbstractOutputDevice implements OutputDev
     
     public void start(Document doc) {
         loadBookmarks(doc);
+        _marginAreaTemplates.clear();
     }
     
     public void finish(RenderingContext c, Box root) {
         writeOutline(c, root);
+        _marginAreaTemplates.clear();
     }
     
     private void writeOutline(RenderingContext c, Box root) {
@@ -932,6 +1325,59 @@ public class ITextOutputDevice extends AbstractOutputDevice implements OutputDev
         }
     }
     
+    private static class MarginAreaTemplate {
+        private final Point _position;
+        private final float _pageHeight;
+        
+        private boolean _checked;
+        private PdfTemplate _template;
+        private boolean _dynamic;
+        
+        public MarginAreaTemplate(Point position, float pageHeight) {
+            _position = position;
+            _pageHeight = pageHeight;
+        }
+
+        public boolean isChecked() {
+            return _checked;
+        }
+
+        public void setChecked(boolean checked) {
+            _checked = checked;
+        }
+
+        /**
+         * Returns <code>null</code> if the margin area can't be shared
+         */
+        public PdfTemplate getTemplate() {
+            return _template;
+        }
+
+        public void setTemplate(PdfTemplate template) {
+            _template = template;
+        }
+
+        /**
+         * Whether the template leaves out lines which must be painted on 
+         * each page
+         */
+        public boolean isDynamic() {
+            return _dynamic;
+        }
+
+        public void setDynamic(boolean dynamic) {
+            _dynamic = dynamic;
+        }
+
+        public Point getPosition() {
+            return _position;
+        }
+
+        public float getPageHeight() {
+            return _pageHeight;
+        }
+    }
+    
     private static class Bookmark {
         private String _name;
         private String _HRef;
@@ -44,6 +44,7 @@ import javax.xml.transform.stream.StreamResult;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 import org.w3c.dom.Node;
+import org.xhtmlrenderer.css.newmatch.CompiledStylesheets;
 import org.xhtmlrenderer.css.style.CalculatedStyle;
 import org.xhtmlrenderer.extend.NamespaceHandler;
 import org.xhtmlrenderer.extend.UserInterface;
@@ -124,6 +125,7 @@ public class ITextRenderer {
         _sharedContext.setDotsPerPixel(dotsPerPixel);
         _sharedContext.setPrint(true);
         _sharedContext.setInteractive(false);
+        _sharedContext.setSequentialPagePainting(true);
     }
     
     public ITextFontResolver getFontResolver() {
@@ -181,6 +183,28 @@ public class ITextRenderer {
                 doc, new NullUserInterface());
         getFontResolver().importFontFaces(_sharedContext.getCss().getFontFaceRules());
     }
+    
+    /**
+     * Compiles the default XHTML stylesheet and the stylesheets at 
+     * <code>uris</code>.  The result is immutable and can be passed to
+     * {@link #setCompiledStylesheets(CompiledStylesheets)} of any number of
+     * renderers (on any thread) which render documents using the same
+     * stylesheets.
+     */
+    public CompiledStylesheets compileStylesheets(String[] uris) {
+        return _sharedContext.getCss().compileStylesheets(
+                new XhtmlNamespaceHandler(), uris, _sharedContext.getMedia());
+    }
+    
+    /**
+     * Sets the precompiled stylesheets used by subsequent calls to 
+     * <code>setDocument()</code>.  A document reuses the compiled form of
+     * the stylesheets it links to.  Only its other stylesheets are compiled
+     * when the document is set.
+     */
+    public void setCompiledStylesheets(CompiledStylesheets compiled) {
+        _sharedContext.getCss().setCompiledStylesheets(compiled);
+    }
 
     public PDFEncryption getPDFEncryption() {
         return _pdfEncryption;
@@ -214,6 +238,7 @@ public class ITextRenderer {
         Dimension dim = root.getLayer().getPaintingDimension(c);
         root.getLayer().trimEmptyPages(c, dim.height);
         root.getLayer().layoutPages(c);
+        root.getLayer().createPagedBoxIndex(c);
         _root = root;
     }
     
@@ -273,6 +298,38 @@ public class ITextRenderer {
         writePDF(pages, c, firstPageSize, _pdfDoc, _writer);
     }
     
+    /**
+     * Drops the references to the current document, its box tree and the 
+     * last PDF written so they can be garbage collected while the renderer
+     * is idle.
+     */
+    void releaseDocument() {
+        releaseLayout();
+        _pdfDoc = null;
+        _writer = null;
+    }
+    
+    /**
+     * Drops the references to the current document and its box tree (but
+     * not the PDF being written).  Used when writing a series of documents
+     * to the same PDF.
+     */
+    void releaseLayout() {
+        _doc = null;
+        _root = null;
+        _outputDevice.setRoot(null);
+    }
+    
+    /**
+     * Makes subsequent calls to {@link #writeNextDocument()} append to the
+     * PDF <code>other</code> is writing.  <code>other</code> must not write
+     * to the PDF at the same time.
+     */
+    void continuePDF(ITextRenderer other) {
+        _pdfDoc = other._pdfDoc;
+        _writer = other._writer;
+    }
+    
     public void finishPDF() {
         if (_pdfDoc != null) {
             fireOnClose();
@@ -371,7 +428,7 @@ public class ITextRenderer {
         provideMetadataToPage(writer, page);
         
         page.paintBackground(c, 0, Layer.PAGED_MODE_PRINT);
-        page.paintMarginAreas(c, 0, Layer.PAGED_MODE_PRINT);        
+        _outputDevice.paintMarginAreas(c, page);
         page.paintBorder(c, 0, Layer.PAGED_MODE_PRINT);
         
         Shape working = _outputDevice.getClip();
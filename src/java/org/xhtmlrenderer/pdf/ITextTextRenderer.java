@@ -29,12 +29,36 @@ import org.xhtmlrenderer.pdf.ITextFontResolver.FontDescription;
 import org.xhtmlrenderer.render.FSFont;
 import org.xhtmlrenderer.render.FSFontMetrics;
 import org.xhtmlrenderer.render.JustificationInfo;
+import org.xhtmlrenderer.render.TextWidthCache;
+import org.xhtmlrenderer.util.Configuration;
 
 import com.lowagie.text.pdf.BaseFont;
 
 public class ITextTextRenderer implements TextRenderer {
     private static float TEXT_MEASURING_DELTA = 0.01f;
-    
+
+    private TextWidthCache _widthCache;
+
+    public ITextTextRenderer() {
+        int maxWords = Configuration.valueAsInt(
+                "xr.text.width-cache.max-words", TextWidthCache.DEFAULT_MAX_WORDS);
+        if (maxWords > 0) {
+            _widthCache = new TextWidthCache(maxWords);
+        }
+    }
+
+    /**
+     * Returns the cache of measured text widths or <code>null</code> if
+     * widths aren't cached.
+     */
+    public TextWidthCache getWidthCache() {
+        return _widthCache;
+    }
+
+    public void setWidthCache(TextWidthCache widthCache) {
+        _widthCache = widthCache;
+    }
+
     public void setup(FontContext context) {
     }
 
@@ -69,6 +93,24 @@ public class ITextTextRenderer implements TextRenderer {
     }
 
     public int getWidth(FontContext context, FSFont font, String string) {
+        return getWidth(context, font, string, 0, string.length());
+    }
+
+    public int getWidth(FontContext context, FSFont font, String string, int start, int end) {
+        TextWidthCache widthCache = _widthCache;
+        if (widthCache == null) {
+            return measureWidth(font, string.substring(start, end));
+        }
+
+        int result = widthCache.getWidth(font, string, start, end);
+        if (result == -1) {
+            result = measureWidth(font, string.substring(start, end));
+            widthCache.putWidth(font, string, start, end, result);
+        }
+        return result;
+    }
+
+    private int measureWidth(FSFont font, String string) {
         BaseFont bf = ((ITextFSFont)font).getFontDescription().getFont();
         float result = bf.getWidthPoint(string, font.getSize2D());
         if (result - Math.floor(result) < TEXT_MEASURING_DELTA) {
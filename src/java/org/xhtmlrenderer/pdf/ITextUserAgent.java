@@ -20,6 +20,7 @@
  */
 package org.xhtmlrenderer.pdf;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
@@ -27,7 +28,9 @@ import java.net.URISyntaxException;
 
 import org.xhtmlrenderer.layout.SharedContext;
 import org.xhtmlrenderer.resource.ImageResource;
+import org.xhtmlrenderer.resource.ImageResourceCache;
 import org.xhtmlrenderer.swing.NaiveUserAgent;
+import org.xhtmlrenderer.util.Configuration;
 import org.xhtmlrenderer.util.XRLog;
 
 import com.lowagie.text.BadElementException;
@@ -42,15 +45,43 @@ public class ITextUserAgent extends NaiveUserAgent {
     
     private ITextOutputDevice _outputDevice;
     
+    private ITextImageCache _sharedImageCache;
+    
+    /**
+     * Sizes iText images by their (encoded) image data
+     */
+    private static final ImageResourceCache.Weigher WEIGHER = new ImageResourceCache.Weigher() {
+        public long weigh(ImageResource resource) {
+            if (resource.getImage() instanceof ITextFSImage) {
+                return ITextImageCache.getSize(((ITextFSImage)resource.getImage()).getImage());
+            } else if (resource.getImage() instanceof PDFAsImage) {
+                return 0;
+            } else {
+                return ImageResourceCache.DEFAULT_WEIGHER.weigh(resource);
+            }
+        }
+    };
+    
     public ITextUserAgent(ITextOutputDevice outputDevice) {
 		super(IMAGE_CACHE_CAPACITY);
 		_outputDevice = outputDevice;
+		_imageCache.setWeigher(WEIGHER);
+		if (Configuration.isTrue("xr.cache.pdf-images.shared", false)) {
+		    _sharedImageCache = ITextImageCache.getSharedInstance();
+		}
     }
     
     public ImageResource getImageResource(String uri) {
         ImageResource resource = null;
         uri = resolveURI(uri);
         resource = (ImageResource) _imageCache.get(uri);
+        if (resource == null) {
+            Image image = getSharedImage(uri);
+            if (image != null) {
+                resource = new ImageResource(uri, new ITextFSImage(image, uri));
+                _imageCache.put(uri, resource);
+            }
+        }
         if (resource == null) {
             InputStream is = resolveAndOpenStream(uri);
             if (is != null) {
@@ -65,9 +96,9 @@ public class ITextUserAgent extends NaiveUserAgent {
                         image.setInitialHeight(rect.getHeight()*_outputDevice.getDotsPerPoint());
                         resource = new ImageResource(uri, image);
                     } else {
-	                    Image image = Image.getInstance(url);
+	                    Image image = loadImage(uri, url, is);
 	                    scaleToOutputResolution(image);
-	                    resource = new ImageResource(uri, new ITextFSImage(image));
+	                    resource = new ImageResource(uri, new ITextFSImage(image, uri));
                     }
                     _imageCache.put(uri, resource);
                 } catch (IOException e) {
@@ -87,10 +118,69 @@ public class ITextUserAgent extends NaiveUserAgent {
         }
         if (resource == null) {
             resource = new ImageResource(uri, null);
+        } else if (resource.getImage() instanceof ITextFSImage) {
+            // Images are scaled in place so don't hand out the cached one
+            resource = new ImageResource(
+                    uri, ((ITextFSImage)resource.getImage()).copy());
         }
         return resource;
     }
     
+    /**
+     * Returns a copy of the decoded image stored in the shared image cache 
+     * if it can be found without reading the image.  The image data itself 
+     * is not copied.  The copy is not scaled yet.
+     */
+    private Image getSharedImage(String uri) {
+        if (_sharedImageCache == null) {
+            return null;
+        }
+        
+        Image image = _sharedImageCache.get(uri);
+        if (image != null) {
+            scaleToOutputResolution(image);
+        }
+        return image;
+    }
+    
+    /**
+     * Decodes the image at <code>url</code> (or gets a copy from the shared 
+     * image cache if the content of <code>is</code> has been decoded 
+     * before)
+     */
+    private Image loadImage(String uri, URL url, InputStream is) throws IOException, BadElementException {
+        if (_sharedImageCache == null) {
+            return Image.getInstance(url);
+        } else {
+            return _sharedImageCache.getImage(uri, readAll(is));
+        }
+    }
+    
+    private static byte[] readAll(InputStream is) throws IOException {
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        byte[] buf = new byte[10240];
+        int i;
+        while ((i = is.read(buf)) != -1) {
+            result.write(buf, 0, i);
+        }
+        return result.toByteArray();
+    }
+    
+    /**
+     * Sets the cache of decoded images which is shared with other user 
+     * agents (by default none unless the 
+     * <code>xr.cache.pdf-images.shared</code> property is <code>true</code>,
+     * in which case it is the process-wide cache).  May be 
+     * <code>null</code> to not share images.
+     */
+    public void setSharedImageCache(ITextImageCache sharedImageCache) {
+        _sharedImageCache = sharedImageCache;
+    }
+    
+    public ITextImageCache getSharedImageCache() {
+        return _sharedImageCache;
+    }
+    
     private void scaleToOutputResolution(Image image) {
         float factor = _sharedContext.getDotsPerPixel();
         image.scaleAbsolute(image.getPlainWidth() * factor, image.getPlainHeight() * factor);
@@ -0,0 +1,394 @@
+/*
+ * {{{ header & license
+ * Copyright (c) 2009 Wisconsin Court System
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * as published by the Free Software Foundation; either version 2.1
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ * }}}
+ */
+package org.xhtmlrenderer.pdf;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.w3c.dom.Document;
+import org.xhtmlrenderer.context.StylesheetCache;
+import org.xhtmlrenderer.css.newmatch.CompiledStylesheets;
+import org.xhtmlrenderer.extend.UserAgentCallback;
+import org.xhtmlrenderer.util.XRLog;
+
+/**
+ * Renders any number of documents to PDF using a fixed number of worker
+ * threads.  Jobs are queued and run in the order they were submitted.
+ * <p>
+ * Each worker owns an {@link ITextRenderer} which it reuses for all of its
+ * jobs.  Fonts (see {@link ITextFontRegistry#getSharedInstance()}), parsed 
+ * stylesheets (and optionally {@link CompiledStylesheets}) and decoded images
+ * are shared by all workers.
+ * <p>
+ * The service keeps simple metrics: the number of completed and failed jobs,
+ * the queue depth, the throughput and the latency of each phase of
+ * rendering (see the <code>PHASE_*</code> constants).
+ */
+public class PDFRenderingService {
+    /**
+     * Loading the document (only for jobs submitted by URI)
+     */
+    public static final int PHASE_LOAD = 0;
+
+    /**
+     * Setting the document on the renderer (mostly matching and cascading
+     * styles)
+     */
+    public static final int PHASE_STYLE = 1;
+
+    public static final int PHASE_LAYOUT = 2;
+
+    /**
+     * Writing the PDF
+     */
+    public static final int PHASE_RENDER = 3;
+
+    private static final String[] PHASE_NAMES = { "load", "style", "layout", "render" };
+
+    private final ThreadPoolExecutor _executor;
+    private final RendererConfigurer _configurer;
+
+    private final ThreadLocal _renderers = new ThreadLocal();
+
+    private final StylesheetCache _stylesheetCache;
+    private final ITextImageCache _imageCache;
+    private volatile CompiledStylesheets _compiledStylesheets;
+
+    private final long _startTime = System.currentTimeMillis();
+
+    private final AtomicLong _completed = new AtomicLong();
+    private final AtomicLong _failed = new AtomicLong();
+
+    private final AtomicLong[] _phaseCounts = createCounters();
+    private final AtomicLong[] _phaseTimes = createCounters();
+    private final AtomicLong[] _phaseMaxTimes = createCounters();
+
+    public PDFRenderingService(int workerCount) {
+        this(workerCount, null);
+    }
+
+    /**
+     * @param workerCount The number of documents to render at the same time.
+     * Typically the number of available processors.
+     * @param configurer Called once for each renderer created by the service
+     * (may be <code>null</code>)
+     */
+    public PDFRenderingService(int workerCount, RendererConfigurer configurer) {
+        this(workerCount, configurer,
+                StylesheetCache.getSharedInstance(),
+                ITextImageCache.getSharedInstance());
+    }
+
+    /**
+     * @param stylesheetCache The cache of parsed stylesheets used by all
+     * workers
+     * @param imageCache The cache used to share decoded images between
+     * workers or <code>null</code> if images should not be shared
+     */
+    public PDFRenderingService(
+            int workerCount, RendererConfigurer configurer,
+            StylesheetCache stylesheetCache, ITextImageCache imageCache) {
+        if (workerCount < 1) {
+            throw new IllegalArgumentException("At least one worker is required");
+        }
+
+        _configurer = configurer;
+        _stylesheetCache = stylesheetCache;
+        _imageCache = imageCache;
+
+        _executor = new ThreadPoolExecutor(
+                workerCount, workerCount, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue(), new WorkerThreadFactory());
+    }
+
+    private static AtomicLong[] createCounters() {
+        AtomicLong[] result = new AtomicLong[PHASE_NAMES.length];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = new AtomicLong();
+        }
+        return result;
+    }
+
+    /**
+     * Queues the document at <code>uri</code> to be rendered to
+     * <code>os</code>.  The stream is closed when the PDF has been written
+     * (or rendering failed).
+     *
+     * @return A future which completes when the PDF has been written (or
+     * rendering failed).  Its value is the number of pages written.
+     */
+    public Future submit(String uri, OutputStream os) {
+        return _executor.submit(new Job(null, uri, os));
+    }
+
+    /**
+     * Queues <code>doc</code> to be rendered to <code>os</code>.  The
+     * document must not be modified until the job has completed.
+     *
+     * @see #submit(String, OutputStream)
+     */
+    public Future submit(Document doc, String baseURL, OutputStream os) {
+        return _executor.submit(new Job(doc, baseURL, os));
+    }
+
+    /**
+     * Sets the precompiled stylesheets used by all workers for jobs which
+     * start after this call (may be <code>null</code>).
+     *
+     * @see ITextRenderer#compileStylesheets(String[])
+     */
+    public void setCompiledStylesheets(CompiledStylesheets compiled) {
+        _compiledStylesheets = compiled;
+    }
+
+    public CompiledStylesheets getCompiledStylesheets() {
+        return _compiledStylesheets;
+    }
+
+    public StylesheetCache getStylesheetCache() {
+        return _stylesheetCache;
+    }
+
+    /**
+     * Stops accepting new jobs.  Queued jobs are still rendered.
+     */
+    public void shutdown() {
+        _executor.shutdown();
+    }
+
+    public boolean awaitTermination(long timeoutMillis) throws InterruptedException {
+        return _executor.awaitTermination(timeoutMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public int getWorkerCount() {
+        return _executor.getMaximumPoolSize();
+    }
+
+    /**
+     * Returns the number of jobs waiting for a worker
+     */
+    public int getQueueDepth() {
+        return _executor.getQueue().size();
+    }
+
+    /**
+     * Returns the number of jobs being rendered right now
+     */
+    public int getActiveCount() {
+        return _executor.getActiveCount();
+    }
+
+    public long getCompletedCount() {
+        return _completed.get();
+    }
+
+    public long getFailedCount() {
+        return _failed.get();
+    }
+
+    /**
+     * Returns the average number of documents completed per second since the
+     * service was created.
+     */
+    public double getThroughput() {
+        long elapsed = System.currentTimeMillis() - _startTime;
+        return elapsed == 0 ? 0.0 : _completed.get() * 1000.0 / elapsed;
+    }
+
+    /**
+     * Returns how many times <code>phase</code> has completed
+     */
+    public long getPhaseCount(int phase) {
+        return _phaseCounts[phase].get();
+    }
+
+    /**
+     * Returns the total time (in ms) spent in <code>phase</code> by all
+     * workers
+     */
+    public long getPhaseTime(int phase) {
+        return _phaseTimes[phase].get();
+    }
+
+    public long getMaxPhaseTime(int phase) {
+        return _phaseMaxTimes[phase].get();
+    }
+
+    public double getAveragePhaseTime(int phase) {
+        long count = _phaseCounts[phase].get();
+        return count == 0 ? 0.0 : (double)_phaseTimes[phase].get() / count;
+    }
+
+    public String toString() {
+        StringBuffer result = new StringBuffer();
+        result.append("PDFRenderingService[workers=").append(getWorkerCount());
+        result.append(", queued=").append(getQueueDepth());
+        result.append(", active=").append(getActiveCount());
+        result.append(", completed=").append(getCompletedCount());
+        result.append(", failed=").append(getFailedCount());
+        result.append(", docs/s=").append(Math.round(getThroughput() * 100) / 100.0);
+        for (int i = 0; i < PHASE_NAMES.length; i++) {
+            result.append(", ").append(PHASE_NAMES[i]).append("=");
+            result.append(Math.round(getAveragePhaseTime(i))).append("ms avg/");
+            result.append(getMaxPhaseTime(i)).append("ms max");
+        }
+        result.append("]");
+        return result.toString();
+    }
+
+    private void recordPhase(int phase, long start) {
+        long elapsed = System.currentTimeMillis() - start;
+
+        _phaseCounts[phase].incrementAndGet();
+        _phaseTimes[phase].addAndGet(elapsed);
+
+        AtomicLong max = _phaseMaxTimes[phase];
+        long current;
+        while ((current = max.get()) < elapsed) {
+            if (max.compareAndSet(current, elapsed)) {
+                break;
+            }
+        }
+    }
+
+    private ITextRenderer getRenderer() throws Exception {
+        ITextRenderer renderer = (ITextRenderer)_renderers.get();
+        if (renderer == null) {
+            renderer = new ITextRenderer();
+            renderer.getFontResolver().setFontRegistry(ITextFontRegistry.getSharedInstance());
+            if (_configurer != null) {
+                _configurer.configure(renderer);
+            }
+
+            if (_stylesheetCache != null) {
+                renderer.getSharedContext().getCss().setStylesheetCache(_stylesheetCache);
+            }
+
+            UserAgentCallback uac = renderer.getSharedContext().getUac();
+            if (uac instanceof ITextUserAgent) {
+                ((ITextUserAgent)uac).setSharedImageCache(_imageCache);
+            }
+
+            _renderers.set(renderer);
+        }
+
+        renderer.setCompiledStylesheets(_compiledStylesheets);
+
+        return renderer;
+    }
+
+    /**
+     * Configures the renderers created by a {@link PDFRenderingService}, for
+     * example to add fonts.  Renderers are created (and configured) on the
+     * worker thread which will use them.  Fonts are added to the shared
+     * font registry so they are only loaded once.
+     */
+    public interface RendererConfigurer {
+        public void configure(ITextRenderer renderer) throws Exception;
+    }
+
+    private class Job implements Callable {
+        private final Document _doc;
+        private final String _uri;
+        private final OutputStream _os;
+
+        public Job(Document doc, String uri, OutputStream os) {
+            _doc = doc;
+            _uri = uri;
+            _os = os;
+        }
+
+        public Object call() throws Exception {
+            try {
+                ITextRenderer renderer = getRenderer();
+
+                long start = System.currentTimeMillis();
+                Document doc = _doc;
+                if (doc == null) {
+                    doc = renderer.getSharedContext().getUac().getXMLResource(_uri).getDocument();
+                    recordPhase(PHASE_LOAD, start);
+                    start = System.currentTimeMillis();
+                }
+
+                renderer.setDocument(doc, _uri);
+                recordPhase(PHASE_STYLE, start);
+
+                start = System.currentTimeMillis();
+                renderer.layout();
+                recordPhase(PHASE_LAYOUT, start);
+
+                start = System.currentTimeMillis();
+                renderer.createPDF(_os);
+                recordPhase(PHASE_RENDER, start);
+
+                int pageCount = renderer.getRootBox().getLayer().getPages().size();
+
+                // Don't hold on to the document until the next job
+                renderer.releaseDocument();
+
+                _completed.incrementAndGet();
+
+                return Integer.valueOf(pageCount);
+            } catch (Exception e) {
+                failed(e);
+                throw e;
+            } catch (Error e) {
+                failed(e);
+                throw e;
+            } finally {
+                // iText already closes it when the PDF is complete
+                try {
+                    _os.close();
+                } catch (IOException e) {
+                    // ignore
+                }
+            }
+        }
+
+        private void failed(Throwable t) {
+            _failed.incrementAndGet();
+            // The renderer may be in an inconsistent state.  Start over.
+            _renderers.set(null);
+            XRLog.exception("Unable to render " + (_uri == null ? "document" : _uri), t);
+        }
+    }
+
+    private static class WorkerThreadFactory implements ThreadFactory {
+        private static final AtomicInteger _serviceCount = new AtomicInteger();
+
+        private final int _serviceNo = _serviceCount.incrementAndGet();
+        private final AtomicInteger _threadCount = new AtomicInteger();
+
+        public Thread newThread(Runnable r) {
+            Thread result = new Thread(r,
+                    "PDFRenderingService-" + _serviceNo + "-worker-" + _threadCount.incrementAndGet());
+            result.setDaemon(true);
+            return result;
+        }
+    }
+}
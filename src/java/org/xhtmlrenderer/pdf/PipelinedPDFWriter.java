@@ -0,0 +1,308 @@
+/*
+ * {{{ header & license
+ * Copyright (c) 2009 Wisconsin Court System
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * as published by the Free Software Foundation; either version 2.1
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ * }}}
+ */
+package org.xhtmlrenderer.pdf;
+
+import java.io.OutputStream;
+import java.util.LinkedList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.w3c.dom.Document;
+import org.xhtmlrenderer.context.StylesheetCache;
+import org.xhtmlrenderer.css.newmatch.CompiledStylesheets;
+import org.xhtmlrenderer.extend.UserAgentCallback;
+import org.xhtmlrenderer.util.XRRuntimeException;
+
+import com.lowagie.text.DocumentException;
+
+/**
+ * Writes any number of documents to a single PDF, laying out the next few
+ * documents on a pool of threads while the current document is being
+ * written.  The documents appear in the PDF in the order they were passed
+ * to {@link #write(Document, String)} (the result is the same as calling 
+ * <code>createPDF(os, false)</code> for the first document and 
+ * <code>writeNextDocument()</code> for each following document).
+ * <p>
+ * The PDF is written on the thread which calls <code>write()</code> and
+ * {@link #finish()}.  Each document being laid out or waiting to be written
+ * needs its own {@link ITextRenderer}.  Renderers are reused once their
+ * document has been written and share fonts, stylesheets and images like the
+ * renderers of a {@link PDFRenderingService}.  At most 
+ * <code>layoutThreads</code> documents are laid out ahead of the document
+ * being written; <code>write()</code> blocks (writing completed documents)
+ * until there is room for another.
+ * <p>
+ * Instances can also be passed to a {@link DocumentSplitter} to lay out and
+ * write the documents it produces as they are split.
+ * <p>
+ * Instances are not thread safe.
+ */
+public class PipelinedPDFWriter implements DocumentSplitter.DocumentHandler {
+    private final OutputStream _os;
+    private final String _baseURL;
+
+    private final PDFRenderingService.RendererConfigurer _configurer;
+    private volatile CompiledStylesheets _compiledStylesheets;
+
+    private final ThreadPoolExecutor _executor;
+    private final int _maxPending;
+
+    private final LinkedList _pending = new LinkedList();
+    private final LinkedList _idleRenderers = new LinkedList();
+
+    private ITextRenderer _lastWriter;
+    private boolean _failed;
+    private boolean _finished;
+
+    private int _documentCount;
+    private int _pageCount;
+
+    /**
+     * @param baseURL The base URL of the documents passed to 
+     * {@link #handleDocument(Document)} (may be <code>null</code> if the
+     * instance isn't used with a {@link DocumentSplitter})
+     * @param layoutThreads The number of documents to lay out at the same
+     * time.  Typically the number of available processors.
+     */
+    public PipelinedPDFWriter(OutputStream os, String baseURL, int layoutThreads) {
+        this(os, baseURL, layoutThreads, null);
+    }
+
+    /**
+     * @param configurer Called once for each renderer created (may be 
+     * <code>null</code>).  Renderers may be configured on any thread.
+     */
+    public PipelinedPDFWriter(
+            OutputStream os, String baseURL, int layoutThreads,
+            PDFRenderingService.RendererConfigurer configurer) {
+        if (layoutThreads < 1) {
+            throw new IllegalArgumentException("At least one layout thread is required");
+        }
+
+        _os = os;
+        _baseURL = baseURL;
+        _configurer = configurer;
+        _maxPending = layoutThreads;
+
+        _executor = new ThreadPoolExecutor(
+                layoutThreads, layoutThreads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue(), new LayoutThreadFactory());
+    }
+
+    /**
+     * Sets the precompiled stylesheets used for documents queued after this
+     * call (may be <code>null</code>).
+     *
+     * @see ITextRenderer#compileStylesheets(String[])
+     */
+    public void setCompiledStylesheets(CompiledStylesheets compiled) {
+        _compiledStylesheets = compiled;
+    }
+
+    public void handleDocument(Document doc) throws DocumentException {
+        write(doc, _baseURL);
+    }
+
+    /**
+     * Queues <code>doc</code> to be laid out and written after the documents
+     * queued before it.  Writes any documents which have been laid out in 
+     * the meantime.  The document must not be modified until it has been
+     * written.
+     */
+    public void write(Document doc, String baseURL) throws DocumentException {
+        checkState();
+
+        ITextRenderer renderer = _idleRenderers.isEmpty() ? 
+                null : (ITextRenderer)_idleRenderers.removeFirst();
+        _pending.add(_executor.submit(new LayoutTask(renderer, doc, baseURL)));
+
+        while (_pending.size() > _maxPending) {
+            writeNext();
+        }
+
+        while (_pending.size() > 0 && ((Future)_pending.getFirst()).isDone()) {
+            writeNext();
+        }
+    }
+
+    /**
+     * Writes the remaining documents and completes the PDF.  Does nothing
+     * (except stop the layout threads) if no documents were written.  The
+     * output stream is not closed.
+     */
+    public void finish() throws DocumentException {
+        checkState();
+
+        try {
+            while (_pending.size() > 0) {
+                writeNext();
+            }
+
+            if (_lastWriter != null) {
+                _lastWriter.finishPDF();
+            }
+
+            _finished = true;
+        } finally {
+            _executor.shutdown();
+            _idleRenderers.clear();
+            if (_lastWriter != null) {
+                _lastWriter.releaseDocument();
+                _lastWriter = null;
+            }
+        }
+    }
+
+    /**
+     * Stops laying out documents.  The PDF is left incomplete.
+     */
+    public void abort() {
+        _failed = true;
+        _executor.shutdownNow();
+        _pending.clear();
+        _idleRenderers.clear();
+        _lastWriter = null;
+    }
+
+    private void checkState() {
+        if (_failed) {
+            throw new IllegalStateException("Writing the PDF has failed");
+        } else if (_finished) {
+            throw new IllegalStateException("The PDF has been completed");
+        }
+    }
+
+    private void writeNext() throws DocumentException {
+        Future next = (Future)_pending.removeFirst();
+        boolean ok = false;
+        try {
+            ITextRenderer renderer = getResult(next);
+
+            if (_lastWriter == null) {
+                renderer.createPDF(_os, false);
+            } else {
+                renderer.continuePDF(_lastWriter);
+                renderer.writeNextDocument();
+            }
+
+            _documentCount++;
+            _pageCount += renderer.getRootBox().getLayer().getPages().size();
+
+            renderer.releaseLayout();
+            if (_lastWriter != null && _lastWriter != renderer) {
+                _lastWriter.releaseDocument();
+                _idleRenderers.add(_lastWriter);
+            }
+            _lastWriter = renderer;
+
+            ok = true;
+        } finally {
+            if (! ok) {
+                abort();
+            }
+        }
+    }
+
+    private ITextRenderer getResult(Future future) throws DocumentException {
+        try {
+            return (ITextRenderer)future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new XRRuntimeException("Interrupted while waiting for layout", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof DocumentException) {
+                throw (DocumentException)cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException)cause;
+            } else if (cause instanceof Error) {
+                throw (Error)cause;
+            } else {
+                throw new XRRuntimeException(cause.getMessage(), cause);
+            }
+        }
+    }
+
+    public int getDocumentCount() {
+        return _documentCount;
+    }
+
+    public int getPageCount() {
+        return _pageCount;
+    }
+
+    private ITextRenderer createRenderer() throws Exception {
+        ITextRenderer result = new ITextRenderer();
+        result.getFontResolver().setFontRegistry(ITextFontRegistry.getSharedInstance());
+        if (_configurer != null) {
+            _configurer.configure(result);
+        }
+        result.getSharedContext().getCss().setStylesheetCache(StylesheetCache.getSharedInstance());
+        UserAgentCallback uac = result.getSharedContext().getUac();
+        if (uac instanceof ITextUserAgent) {
+            ((ITextUserAgent)uac).setSharedImageCache(ITextImageCache.getSharedInstance());
+        }
+        return result;
+    }
+
+    private class LayoutTask implements Callable {
+        private ITextRenderer _renderer;
+        private final Document _doc;
+        private final String _url;
+        private final CompiledStylesheets _compiled;
+
+        public LayoutTask(ITextRenderer renderer, Document doc, String url) {
+            _renderer = renderer;
+            _doc = doc;
+            _url = url;
+            _compiled = _compiledStylesheets;
+        }
+
+        public Object call() throws Exception {
+            if (_renderer == null) {
+                _renderer = createRenderer();
+            }
+            _renderer.setCompiledStylesheets(_compiled);
+            _renderer.setDocument(_doc, _url);
+            _renderer.layout();
+            return _renderer;
+        }
+    }
+
+    private static class LayoutThreadFactory implements ThreadFactory {
+        private static final AtomicInteger _writerCount = new AtomicInteger();
+
+        private final int _writerNo = _writerCount.incrementAndGet();
+        private final AtomicInteger _threadCount = new AtomicInteger();
+
+        public Thread newThread(Runnable r) {
+            Thread result = new Thread(r,
+                    "PipelinedPDFWriter-" + _writerNo + "-layout-" + _threadCount.incrementAndGet());
+            result.setDaemon(true);
+            return result;
+        }
+    }
+}
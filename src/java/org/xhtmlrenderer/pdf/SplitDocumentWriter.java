@@ -0,0 +1,100 @@
+/*
+ * {{{ header & license
+ * Copyright (c) 2009 Wisconsin Court System
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * as published by the Free Software Foundation; either version 2.1
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ * }}}
+ */
+package org.xhtmlrenderer.pdf;
+
+import java.io.OutputStream;
+
+import org.w3c.dom.Document;
+
+import com.lowagie.text.DocumentException;
+
+/**
+ * Writes the documents produced by a {@link DocumentSplitter} to a single
+ * PDF as they become available.  Each document is laid out and written as
+ * soon as the splitter has finished building it and is then dropped, so only
+ * one document (and its box tree) is in memory at any time no matter how
+ * many documents the input contains.  The first pages are written to the
+ * output stream before the input has been completely parsed.
+ * <p>
+ * Typical usage:
+ * <pre>
+ * SplitDocumentWriter writer = new SplitDocumentWriter(new ITextRenderer(), os, baseURL);
+ * xmlReader.setContentHandler(new DocumentSplitter(writer));
+ * xmlReader.parse(input);
+ * writer.finish();
+ * </pre>
+ */
+public class SplitDocumentWriter implements DocumentSplitter.DocumentHandler {
+    private final ITextRenderer _renderer;
+    private final OutputStream _os;
+    private final String _baseURL;
+
+    private int _documentCount;
+    private int _pageCount;
+
+    /**
+     * @param baseURL The URL relative URLs in the documents are resolved
+     * against (e.g. the URL of the input)
+     */
+    public SplitDocumentWriter(ITextRenderer renderer, OutputStream os, String baseURL) {
+        _renderer = renderer;
+        _os = os;
+        _baseURL = baseURL;
+    }
+
+    public void handleDocument(Document doc) throws DocumentException {
+        _renderer.setDocument(doc, _baseURL);
+        _renderer.layout();
+
+        _pageCount += _renderer.getRootBox().getLayer().getPages().size();
+
+        if (_documentCount == 0) {
+            _renderer.createPDF(_os, false);
+        } else {
+            _renderer.writeNextDocument();
+        }
+        _documentCount++;
+
+        _renderer.releaseLayout();
+    }
+
+    /**
+     * Completes the PDF.  Must be called once the input has been parsed.
+     * Does nothing if no documents were written.
+     */
+    public void finish() {
+        if (_documentCount > 0) {
+            _renderer.finishPDF();
+        }
+        _renderer.releaseDocument();
+    }
+
+    public ITextRenderer getRenderer() {
+        return _renderer;
+    }
+
+    public int getDocumentCount() {
+        return _documentCount;
+    }
+
+    public int getPageCount() {
+        return _pageCount;
+    }
+}
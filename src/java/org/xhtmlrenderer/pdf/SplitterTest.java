@@ -19,6 +19,10 @@
  */
 package org.xhtmlrenderer.pdf;
 
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
 import java.util.Iterator;
 
 import javax.xml.parsers.SAXParserFactory;
@@ -29,6 +33,11 @@ import org.xml.sax.SAXException;
 import org.xml.sax.SAXParseException;
 import org.xml.sax.XMLReader;
 
+/**
+ * Splits the document <code>args[0]</code> and prints the root element of
+ * each document.  If <code>args[1]</code> is given, the documents are 
+ * written to the PDF <code>args[1]</code> as they are split instead.
+ */
 public class SplitterTest {
     public static void main(String[] args) throws Exception {
         SAXParserFactory factory = SAXParserFactory.newInstance();
@@ -51,6 +60,26 @@ public class SplitterTest {
             }
         });
         
+        if (args.length > 1) {
+            OutputStream os = new BufferedOutputStream(new FileOutputStream(args[1]));
+            try {
+                SplitDocumentWriter writer = new SplitDocumentWriter(
+                        new ITextRenderer(), os, new File(args[0]).toURI().toString());
+                reader.setContentHandler(new DocumentSplitter(writer));
+                
+                long start = System.currentTimeMillis();
+                reader.parse(args[0]);
+                writer.finish();
+                
+                System.out.println("Wrote " + writer.getDocumentCount() + " documents (" +
+                        writer.getPageCount() + " pages) in " + 
+                        (System.currentTimeMillis() - start) + "ms");
+            } finally {
+                os.close();
+            }
+            return;
+        }
+        
         DocumentSplitter splitter = new DocumentSplitter();
         reader.setContentHandler(splitter);
         
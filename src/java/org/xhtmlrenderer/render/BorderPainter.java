@@ -126,15 +126,21 @@ public class BorderPainter {
             if (currentSide == BorderPainter.RIGHT) thickness = (int) border.right();
             if (currentSide == BorderPainter.LEFT) thickness = (int) border.left();
             if (borderSideStyle == IdentValue.DASHED) {
+                // restore the old setting afterwards (text painted later
+                // follows it if no text anti-aliasing hint is set)
+                Object aa_key = outputDevice.getRenderingHint(RenderingHints.KEY_ANTIALIASING);
                 outputDevice.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_OFF);
                 paintPatternedRect(outputDevice, bounds, border, border, new float[]{8.0f + thickness * 2, 4.0f + thickness}, sides, currentSide, xOffset);
-                outputDevice.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+                outputDevice.setRenderingHint(RenderingHints.KEY_ANTIALIASING,
+                        aa_key == null ? RenderingHints.VALUE_ANTIALIAS_DEFAULT : aa_key);
             }
             if (borderSideStyle == IdentValue.DOTTED) {
                 // turn off anti-aliasing or the dots will be all blurry
+                Object aa_key = outputDevice.getRenderingHint(RenderingHints.KEY_ANTIALIASING);
                 outputDevice.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_OFF);
                 paintPatternedRect(outputDevice, bounds, border, border, new float[]{thickness, thickness}, sides, currentSide, xOffset);
-                outputDevice.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+                outputDevice.setRenderingHint(RenderingHints.KEY_ANTIALIASING,
+                        aa_key == null ? RenderingHints.VALUE_ANTIALIAS_DEFAULT : aa_key);
             }
         }
     }
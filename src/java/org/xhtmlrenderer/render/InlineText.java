@@ -62,7 +62,7 @@ public class InlineText {
             _end--;
             setWidth(c.getTextRenderer().getWidth(c.getFontContext(), 
                     getParent().getStyle().getFSFont(c),
-                    getSubstring()));
+                    _masterText, _start, _end));
             setTrimmedTrailingSpace(true);
         } 
     }
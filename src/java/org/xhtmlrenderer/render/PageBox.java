@@ -27,6 +27,7 @@ import java.io.Writer;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 
 import org.w3c.dom.Element;
 import org.w3c.dom.css.CSSPrimitiveValue;
@@ -308,18 +309,52 @@ public class PageBox {
     
     public void paintMarginAreas(RenderingContext c, int additionalClearance, short mode) {
         for (int i = 0; i < MARGIN_AREA_DEFS.length; i++) {
-            MarginAreaContainer container = _marginAreas[i];
-            if (container != null) {
-                TableBox table = _marginAreas[i].getTable();
-                Point p = container.getArea().getPaintingPosition(
-                        c, this, additionalClearance, mode);
-                
-                c.getOutputDevice().translate(p.x, p.y);
-                table.getLayer().paint(c);
-                c.getOutputDevice().translate(-p.x, -p.y);
-            }
+            paintMarginArea(c, i, additionalClearance, mode);
+        }
+    }
+    
+    public void paintMarginArea(RenderingContext c, int which, int additionalClearance, short mode) {
+        MarginAreaContainer container = _marginAreas[which];
+        if (container != null) {
+            TableBox table = container.getTable();
+            Point p = container.getArea().getPaintingPosition(
+                    c, this, additionalClearance, mode);
+            
+            c.getOutputDevice().translate(p.x, p.y);
+            table.getLayer().paint(c);
+            c.getOutputDevice().translate(-p.x, -p.y);
         }
     }
+    
+    public int getMarginAreaCount() {
+        return MARGIN_AREA_DEFS.length;
+    }
+    
+    /**
+     * Returns the laid out content of margin area <code>which</code> or
+     * <code>null</code> if the margin area is empty.
+     */
+    public TableBox getMarginArea(int which) {
+        MarginAreaContainer container = _marginAreas[which];
+        return container == null ? null : container.getTable();
+    }
+    
+    /**
+     * Returns whether the content of margin area <code>which</code> may be 
+     * shared with other pages (i.e. {@link #getMarginArea(int)} may return 
+     * the same box for other pages too).  Shared margin areas only contain
+     * page counters if pages are painted one at a time (see 
+     * {@link org.xhtmlrenderer.layout.SharedContext#setSequentialPagePainting(boolean)}).
+     */
+    public boolean isSharedMarginArea(int which) {
+        MarginAreaContainer container = _marginAreas[which];
+        return container != null && container.isShared();
+    }
+    
+    public Point getMarginAreaPaintingPosition(
+            RenderingContext c, int which, int additionalClearance, short mode) {
+        return MARGIN_AREA_DEFS[which].getPaintingPosition(c, this, additionalClearance, mode);
+    }
 
     public int getPageNo() {
         return _pageNo;
@@ -355,9 +390,25 @@ public class PageBox {
     }
     
     public void layout(LayoutContext c) {
+        layout(c, null);
+    }
+    
+    /**
+     * Lays out the page.  <code>marginAreaCache</code> (if not 
+     * <code>null</code>) should be an empty <code>Map</code> shared by all 
+     * pages of a document.  Margin areas are then only laid out once for all
+     * pages with the same <code>PageInfo</code> and the same running elements
+     * (e.g. a running header which only contains text is laid out once for 
+     * the whole document).  Painting updates the lines of margin areas with
+     * page counters (or other content which is only evaluated when a page is
+     * painted) so those are only shared if pages are painted one at a time 
+     * (see {@link LayoutContext#isSequentialPagePainting()}).  Otherwise
+     * they are laid out for each page.
+     */
+    public void layout(LayoutContext c, Map marginAreaCache) {
         c.setPage(this);
         retrievePageMetadata(c);
-        layoutMarginAreas(c);
+        layoutMarginAreas(c, marginAreaCache);
     }
     
     // HACK Would much prefer to do this in ITextRenderer or ITextOutputDevice
@@ -389,11 +440,32 @@ public class PageBox {
         }
     }
 
-    private void layoutMarginAreas(LayoutContext c) {
+    private void layoutMarginAreas(LayoutContext c, Map marginAreaCache) {
+        // Each entry is the margin area container (possibly with an empty
+        // table) last laid out for that margin area and PageInfo
+        MarginAreaContainer[] cached = null;
+        if (marginAreaCache != null) {
+            cached = (MarginAreaContainer[])marginAreaCache.get(_pageInfo);
+            if (cached == null) {
+                cached = new MarginAreaContainer[MARGIN_AREA_DEFS.length];
+                marginAreaCache.put(_pageInfo, cached);
+            }
+        }
+        
         RectPropertySet margin = getMargin(c);
         for (int i = 0; i < MARGIN_AREA_DEFS.length; i++) {
             MarginArea area = MARGIN_AREA_DEFS[i];
             
+            List runningBlocks = null;
+            if (cached != null) {
+                runningBlocks = BoxBuilder.getMarginAreaRunningBlocks(
+                        c, _pageInfo, area.getMarginBoxNames());
+                if (cached[i] != null && cached[i].isSameRunningBlocks(runningBlocks)) {
+                    _marginAreas[i] = cached[i].getTable() == null ? null : cached[i];
+                    continue;
+                }
+            }
+            
             Dimension dim = area.getLayoutDimension(c, this, margin);
             TableBox table = BoxBuilder.createMarginTable(
                     c, _pageInfo, 
@@ -415,9 +487,53 @@ public class PageBox {
                 } finally {
                     c.setNoPageBreak(0);
                 }
-                _marginAreas[i] = new MarginAreaContainer(area, table);
+            }
+            
+            // Painting a line with a page counter lays it out again for the 
+            // page being painted so it can't be shared if pages may be 
+            // painted at the same time
+            boolean shared = cached != null && 
+                (table == null || c.isSequentialPagePainting() || 
+                        ! containsDynamicFunction(table));
+            MarginAreaContainer container = new MarginAreaContainer(
+                    area, table, runningBlocks, shared);
+            if (cached != null) {
+                cached[i] = shared ? container : null;
+            }
+            _marginAreas[i] = table == null ? null : container;
+        }
+    }
+    
+    private static boolean containsDynamicFunction(Box box) {
+        if (box instanceof LineBox) {
+            LineBox line = (LineBox)box;
+            if (line.isContainsDynamicFunction()) {
+                return true;
+            }
+            for (Iterator i = line.getNonFlowContent().iterator(); i.hasNext(); ) {
+                if (containsDynamicFunction((Box)i.next())) {
+                    return true;
+                }
+            }
+        }
+        
+        if (box instanceof InlineLayoutBox) {
+            InlineLayoutBox iB = (InlineLayoutBox)box;
+            for (int i = 0; i < iB.getInlineChildCount(); i++) {
+                Object child = iB.getInlineChild(i);
+                if (child instanceof Box && containsDynamicFunction((Box)child)) {
+                    return true;
+                }
+            }
+        } else {
+            for (int i = 0; i < box.getChildCount(); i++) {
+                if (containsDynamicFunction(box.getChild(i))) {
+                    return true;
+                }
             }
         }
+        
+        return false;
     }
     
     public boolean isLeftPage() {
@@ -470,10 +586,31 @@ public class PageBox {
     private static class MarginAreaContainer {
         private final MarginArea _area;
         private final TableBox _table;
+        private final List _runningBlocks;
+        private final boolean _shared;
         
-        public MarginAreaContainer(MarginArea area, TableBox table) {
+        public MarginAreaContainer(
+                MarginArea area, TableBox table, List runningBlocks, boolean shared) {
             _area = area;
             _table = table;
+            _runningBlocks = runningBlocks;
+            _shared = shared;
+        }
+        
+        public boolean isSameRunningBlocks(List runningBlocks) {
+            if (_runningBlocks.size() != runningBlocks.size()) {
+                return false;
+            }
+            for (int i = 0; i < runningBlocks.size(); i++) {
+                if (_runningBlocks.get(i) != runningBlocks.get(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        
+        public boolean isShared() {
+            return _shared;
         }
 
         public MarginArea getArea() {
@@ -125,7 +125,8 @@ public class RenderingContext implements CssContext {
     public Rectangle getFixedRectangle() {
         Rectangle result;
         if (! isPrint()) {
-            result = sharedContext.getFixedRectangle();
+            // May be the shared context's own (and the same every time)
+            result = new Rectangle(sharedContext.getFixedRectangle());
         } else {
             result = new Rectangle(0, -this.page.getTop(), 
                     this.page.getContentWidth(this),
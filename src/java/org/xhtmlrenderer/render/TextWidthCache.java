@@ -0,0 +1,271 @@
+/*
+ * {{{ header & license
+ * Copyright (c) 2009 Wisconsin Court System
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * as published by the Free Software Foundation; either version 2.1
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ * }}}
+ */
+package org.xhtmlrenderer.render;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A bounded cache of text widths for use by
+ * {@link org.xhtmlrenderer.extend.TextRenderer} implementations.  Line
+ * breaking measures the same words in the same fonts over and over again so
+ * this saves a lot of calls into the underlying font code.
+ * <p>
+ * Widths are kept per font.  The font key must implement
+ * <code>equals()</code> and <code>hashCode()</code> and must identify the
+ * font and size the text was measured with.  Text is looked up by a range
+ * of characters so no substring needs to be created to find a width.  Each
+ * font keeps up to a fixed number of words (it's simply cleared when full)
+ * and only the most recently used fonts are kept.  Text longer than
+ * {@link #MAX_TEXT_LENGTH} is never cached.
+ * <p>
+ * Instances are not thread safe.  Each text renderer has its own cache.
+ */
+public class TextWidthCache {
+    public static final int DEFAULT_MAX_WORDS = 8192;
+    public static final int MAX_FONTS = 64;
+    public static final int MAX_TEXT_LENGTH = 64;
+
+    private final int _maxWords;
+    private final Map _fonts;
+
+    private Object _lastFontKey;
+    private Widths _lastWidths;
+
+    private long _hits;
+    private long _misses;
+
+    public TextWidthCache() {
+        this(DEFAULT_MAX_WORDS);
+    }
+
+    /**
+     * @param maxWords The maximum number of widths kept per font
+     */
+    public TextWidthCache(int maxWords) {
+        _maxWords = maxWords;
+        _fonts = new LinkedHashMap(16, 0.75f, true) {
+            protected boolean removeEldestEntry(Map.Entry eldest) {
+                return size() > MAX_FONTS;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached width of the characters <code>start</code>
+     * (inclusive) to <code>end</code> (exclusive) of <code>text</code> in the
+     * font identified by <code>fontKey</code> or <code>-1</code> if the
+     * width isn't known.
+     */
+    public int getWidth(Object fontKey, String text, int start, int end) {
+        if (end - start > MAX_TEXT_LENGTH) {
+            return -1;
+        }
+
+        Widths widths = getWidths(fontKey, false);
+        int result = widths == null ? -1 : widths.get(text, start, end);
+        if (result == -1) {
+            _misses++;
+        } else {
+            _hits++;
+        }
+        return result;
+    }
+
+    public void putWidth(Object fontKey, String text, int start, int end, int width) {
+        if (end - start > MAX_TEXT_LENGTH) {
+            return;
+        }
+
+        getWidths(fontKey, true).put(text, start, end, width);
+    }
+
+    private Widths getWidths(Object fontKey, boolean create) {
+        if (_lastFontKey != null &&
+                (_lastFontKey == fontKey || _lastFontKey.equals(fontKey))) {
+            return _lastWidths;
+        }
+
+        Widths result = (Widths)_fonts.get(fontKey);
+        if (result == null) {
+            if (! create) {
+                return null;
+            }
+            result = new Widths(_maxWords);
+            _fonts.put(fontKey, result);
+        }
+
+        _lastFontKey = fontKey;
+        _lastWidths = result;
+
+        return result;
+    }
+
+    public void clear() {
+        _fonts.clear();
+        _lastFontKey = null;
+        _lastWidths = null;
+    }
+
+    public long getHitCount() {
+        return _hits;
+    }
+
+    public long getMissCount() {
+        return _misses;
+    }
+
+    /**
+     * Returns the fraction of lookups which found a width (between 0 and 1)
+     */
+    public double getHitRate() {
+        long total = _hits + _misses;
+        return total == 0 ? 0.0 : (double)_hits / total;
+    }
+
+    public void resetStatistics() {
+        _hits = 0;
+        _misses = 0;
+    }
+
+    public int getSize() {
+        int result = 0;
+        for (Iterator i = _fonts.values().iterator(); i.hasNext(); ) {
+            result += ((Widths)i.next()).size();
+        }
+        return result;
+    }
+
+    public String toString() {
+        return "TextWidthCache[fonts=" + _fonts.size() + ", widths=" + getSize() +
+            ", hits=" + _hits + ", misses=" + _misses +
+            ", hitRate=" + Math.round(getHitRate() * 1000) / 10.0 + "%]";
+    }
+
+    /**
+     * An open addressing hash table from text to width.
+     */
+    private static class Widths {
+        private final int _maxSize;
+
+        private char[][] _keys;
+        private int[] _hashes;
+        private int[] _widths;
+        private int _size;
+
+        Widths(int maxSize) {
+            _maxSize = maxSize;
+            init(16);
+        }
+
+        private void init(int capacity) {
+            _keys = new char[capacity][];
+            _hashes = new int[capacity];
+            _widths = new int[capacity];
+            _size = 0;
+        }
+
+        int size() {
+            return _size;
+        }
+
+        int get(String text, int start, int end) {
+            int hash = hash(text, start, end);
+            int mask = _keys.length - 1;
+            for (int i = hash & mask; _keys[i] != null; i = (i + 1) & mask) {
+                if (_hashes[i] == hash && matches(_keys[i], text, start, end)) {
+                    return _widths[i];
+                }
+            }
+            return -1;
+        }
+
+        void put(String text, int start, int end, int width) {
+            if (_size >= _maxSize) {
+                init(16);
+            } else if ((_size + 1) * 2 > _keys.length) {
+                rehash();
+            }
+
+            int hash = hash(text, start, end);
+            int mask = _keys.length - 1;
+            int i = hash & mask;
+            while (_keys[i] != null) {
+                if (_hashes[i] == hash && matches(_keys[i], text, start, end)) {
+                    _widths[i] = width;
+                    return;
+                }
+                i = (i + 1) & mask;
+            }
+
+            char[] key = new char[end - start];
+            text.getChars(start, end, key, 0);
+            _keys[i] = key;
+            _hashes[i] = hash;
+            _widths[i] = width;
+            _size++;
+        }
+
+        private void rehash() {
+            char[][] keys = _keys;
+            int[] hashes = _hashes;
+            int[] widths = _widths;
+
+            int size = _size;
+            init(keys.length * 2);
+            _size = size;
+
+            int mask = _keys.length - 1;
+            for (int j = 0; j < keys.length; j++) {
+                if (keys[j] != null) {
+                    int i = hashes[j] & mask;
+                    while (_keys[i] != null) {
+                        i = (i + 1) & mask;
+                    }
+                    _keys[i] = keys[j];
+                    _hashes[i] = hashes[j];
+                    _widths[i] = widths[j];
+                }
+            }
+        }
+
+        private static int hash(String text, int start, int end) {
+            int h = 0;
+            for (int i = start; i < end; i++) {
+                h = 31 * h + text.charAt(i);
+            }
+            // Spread the bits since only the low bits select a slot
+            return h ^ (h >>> 16);
+        }
+
+        private static boolean matches(char[] key, String text, int start, int end) {
+            if (key.length != end - start) {
+                return false;
+            }
+            for (int i = 0; i < key.length; i++) {
+                if (key[i] != text.charAt(start + i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * {{{ header & license
+ * Copyright (c) 2009 Wisconsin Court System
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * as published by the Free Software Foundation; either version 2.1
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ * }}}
+ */
+package org.xhtmlrenderer.resource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.xml.sax.Attributes;
+import org.xml.sax.ContentHandler;
+import org.xml.sax.Locator;
+import org.xml.sax.SAXException;
+import org.xml.sax.ext.LexicalHandler;
+
+/**
+ * Builds a DOM directly from SAX events (instead of running the events
+ * through an identity <code>Transformer</code>).  The resulting tree is the
+ * same as the one built by the identity transform: text (including
+ * <code>CDATA</code> sections) is merged into a single text node, ignorable
+ * whitespace is dropped, namespace declarations become <code>xmlns</code>
+ * attributes and no <code>DocumentType</code> node is created.  Unlike the
+ * identity transform, comments inside the DTD are not copied into the
+ * document.
+ * <p>
+ * An instance may be reused (but only by one thread at a time).
+ */
+class DOMBuilder implements ContentHandler, LexicalHandler {
+    private static final String XMLNS_NAMESPACE = "http://www.w3.org/2000/xmlns/";
+
+    private Document _document;
+    private Node _current;
+
+    private final StringBuffer _text = new StringBuffer();
+    private final List _prefixMappings = new ArrayList();
+    private boolean _inDTD;
+
+    private DTDCache _dtdCache;
+
+    /**
+     * Sets the DTD cache which must be told about the document type
+     * declaration (may be <code>null</code>)
+     */
+    public void setDTDCache(DTDCache dtdCache) {
+        _dtdCache = dtdCache;
+    }
+
+    /**
+     * Starts building into <code>document</code> (which should be empty).
+     * Pass <code>null</code> to release the last document.
+     */
+    public void reset(Document document) {
+        _document = document;
+        _current = document;
+        _text.setLength(0);
+        _prefixMappings.clear();
+        _inDTD = false;
+    }
+
+    private void flushText() {
+        if (_text.length() > 0) {
+            _current.appendChild(_document.createTextNode(_text.toString()));
+            _text.setLength(0);
+        }
+    }
+
+    public void startElement(String uri, String localName, String qName, Attributes atts)
+            throws SAXException {
+        flushText();
+
+        Element e = _document.createElementNS(uri != null && uri.length() > 0 ? uri : null, qName);
+
+        for (int i = 0; i < _prefixMappings.size(); i += 2) {
+            String prefix = (String)_prefixMappings.get(i);
+            e.setAttributeNS(XMLNS_NAMESPACE,
+                    prefix.length() == 0 ? "xmlns" : "xmlns:" + prefix,
+                    (String)_prefixMappings.get(i+1));
+        }
+        _prefixMappings.clear();
+
+        for (int i = 0, len = atts.getLength(); i < len; i++) {
+            String attQName = atts.getQName(i);
+            String attURI = atts.getURI(i);
+            if (attQName.equals("xmlns") || attQName.startsWith("xmlns:")) {
+                // Only reported with the namespace-prefixes feature
+                if (! e.hasAttributeNS(XMLNS_NAMESPACE, 
+                        attQName.length() == 5 ? "xmlns" : attQName.substring(6))) {
+                    e.setAttributeNS(XMLNS_NAMESPACE, attQName, atts.getValue(i));
+                }
+            } else {
+                e.setAttributeNS(attURI != null && attURI.length() > 0 ? attURI : null,
+                        attQName, atts.getValue(i));
+            }
+        }
+
+        _current.appendChild(e);
+        _current = e;
+    }
+
+    public void endElement(String uri, String localName, String qName) throws SAXException {
+        flushText();
+        _current = _current.getParentNode();
+    }
+
+    public void characters(char[] ch, int start, int length) throws SAXException {
+        if (_current != _document) {
+            _text.append(ch, start, length);
+        }
+    }
+
+    public void ignorableWhitespace(char[] ch, int start, int length) throws SAXException {
+    }
+
+    public void processingInstruction(String target, String data) throws SAXException {
+        flushText();
+        _current.appendChild(_document.createProcessingInstruction(target, data));
+    }
+
+    public void comment(char[] ch, int start, int length) throws SAXException {
+        if (! _inDTD) {
+            flushText();
+            _current.appendChild(_document.createComment(new String(ch, start, length)));
+        }
+    }
+
+    public void startPrefixMapping(String prefix, String uri) throws SAXException {
+        _prefixMappings.add(prefix);
+        _prefixMappings.add(uri);
+    }
+
+    public void startDTD(String name, String publicId, String systemId) throws SAXException {
+        _inDTD = true;
+        if (_dtdCache != null) {
+            _dtdCache.startDTD(publicId);
+        }
+    }
+
+    public void endDTD() throws SAXException {
+        _inDTD = false;
+    }
+
+    public void startDocument() throws SAXException {
+    }
+
+    public void endDocument() throws SAXException {
+        flushText();
+    }
+
+    public void endPrefixMapping(String prefix) throws SAXException {
+    }
+
+    public void setDocumentLocator(Locator locator) {
+    }
+
+    public void skippedEntity(String name) throws SAXException {
+    }
+
+    public void startCDATA() throws SAXException {
+    }
+
+    public void endCDATA() throws SAXException {
+    }
+
+    public void startEntity(String name) throws SAXException {
+    }
+
+    public void endEntity(String name) throws SAXException {
+    }
+}
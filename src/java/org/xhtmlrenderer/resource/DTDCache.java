@@ -0,0 +1,268 @@
+/*
+ * {{{ header & license
+ * Copyright (c) 2009 Wisconsin Court System
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * as published by the Free Software Foundation; either version 2.1
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ * }}}
+ */
+package org.xhtmlrenderer.resource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+
+import org.xhtmlrenderer.util.XRLog;
+import org.xml.sax.EntityResolver;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.ext.DeclHandler;
+import org.xml.sax.ext.LexicalHandler;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * An entity resolver which replaces the external DTD subset of a document
+ * with a compact, cached version of it when the DTD is one of those in the
+ * {@link FSEntityResolver} catalog (e.g. the XHTML DTDs).
+ * <p>
+ * The XHTML DTDs are large and modular (the DTD itself plus three entity
+ * files) and a non-validating parser only needs a small part of them: the
+ * character entities, the attribute default values, the types of the
+ * attributes which are not <code>CDATA</code> (their values are normalized
+ * differently) and which elements have element content (whitespace in those
+ * elements is ignorable).  The first time a DTD is needed, it is parsed once
+ * and those declarations are written out to a flat DTD without comments or
+ * parameter entities which is much quicker to parse.  Parsing a small document
+ * which references one of the XHTML DTDs is several times faster as a result.
+ * <p>
+ * The compacted DTDs are shared, but an instance of this class is needed
+ * for each parser.  The parser's <code>LexicalHandler</code> must call
+ * {@link #startDTD(String)} so the external subset can be told apart from
+ * the other entities it references.  The compact DTD must not be used when
+ * validating.  If a DTD contains declarations which can't be carried over
+ * (e.g. external general entities), the original DTD is used.
+ */
+class DTDCache implements EntityResolver {
+    private static final Object NOT_COMPACTABLE = new Object();
+
+    private static final ConcurrentHashMap _compactDTDs = new ConcurrentHashMap();
+
+    private final EntityResolver _delegate;
+    private final Set _publicIDs;
+
+    private String _doctypePublicId;
+
+    /**
+     * @param delegate Resolves all other entities (and is used to load the
+     * DTDs being compacted)
+     */
+    public DTDCache(FSEntityResolver delegate) {
+        _delegate = delegate;
+        _publicIDs = new HashSet(delegate.getEntities().keySet());
+    }
+
+    /**
+     * Called when the parser reports the document type declaration.  The
+     * next entity with the same public ID is the external subset.
+     */
+    public void startDTD(String publicId) {
+        _doctypePublicId = publicId;
+    }
+
+    public void reset() {
+        _doctypePublicId = null;
+    }
+
+    public InputSource resolveEntity(String publicId, String systemId)
+            throws SAXException, IOException {
+        if (publicId != null && publicId.equals(_doctypePublicId)) {
+            _doctypePublicId = null;
+            if (_publicIDs.contains(publicId)) {
+                Object compact = _compactDTDs.get(publicId);
+                if (compact == null) {
+                    compact = compact(publicId, systemId);
+                    _compactDTDs.putIfAbsent(publicId, compact);
+                }
+                if (compact != NOT_COMPACTABLE) {
+                    InputSource result = new InputSource(new ByteArrayInputStream((byte[])compact));
+                    result.setPublicId(publicId);
+                    result.setSystemId(systemId);
+                    return result;
+                }
+            }
+        }
+
+        return _delegate.resolveEntity(publicId, systemId);
+    }
+
+    /**
+     * Discards the compacted DTDs
+     */
+    public static void clear() {
+        _compactDTDs.clear();
+    }
+
+    private Object compact(String publicId, String systemId) {
+        if (systemId == null || systemId.indexOf('"') != -1) {
+            return NOT_COMPACTABLE;
+        }
+
+        try {
+            DeclarationCollector collector = new DeclarationCollector();
+
+            XMLReader xmlReader = XMLResource.newXMLReader();
+            xmlReader.setEntityResolver(_delegate);
+            xmlReader.setContentHandler(collector);
+            xmlReader.setDTDHandler(collector);
+            xmlReader.setErrorHandler(collector);
+            xmlReader.setProperty("http://xml.org/sax/properties/declaration-handler", collector);
+            xmlReader.setProperty("http://xml.org/sax/properties/lexical-handler", collector);
+
+            xmlReader.parse(new InputSource(new StringReader(
+                    "<!DOCTYPE dtd PUBLIC \"" + publicId + "\" \"" + systemId + "\"><dtd/>")));
+
+            if (! collector.isCompactable()) {
+                XRLog.load(Level.FINE, "DTD " + publicId + " can't be compacted");
+                return NOT_COMPACTABLE;
+            }
+
+            byte[] result = collector.getDTD().getBytes("UTF-8");
+
+            XRLog.load(Level.FINE, "Compacted DTD " + publicId + " to " + result.length + " bytes");
+
+            return result;
+        } catch (Exception e) {
+            XRLog.load(Level.WARNING, "Unable to compact DTD " + publicId, e);
+            return NOT_COMPACTABLE;
+        }
+    }
+
+    private static class DeclarationCollector extends DefaultHandler
+            implements DeclHandler, LexicalHandler {
+        private final StringBuffer _dtd = new StringBuffer(
+                "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+        private boolean _inExternalSubset;
+        private boolean _compactable = true;
+
+        public String getDTD() {
+            return _dtd.toString();
+        }
+
+        public boolean isCompactable() {
+            return _compactable;
+        }
+
+        public void elementDecl(String name, String model) throws SAXException {
+            // Only elements with element content make a difference to a
+            // non-validating parser
+            if (_inExternalSubset && ! model.equals("EMPTY") && ! model.equals("ANY") &&
+                    ! model.startsWith("(#PCDATA")) {
+                _dtd.append("<!ELEMENT ").append(name).append(' ').append(model).append(">\n");
+            }
+        }
+
+        public void attributeDecl(String eName, String aName, String type, String mode, String value)
+                throws SAXException {
+            if (_inExternalSubset && (value != null || ! type.equals("CDATA"))) {
+                _dtd.append("<!ATTLIST ").append(eName).append(' ').append(aName);
+                _dtd.append(' ').append(type);
+                if (mode != null) {
+                    _dtd.append(' ').append(mode);
+                }
+                if (value != null) {
+                    _dtd.append(" \"");
+                    appendEscaped(value);
+                    _dtd.append('"');
+                }
+                _dtd.append(">\n");
+            }
+        }
+
+        public void internalEntityDecl(String name, String value) throws SAXException {
+            if (_inExternalSubset && ! name.startsWith("%")) {
+                _dtd.append("<!ENTITY ").append(name).append(" \"");
+                appendEscaped(value);
+                _dtd.append("\">\n");
+            }
+        }
+
+        public void externalEntityDecl(String name, String publicId, String systemId)
+                throws SAXException {
+            if (_inExternalSubset && ! name.startsWith("%")) {
+                _compactable = false;
+            }
+        }
+
+        public void unparsedEntityDecl(String name, String publicId, String systemId, String notationName)
+                throws SAXException {
+            _compactable = false;
+        }
+
+        public void notationDecl(String name, String publicId, String systemId)
+                throws SAXException {
+            _compactable = false;
+        }
+
+        private void appendEscaped(String value) {
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                switch (c) {
+                    case '&':
+                    case '%':
+                    case '"':
+                    case '<':
+                    case '\t':
+                    case '\n':
+                    case '\r':
+                        _dtd.append("&#").append((int)c).append(';');
+                        break;
+                    default:
+                        _dtd.append(c);
+                }
+            }
+        }
+
+        public void startEntity(String name) throws SAXException {
+            if (name.equals("[dtd]")) {
+                _inExternalSubset = true;
+            }
+        }
+
+        public void endEntity(String name) throws SAXException {
+            if (name.equals("[dtd]")) {
+                _inExternalSubset = false;
+            }
+        }
+
+        public void startDTD(String name, String publicId, String systemId) throws SAXException {
+        }
+
+        public void endDTD() throws SAXException {
+        }
+
+        public void startCDATA() throws SAXException {
+        }
+
+        public void endCDATA() throws SAXException {
+        }
+
+        public void comment(char[] ch, int start, int length) throws SAXException {
+        }
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * {{{ header & license
+ * Copyright (c) 2009 Wisconsin Court System
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * as published by the Free Software Foundation; either version 2.1
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ * }}}
+ */
+package org.xhtmlrenderer.resource;
+
+import java.awt.image.BufferedImage;
+
+import org.xhtmlrenderer.extend.FSImage;
+import org.xhtmlrenderer.swing.AWTFSImage;
+import org.xhtmlrenderer.util.Configuration;
+import org.xhtmlrenderer.util.LRUCache;
+
+/**
+ * A least recently used cache of {@link ImageResource}s which is bounded by
+ * the number of bytes used by the images.  The size of each image is
+ * estimated by a {@link Weigher}.  The default weigher sizes AWT images by
+ * their dimensions and color model.  Other user agents install a weigher
+ * for their own image types.  When a new image pushes the cache over its
+ * limit, the least recently used images are evicted.  An image which is
+ * bigger than the whole cache isn't cached.
+ * <p>
+ * The images can optionally be held by soft references so the garbage
+ * collector can reclaim them before the cache is full.
+ * <p>
+ * All methods are thread safe (see {@link LRUCache}).
+ */
+public class ImageResourceCache {
+    /**
+     * Estimates the memory used by an image
+     */
+    public interface Weigher {
+        public long weigh(ImageResource resource);
+    }
+
+    /**
+     * Notified when an image is evicted from the cache to make room for
+     * another one (but not when it is removed explicitly or reclaimed by the
+     * garbage collector)
+     */
+    public interface EvictionListener {
+        public void evicted(Object key, ImageResource resource);
+    }
+
+    /**
+     * Sizes AWT images by their dimensions and the pixel size of their color
+     * model.  Other images are assumed to use four bytes per pixel.
+     */
+    public static final Weigher DEFAULT_WEIGHER = new Weigher() {
+        public long weigh(ImageResource resource) {
+            FSImage image = resource.getImage();
+            if (image == null) {
+                return 0;
+            } else if (image instanceof AWTFSImage) {
+                BufferedImage img = ((AWTFSImage)image).getImage();
+                if (img == null) {
+                    return 0;
+                }
+                return (long)img.getWidth() * img.getHeight() *
+                    Math.max(1, img.getColorModel().getPixelSize()) / 8;
+            } else {
+                return (long)image.getWidth() * image.getHeight() * 4;
+            }
+        }
+    };
+
+    // The cache entry and the map entry
+    private static final int ENTRY_OVERHEAD = 96;
+
+    private final LRUCache _cache;
+
+    private volatile Weigher _weigher = DEFAULT_WEIGHER;
+
+    /**
+     * @param maxBytes The (estimated) number of bytes the cached images may
+     * use
+     * @param softReferences If the images should be held by soft references
+     */
+    public ImageResourceCache(long maxBytes, boolean softReferences) {
+        _cache = new LRUCache("image", Integer.MAX_VALUE, maxBytes, softReferences);
+    }
+
+    /**
+     * Creates a cache configured with the <code>xr.image.cache.max-kb</code>
+     * and <code>xr.image.cache.soft-references</code> properties.
+     */
+    public static ImageResourceCache newInstance() {
+        return new ImageResourceCache(
+                Configuration.valueAsInt("xr.image.cache.max-kb", 65536) * 1024L,
+                Configuration.isTrue("xr.image.cache.soft-references", false));
+    }
+
+    public void setWeigher(Weigher weigher) {
+        _weigher = weigher;
+    }
+
+    public void setEvictionListener(final EvictionListener evictionListener) {
+        _cache.setEvictionListener(evictionListener == null ? null :
+            new LRUCache.EvictionListener() {
+                public void evicted(Object key, Object value) {
+                    evictionListener.evicted(key, (ImageResource)value);
+                }
+            });
+    }
+
+    public ImageResource get(Object key) {
+        // The user agents pass the URI they couldn't resolve as is
+        if (key == null) {
+            return null;
+        }
+        return (ImageResource)_cache.get(key);
+    }
+
+    /**
+     * Adds <code>resource</code> to the cache, evicting the least recently
+     * used images if necessary.  Returns the image previously cached for
+     * <code>key</code> (if any).  An image which is too big for the cache
+     * (see {@link #isCacheable(ImageResource)}) isn't added, but the 
+     * previous image is still removed.
+     */
+    public ImageResource put(Object key, ImageResource resource) {
+        if (key == null) {
+            return null;
+        }
+        return (ImageResource)_cache.put(
+                key, null, resource, _weigher.weigh(resource) + ENTRY_OVERHEAD);
+    }
+    
+    /**
+     * Returns <code>false</code> if <code>resource</code> is too big to be
+     * cached
+     */
+    public boolean isCacheable(ImageResource resource) {
+        return _weigher.weigh(resource) + ENTRY_OVERHEAD <= _cache.getMaxBytes();
+    }
+
+    public ImageResource remove(Object key) {
+        if (key == null) {
+            return null;
+        }
+        return (ImageResource)_cache.remove(key);
+    }
+
+    /**
+     * Evicts the least recently used images until at most
+     * <code>maxEntries</code> remain.
+     */
+    public void shrink(int maxEntries) {
+        _cache.shrink(maxEntries);
+    }
+
+    public void clear() {
+        _cache.clear();
+    }
+
+    public int size() {
+        return _cache.size();
+    }
+
+    /**
+     * Returns the estimated number of bytes used by the cached images
+     */
+    public long getBytes() {
+        return _cache.getByteSize();
+    }
+
+    public long getMaxBytes() {
+        return _cache.getMaxBytes();
+    }
+
+    public long getHitCount() {
+        return _cache.getHitCount();
+    }
+
+    public long getMissCount() {
+        return _cache.getMissCount();
+    }
+
+    /**
+     * Returns the number of images evicted to make room for other images
+     * (or reclaimed by the garbage collector)
+     */
+    public long getEvictionCount() {
+        return _cache.getEvictionCount();
+    }
+
+    public void resetStatistics() {
+        _cache.resetStatistics();
+    }
+
+    public String toString() {
+        return "ImageResourceCache[size=" + size() +
+            ", bytes=" + getBytes() + "/" + getMaxBytes() +
+            ", hits=" + getHitCount() + ", misses=" + getMissCount() +
+            ", evictions=" + getEvictionCount() + "]";
+    }
+}
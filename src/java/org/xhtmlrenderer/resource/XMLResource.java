@@ -23,6 +23,7 @@ import java.io.InputStream;
 import java.io.Reader;
 import java.util.logging.Level;
 
+import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.SAXParser;
 import javax.xml.parsers.SAXParserFactory;
@@ -30,7 +31,6 @@ import javax.xml.transform.Source;
 import javax.xml.transform.Transformer;
 import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.dom.DOMResult;
-import javax.xml.transform.sax.SAXSource;
 
 import org.w3c.dom.Document;
 import org.xhtmlrenderer.util.Configuration;
@@ -158,76 +158,166 @@ public class XMLResource extends AbstractResource {
         return xmlReader;
     }
 
+    /**
+     * Discards the compact versions of the catalogued DTDs kept by the
+     * parsers (see <code>xr.load.cache-dtds</code>).
+     */
+    public static void clearDTDCache() {
+        DTDCache.clear();
+    }
+
+    /**
+     * Loads documents.  The SAX events from the parser are turned into a DOM
+     * directly by a {@link DOMBuilder}.  Parsers are expensive to create and
+     * configure so unless <code>xr.load.reuse-parsers</code> is false, each
+     * thread keeps its parser (and the objects needed to create documents)
+     * and reuses it for all documents it loads.  Unless
+     * <code>xr.load.cache-dtds</code> is false, the DTDs in the
+     * {@link FSEntityResolver} catalog are replaced by compact, cached
+     * versions of themselves (see {@link DTDCache}).
+     */
     private static class XMLResourceBuilder {
-        XMLResource createXMLResource(XMLResource target) {
-            Source input = null;
-            DOMResult output = null;
-            TransformerFactory xformFactory = null;
-            Transformer idTransform = null;
-            XMLReader xmlReader = null;
-            long st = 0L;
-
-            xmlReader = XMLResource.newXMLReader();
-            addHandlers(xmlReader);
-            setParserFeatures(xmlReader);
+        private static final ErrorHandler ERROR_HANDLER = new ErrorHandler() {
+            public void error(SAXParseException ex) {
+                XRLog.load(ex.getMessage());
+            }
 
-            st = System.currentTimeMillis();
-            try {
-                input = new SAXSource(xmlReader, target.getResourceInputSource());
-                DocumentBuilderFactory dbf = DocumentBuilderFactory.newInstance();
-                dbf.setNamespaceAware(true);
-                dbf.setValidating(false);//validation is the root of all evil in xml - tobe
-                output = new DOMResult(dbf.newDocumentBuilder().newDocument());
-                xformFactory = TransformerFactory.newInstance();
-                idTransform = xformFactory.newTransformer();
-            } catch (Exception ex) {
-                throw new XRRuntimeException(
-                        "Failed on configuring SAX to DOM transformer.", ex);
+            public void fatalError(SAXParseException ex) {
+                XRLog.load(ex.getMessage());
+            }
+
+            public void warning(SAXParseException ex) {
+                XRLog.load(ex.getMessage());
+            }
+        };
+
+        private final boolean _reuseParsers;
+        private final boolean _cacheDTDs;
+
+        private final DocumentBuilderFactory _documentBuilderFactory;
+        private final ThreadLocal _parsers = new ThreadLocal();
+
+        XMLResourceBuilder() {
+            _reuseParsers = Configuration.isTrue("xr.load.reuse-parsers", true);
+            _cacheDTDs = Configuration.isTrue("xr.load.cache-dtds", true);
+
+            _documentBuilderFactory = DocumentBuilderFactory.newInstance();
+            _documentBuilderFactory.setNamespaceAware(true);
+            _documentBuilderFactory.setValidating(false);//validation is the root of all evil in xml - tobe
+        }
+
+        /**
+         * Returns an idle parser for the current thread.  Must be returned
+         * with {@link #releaseParser(Parser, boolean)}.
+         */
+        private Parser getParser() {
+            Parser result = null;
+            if (_reuseParsers) {
+                result = (Parser)_parsers.get();
+                if (result != null && result.isInUse()) {
+                    // Loading a document while loading another one
+                    result = null;
+                } else if (result == null) {
+                    result = createParser();
+                    _parsers.set(result);
+                }
+            }
+
+            if (result == null) {
+                result = createParser();
             }
 
+            result.setInUse(true);
+
+            return result;
+        }
+
+        private void releaseParser(Parser parser, boolean failed) {
+            parser.setInUse(false);
+            if (failed && _parsers.get() == parser) {
+                // Don't trust the parser's state after an error
+                _parsers.set(null);
+            }
+        }
+
+        private Parser createParser() {
+            DocumentBuilder documentBuilder;
             try {
-                idTransform.transform(input, output);
+                synchronized (_documentBuilderFactory) {
+                    documentBuilder = _documentBuilderFactory.newDocumentBuilder();
+                }
             } catch (Exception ex) {
-                throw new XRRuntimeException(
-                        "Can't load the XML resource (using TRaX transformer). " + ex.getMessage(), ex);
+                throw new XRRuntimeException("Failed on configuring DOM builder.", ex);
+            }
+
+            XMLReader xmlReader = XMLResource.newXMLReader();
+            setParserFeatures(xmlReader);
+
+            DTDCache dtdCache = null;
+            if (_cacheDTDs && ! isValidating(xmlReader)) {
+                dtdCache = new DTDCache(FSEntityResolver.instance());
             }
+            addHandlers(xmlReader, dtdCache);
+
+            return new Parser(xmlReader, documentBuilder, dtdCache);
+        }
+
+        XMLResource createXMLResource(XMLResource target) {
+            Parser parser = getParser();
+            boolean failed = true;
+            try {
+                long st = System.currentTimeMillis();
+
+                Document document;
+                try {
+                    document = parser.parse(target.getResourceInputSource());
+                } catch (Exception ex) {
+                    throw new XRRuntimeException(
+                            "Can't load the XML resource. " + ex.getMessage(), ex);
+                }
 
-            long end = System.currentTimeMillis();
+                long end = System.currentTimeMillis();
 
-            target.setElapsedLoadTime(end - st);
+                target.setElapsedLoadTime(end - st);
 
-            XRLog.load("Loaded document in ~" + target.getElapsedLoadTime() + "ms");
+                XRLog.load("Loaded document in ~" + target.getElapsedLoadTime() + "ms");
+
+                target.setDocument(document);
+
+                failed = false;
+            } finally {
+                releaseParser(parser, failed);
+            }
 
-            target.setDocument((Document) output.getNode());
             return target;
         }
 
         /**
-         * Adds the default EntityResolved and ErrorHandler for the SAX parser.
+         * Adds the default EntityResolver (or <code>dtdCache</code> if not
+         * <code>null</code>) and ErrorHandler for the SAX parser.
          */
-        private void addHandlers(XMLReader xmlReader) {
+        private void addHandlers(XMLReader xmlReader, DTDCache dtdCache) {
             try {
                 // add our own entity resolver
-                xmlReader.setEntityResolver(FSEntityResolver.instance());
-                xmlReader.setErrorHandler(new ErrorHandler() {
-
-                    public void error(SAXParseException ex) {
-                        XRLog.load(ex.getMessage());
-                    }
-
-                    public void fatalError(SAXParseException ex) {
-                        XRLog.load(ex.getMessage());
-                    }
-
-                    public void warning(SAXParseException ex) {
-                        XRLog.load(ex.getMessage());
-                    }
-                });
+                if (dtdCache != null) {
+                    xmlReader.setEntityResolver(dtdCache);
+                } else {
+                    xmlReader.setEntityResolver(FSEntityResolver.instance());
+                }
+                xmlReader.setErrorHandler(ERROR_HANDLER);
             } catch (Exception ex) {
                 throw new XRRuntimeException("Failed on configuring SAX parser/XMLReader.", ex);
             }
         }
 
+        private boolean isValidating(XMLReader xmlReader) {
+            try {
+                return xmlReader.getFeature("http://xml.org/sax/features/validation");
+            } catch (SAXException ex) {
+                return false;
+            }
+        }
+
         /**
          * Sets all standard features for SAX parser, using values from Configuration.
          */
@@ -278,40 +368,107 @@ public class XMLResource extends AbstractResource {
         }
 
         public XMLResource createXMLResource(Source source) {
-            DOMResult output = null;
-            TransformerFactory xformFactory = null;
-            Transformer idTransform = null;
-            long st = 0L;
-
-            st = System.currentTimeMillis();
+            Parser parser = getParser();
+            boolean failed = true;
             try {
-                DocumentBuilderFactory dbf = DocumentBuilderFactory.newInstance();
-                dbf.setNamespaceAware(true);
-                dbf.setValidating(false);//validation is the root of all evil in xml - tobe
-                output = new DOMResult(dbf.newDocumentBuilder().newDocument());
-                xformFactory = TransformerFactory.newInstance();
-                idTransform = xformFactory.newTransformer();
-            } catch (Exception ex) {
-                throw new XRRuntimeException("Failed on configuring SAX to DOM transformer.", ex);
+                DOMResult output = null;
+                Transformer idTransform = null;
+                long st = 0L;
+
+                st = System.currentTimeMillis();
+                try {
+                    output = new DOMResult(parser.newDocument());
+                    idTransform = parser.newTransformer();
+                } catch (Exception ex) {
+                    throw new XRRuntimeException("Failed on configuring SAX to DOM transformer.", ex);
+                }
+
+                try {
+                    idTransform.transform(source, output);
+                } catch (Exception ex) {
+                    throw new XRRuntimeException("Can't load the XML resource (using TRaX transformer). " + ex.getMessage(), ex);
+                }
+
+                long end = System.currentTimeMillis();
+
+                //HACK: should rather use a default constructor
+                XMLResource target = new XMLResource((InputSource) null);
+
+                target.setElapsedLoadTime(end - st);
+
+                XRLog.load("Loaded document in ~" + target.getElapsedLoadTime() + "ms");
+
+                target.setDocument((Document) output.getNode());
+
+                failed = false;
+
+                return target;
+            } finally {
+                releaseParser(parser, failed);
             }
+        }
+    }
 
+    /**
+     * A configured SAX parser plus the objects needed to build documents
+     * with it.  Only used by one thread at a time.
+     */
+    private static class Parser {
+        private final XMLReader _xmlReader;
+        private final DocumentBuilder _documentBuilder;
+        private final DOMBuilder _domBuilder = new DOMBuilder();
+        private final DTDCache _dtdCache;
+
+        private TransformerFactory _transformerFactory;
+        private boolean _inUse;
+
+        public Parser(XMLReader xmlReader, DocumentBuilder documentBuilder, DTDCache dtdCache) {
+            _xmlReader = xmlReader;
+            _documentBuilder = documentBuilder;
+            _dtdCache = dtdCache;
+
+            _xmlReader.setContentHandler(_domBuilder);
             try {
-                idTransform.transform(source, output);
-            } catch (Exception ex) {
-                throw new XRRuntimeException("Can't load the XML resource (using TRaX transformer). " + ex.getMessage(), ex);
+                _xmlReader.setProperty("http://xml.org/sax/properties/lexical-handler", _domBuilder);
+                _domBuilder.setDTDCache(_dtdCache);
+            } catch (SAXException ex) {
+                XRLog.load(Level.WARNING, "SAX lexical handler not supported on this XMLReader. " +
+                        "Comments will not be included in documents and DTDs will not be cached.");
             }
+        }
 
-            long end = System.currentTimeMillis();
+        public Document parse(InputSource source) throws Exception {
+            Document document = newDocument();
+            _domBuilder.reset(document);
+            if (_dtdCache != null) {
+                _dtdCache.reset();
+            }
+            try {
+                _xmlReader.parse(source);
+            } finally {
+                // Don't hold on to the document (or a half built document)
+                _domBuilder.reset(null);
+            }
+            return document;
+        }
 
-            //HACK: should rather use a default constructor
-            XMLResource target = new XMLResource((InputSource) null);
+        public Document newDocument() {
+            return _documentBuilder.newDocument();
+        }
 
-            target.setElapsedLoadTime(end - st);
+        public Transformer newTransformer() throws Exception {
+            if (_transformerFactory == null) {
+                _transformerFactory = TransformerFactory.newInstance();
+            }
+            return _transformerFactory.newTransformer();
+        }
 
-            XRLog.load("Loaded document in ~" + target.getElapsedLoadTime() + "ms");
+        public boolean isInUse() {
+            return _inUse;
+        }
 
-            target.setDocument((Document) output.getNode());
-            return target;
+        public void setInUse(boolean inUse) {
+            _inUse = inUse;
         }
     }
 }
@@ -24,39 +24,36 @@ import org.xhtmlrenderer.util.XRLog;
 import java.util.LinkedList;
 import java.util.logging.Level;
 
-
-
 /**
- * A thread-safe queue containing BackgroundImageLoaderItem, each of which represents one image (identified by a URI)
- * which needs to be loaded.
+ * A pool of background threads (daemons, low priority) which load images.  Each queued image is loaded by an
+ * {@link ImageLoadWorker}.  Threads are started as images are queued, up to the configured number of workers, and
+ * stop again once they have been idle for a while.  Items are loaded in FIFO order.
  */
 class ImageLoadQueue {
-    // marker queue item which, if read, means the reading threads should simply stop their polling
-    // introduced by kill()
-    private static final ImageLoadItem KILL_SWITCH = new ImageLoadItem(null, null, null, -1, -1);
+    private static int counter = 0;
 
     // list of items to be loaded
-    private final java.util.LinkedList _loadQueue;
+    private final LinkedList _loadQueue = new LinkedList();
 
-    /**
-     * Intantiates a new queue.
-     */
-    public ImageLoadQueue() {
-        this._loadQueue = new LinkedList();
-    }
+    private final int _workerCount;
+    private final long _keepAliveMillis;
+
+    // the number of worker threads running and how many of them are waiting for items
+    private int _threadCount;
+    private int _idleCount;
+
+    private boolean _killed;
 
     /**
-     * Queues a new item to be loaded. Thread-safe.
+     * Intantiates a new queue.
      *
-     * @param uri URI of the item to be loaded. As there is no good way of reporting failures, you should ensure
-     *            the URI is a proper URL before calling this method.
-     * @param re  container for the image to be loaded; will be updated via
-     *            {@link MutableFSImage#setImage(String,java.awt.Image,boolean)} once image is loaded
-    public synchronized void addToQueue(String uri, MutableFSImage re) {
-        this.addToQueue(uri, re, -1, -1);
-    }
+     * @param workerCount the maximum number of images to load at the same time
+     * @param keepAliveSeconds how long an idle worker thread waits for more work before it stops
      */
-
+    public ImageLoadQueue(int workerCount, int keepAliveSeconds) {
+        this._workerCount = Math.max(1, workerCount);
+        this._keepAliveMillis = Math.max(0, keepAliveSeconds) * 1000L;
+    }
 
     /**
      * Queues a new item to be loaded. Thread-safe.
@@ -66,64 +63,102 @@ class ImageLoadQueue {
      *            the URI is a proper URL before calling this method.
      */
     public synchronized void addToQueue(final ImageResourceLoader imageResourceLoader, final String uri, final MutableFSImage mfsi, final int width, final int height) {
+        if (_killed) {
+            return;
+        }
         XRLog.general(Level.FINE, "Queueing load for image uri " + uri);
         _loadQueue.addLast(new ImageLoadItem(imageResourceLoader, uri, mfsi, width, height));
-        notifyAll();
+        if (_idleCount > 0) {
+            notify();
+        } else if (_threadCount < _workerCount) {
+            startWorker();
+        }
+    }
+
+    private void startWorker() {
+        _threadCount++;
+        Thread result = new Thread(new Runnable() {
+            public void run() {
+                // getTask() accounts for the worker when it returns null
+                boolean stopped = false;
+                try {
+                    ImageLoadItem item;
+                    while ((item = getTask()) != null) {
+                        try {
+                            new ImageLoadWorker(item).run();
+                        } catch (RuntimeException e) {
+                            XRLog.load(Level.WARNING, "Unable to load image " + item._uri, e);
+                        }
+                    }
+                    stopped = true;
+                } finally {
+                    if (! stopped) {
+                        workerDied();
+                    }
+                }
+            }
+        }, "ImageLoadWorker(" + counter++ + ")");
+        result.setDaemon(true);
+        result.setPriority(Thread.MIN_PRIORITY);
+        result.start();
     }
 
     /**
-     * Returns the next available task from the queue, or blocks if there are no more; items are returned in FIFO order.
-     * If none are available, the method will block until the next items is pushed into the queue.
-     *
-     * @return an ImageLoadItem
-     * @throws InterruptedException if the wait (block) was interrupted externally
+     * Called when a worker thread was ended by an <code>Error</code>.  Starts another worker if items are still
+     * queued.
      */
-    public synchronized ImageLoadItem getTask() throws InterruptedException {
-        while (_loadQueue.isEmpty()) {
-            wait();
+    private synchronized void workerDied() {
+        _threadCount--;
+        if (! _killed && ! _loadQueue.isEmpty()) {
+            startWorker();
         }
-        if (_loadQueue.getLast() == KILL_SWITCH) {
-            XRLog.general(Level.FINE, "Thread " + Thread.currentThread().getName() +
-                    " requested item, but queue is shutting down; returning kill switch.");
-            return KILL_SWITCH;
-        } else {
-            ImageLoadItem item = (ImageLoadItem) _loadQueue.removeLast();
+    }
 
-            XRLog.general(Level.FINE, "Thread " + Thread.currentThread().getName() +
-                    " pulled item " + item._uri + " from queue, " + (_loadQueue.size() - 1) + " remaining");
-            return item;
+    /**
+     * Returns the next item to load, waiting up to the keep-alive time for one.  Returns <code>null</code> (and
+     * the calling worker thread must stop) if none was queued in time or the queue was killed.
+     */
+    private synchronized ImageLoadItem getTask() {
+        long deadline = System.currentTimeMillis() + _keepAliveMillis;
+        while (_loadQueue.isEmpty() && ! _killed) {
+            long timeout = deadline - System.currentTimeMillis();
+            if (timeout <= 0) {
+                break;
+            }
+            _idleCount++;
+            try {
+                wait(timeout);
+            } catch (InterruptedException e) {
+                break;
+            } finally {
+                _idleCount--;
+            }
         }
+        if (_killed || _loadQueue.isEmpty()) {
+            _threadCount--;
+            return null;
+        }
+        return (ImageLoadItem) _loadQueue.removeFirst();
     }
 
     /**
-     * Removes all items currently in the queue.
+     * Removes all items currently in the queue.  Images which are already being loaded aren't affected.
      */
     public synchronized void reset() {
         _loadQueue.clear();
     }
 
     /**
-     * Indicates that no more items will be added to the queue, no more items currently in the queue will be loaded,
-     * and that worker threads polling this queue should shut down.
+     * Indicates that no more items will be added to the queue and no more items currently in the queue will be
+     * loaded.  The worker threads stop once they have finished the images they're loading.
      */
     public synchronized void kill() {
-        _loadQueue.addLast(KILL_SWITCH);
+        _killed = true;
+        _loadQueue.clear();
         notifyAll();
     }
 
-    /**
-     * Returns true if the item, retrieved from the queue via {@link #getTask()}, is a kill switch, meaning the worker
-     * that retrieved it should stop polling.
-     *
-     * @param queueItem an item retrieved from the queue.
-     * @return true if the item, retrieved from the queue via {@link #getTask()}, is a kill switch, meaning the worker
-     *         that retrieved it should stop polling.
-     */
-    public static boolean isKillSwitch(Object queueItem) {
-        return queueItem == KILL_SWITCH;
-    }
-
-    public int size() {
+    public synchronized int size() {
         return _loadQueue.size();
     }
 }
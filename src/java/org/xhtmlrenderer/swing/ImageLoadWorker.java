@@ -21,7 +21,6 @@ package org.xhtmlrenderer.swing;
 
 import org.xhtmlrenderer.extend.FSImage;
 import org.xhtmlrenderer.resource.ImageResource;
-import org.xhtmlrenderer.util.ImageUtil;
 import org.xhtmlrenderer.util.XRLog;
 
 import java.awt.*;
@@ -30,58 +29,45 @@ import java.util.logging.Level;
 
 
 /**
- * A background thread (daemon, low priority) which reads BackgroundImageLoaderItem from a BackgroundImageQueue
- * and loads the images into memory. Once images have loaded, the item's MutableFSImage will receive the newly loaded
+ * A task, run by the threads of an {@link ImageLoadQueue}, which loads the image of an {@link ImageLoadItem} into
+ * memory. Once images have loaded, the item's MutableFSImage will receive the newly loaded
  * image via setImage(newImage). Images, once loaded, are always BufferedImages and will always be compatible with
  * the current screen's graphics configuration. If an image cannot be loaded (network failure), a 1 x 1 pixel image
  * will be returned instead and the problem will be logged.
  */
-class ImageLoadWorker extends Thread {
-    private static volatile int counter = 0;
-    private final ImageLoadQueue queue;
+class ImageLoadWorker implements Runnable {
+    private final ImageLoadItem loadItem;
 
-    public ImageLoadWorker(ImageLoadQueue queue) {
-        this.queue = queue;
-        setDaemon(true);
-        setPriority(Thread.MIN_PRIORITY);
-        setName("ImageLoadWorker(" + counter++ + ")");
+    public ImageLoadWorker(ImageLoadItem loadItem) {
+        this.loadItem = loadItem;
     }
 
     public void run() {
-        try {
-            while (true) {
-                final ImageLoadItem loadItem = queue.getTask();
+        final ImageResourceLoader loader = loadItem._imageResourceLoader;
 
-                if (ImageLoadQueue.isKillSwitch(loadItem)) {
-                    break;
-                }
-                final ImageResource ir = ImageResourceLoader.loadImageResourceFromUri(loadItem._uri);
-                FSImage awtfsImage = ir.getImage();
-                BufferedImage newImg = (BufferedImage) ((AWTFSImage) awtfsImage).getImage();
-                XRLog.load(Level.FINE, this + ", loaded " + loadItem._uri);
+        // Another worker (or an immediate load) may be loading the same image
+        ImageResource ir;
+        final boolean wasScaled;
+        if (loadItem.haveTargetDimensions()) {
+            // Loads the image directly at the target size unless it has 
+            // already been loaded at its own size
+            ir = loader.load(loadItem._uri, loadItem._targetWidth, loadItem._targetHeight);
+            ImageResource base = loader.getLoadedBase(loadItem._uri);
+            wasScaled = base == null || !base.hasDimensions(loadItem._targetWidth, loadItem._targetHeight);
+        } else {
+            ir = loader.load(loadItem._uri, -1, -1);
+            wasScaled = false;
+        }
+        XRLog.load(Level.FINE, Thread.currentThread().getName() + ", loaded " + loadItem._uri);
 
-                loadItem._imageResourceLoader.loaded(ir, newImg.getWidth(), newImg.getHeight());
-                final boolean wasScaled;
-                if (loadItem.haveTargetDimensions() && !ir.hasDimensions(loadItem._targetWidth, loadItem._targetHeight)) {
-                    XRLog.load(Level.FINE, this + ", scaling " + loadItem._uri + " to " + loadItem._targetWidth + ", " + loadItem._targetHeight);
-                    newImg = ImageUtil.getScaledInstance(newImg, loadItem._targetWidth, loadItem._targetHeight);
-                    ImageResource sir = new ImageResource(ir.getImageUri(), AWTFSImage.createImage(newImg));
-                    loadItem._imageResourceLoader.loaded(sir, newImg.getWidth(), newImg.getHeight());
-                    wasScaled = true;
-                } else {
-                    wasScaled = false;
-                }
+        FSImage awtfsImage = ir.getImage();
+        final BufferedImage newImg = (BufferedImage) ((AWTFSImage) awtfsImage).getImage();
 
-                // msfImage belongs to the Swing AWT thread
-                final BufferedImage newImg1 = newImg;
-                EventQueue.invokeLater(new Runnable() {
-                    public void run() {
-                        loadItem._mfsImage.setImage(loadItem._uri, newImg1, wasScaled);
-                    }
-                });
+        // msfImage belongs to the Swing AWT thread
+        EventQueue.invokeLater(new Runnable() {
+            public void run() {
+                loadItem._mfsImage.setImage(loadItem._uri, newImg, wasScaled);
             }
-        } catch (InterruptedException e) {
-            //
-        }
+        });
     }
 }
@@ -0,0 +1,130 @@
+/*
+ * {{{ header & license
+ * Copyright (c) 2009 Wisconsin Court System
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * as published by the Free Software Foundation; either version 2.1
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ * }}}
+ */
+package org.xhtmlrenderer.swing;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.LinkedList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+import org.xhtmlrenderer.util.XRRuntimeException;
+
+/**
+ * Renders a sequence of images (e.g. the tiles of a document or its pages)
+ * on a pool of threads and hands them to a {@link Receiver}, in order, on
+ * the calling thread.  At most twice as many images as there are threads
+ * are held at any time, however many images there are.
+ */
+class ImageRenderQueue {
+    /**
+     * Renders image <code>index</code>.  Called on the threads of the pool
+     * (or on the calling thread if only one thread is used).
+     */
+    public interface Renderer {
+        public BufferedImage render(int index);
+    }
+    
+    public interface Receiver {
+        public void imageRendered(BufferedImage image, int index) throws IOException;
+    }
+    
+    private final String _threadName;
+    
+    public ImageRenderQueue(String threadName) {
+        _threadName = threadName;
+    }
+    
+    /**
+     * Renders images <code>0</code> to <code>count - 1</code>.  If 
+     * <code>threadCount</code> is one or less, the images are rendered on
+     * the calling thread.
+     */
+    public void run(int count, int threadCount, final Renderer renderer, Receiver receiver) 
+            throws IOException {
+        if (threadCount <= 1) {
+            for (int i = 0; i < count; i++) {
+                receiver.imageRendered(renderer.render(i), i);
+            }
+            return;
+        }
+        
+        ExecutorService executor = Executors.newFixedThreadPool(
+                threadCount, new RenderThreadFactory(_threadName));
+        try {
+            // The futures of the images being rendered (in order)
+            LinkedList pending = new LinkedList();
+            int next = 0;
+            while (next < count || ! pending.isEmpty()) {
+                while (next < count && pending.size() < threadCount * 2) {
+                    final int index = next++;
+                    pending.add(executor.submit(new Callable() {
+                        public Object call() {
+                            return renderer.render(index);
+                        }
+                    }));
+                }
+                
+                int index = next - pending.size();
+                receiver.imageRendered(getImage((Future)pending.removeFirst()), index);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+    
+    private BufferedImage getImage(Future future) throws IOException {
+        try {
+            return (BufferedImage)future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while rendering images");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException)cause;
+            } else if (cause instanceof Error) {
+                throw (Error)cause;
+            } else {
+                throw new XRRuntimeException(cause.getMessage(), cause);
+            }
+        }
+    }
+    
+    private static final class RenderThreadFactory implements ThreadFactory {
+        private final String _name;
+        private int _threadCount;
+        
+        public RenderThreadFactory(String name) {
+            _name = name;
+        }
+        
+        public synchronized Thread newThread(Runnable r) {
+            Thread result = new Thread(r, _name + "-" + (++_threadCount));
+            result.setDaemon(true);
+            return result;
+        }
+    }
+}
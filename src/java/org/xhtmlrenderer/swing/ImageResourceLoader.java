@@ -5,23 +5,34 @@ import org.xhtmlrenderer.util.XRLog;
 import org.xhtmlrenderer.util.StreamResource;
 import org.xhtmlrenderer.util.ImageUtil;
 import org.xhtmlrenderer.resource.ImageResource;
+import org.xhtmlrenderer.resource.ImageResourceCache;
 import org.xhtmlrenderer.extend.FSImage;
 
 import java.util.logging.Level;
-import java.util.LinkedHashMap;
-import java.util.Map;
-import java.util.Iterator;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
 import java.io.InputStream;
 import java.io.IOException;
 import java.io.FileNotFoundException;
 import java.awt.image.BufferedImage;
 
 
-import javax.imageio.ImageIO;
-
-
 /**
- *
+ * Loads and caches images.  Images from <code>file:</code> and 
+ * <code>jar:</code> URIs are loaded immediately by the thread asking for 
+ * them, others are loaded in the background by an {@link ImageLoadQueue}.
+ * <p>
+ * Images are decoded and scaled without holding the lock on the cache.  If
+ * several threads ask for the same image at the same size at the same time,
+ * one of them loads it and the others wait for it.
+ * <p>
+ * If an image is asked for at a given size and hasn't been loaded at its own
+ * size already, it is decoded at (about) the size asked for (see
+ * {@link ImageUtil#readImage(InputStream, int, int)}) instead of being 
+ * decoded at full size first.  This can be turned off with the
+ * <code>xr.image.subsampling</code> configuration property.
  */
 public class ImageResourceLoader {
     public static final RepaintListener NO_OP_REPAINT_LISTENER = new RepaintListener() {
@@ -29,12 +40,20 @@ public class ImageResourceLoader {
             XRLog.general(Level.FINE, "No-op repaint requested");
         }
     };
-    private final Map _imageCache;
+    private final ImageResourceCache _imageCache;
+
+    /**
+     * The images being loaded immediately (keyed by CacheKey), as 
+     * FutureTasks
+     */
+    private final ConcurrentHashMap _loading = new ConcurrentHashMap();
 
     private final ImageLoadQueue _loadQueue;
 
     private final int _imageCacheCapacity;
 
+    private final boolean _subsampling = Configuration.isTrue("xr.image.subsampling", true);
+
     private RepaintListener _repaintListener = NO_OP_REPAINT_LISTENER;
 
 
@@ -45,31 +64,50 @@ public class ImageResourceLoader {
 
     public ImageResourceLoader(int cacheSize) {
         this._imageCacheCapacity = cacheSize;
-        this._loadQueue = new ImageLoadQueue();
-        final int workerCount = Configuration.valueAsInt("xr.image.background.workers", 5);
-        for (int i = 0; i < workerCount; i++) {
-            new ImageLoadWorker(_loadQueue).start();
-        }
+        this._loadQueue = new ImageLoadQueue(
+                Configuration.valueAsInt("xr.image.background.workers", 5),
+                Configuration.valueAsInt("xr.image.background.keep-alive", 60));
         this._repaintListener = NO_OP_REPAINT_LISTENER;
 
-        // note we do *not* override removeEldestEntry() here--users of this class must call shrinkImageCache().
-        // that's because we don't know when is a good time to flush the cache
-        this._imageCache = new LinkedHashMap(cacheSize, 0.75f, true);
+        // the number of images is only limited by shrink() because we don't know when is a good time to flush
+        // the cache; the memory used by the images is always limited
+        this._imageCache = ImageResourceCache.newInstance();
     }
 
     public static ImageResource loadImageResourceFromUri(final String uri) {
+        return createImageResource(uri, loadImageFromUri(uri, -1, -1));
+    }
+
+    /**
+     * Loads the image at <code>uri</code> and scales it to 
+     * <code>width</code> x <code>height</code> pixels.  Large images are
+     * decoded at a reduced resolution which is still at least twice the
+     * target size.
+     */
+    public static ImageResource loadImageResourceFromUri(final String uri, final int width, final int height) {
+        BufferedImage img = loadImageFromUri(uri, width, height);
+        if (img != null) {
+            img = ImageUtil.getScaledInstance(img, width, height);
+        }
+        return createImageResource(uri, img);
+    }
+
+    /**
+     * Returns <code>null</code> (after logging the problem) if the image 
+     * can't be loaded
+     */
+    private static BufferedImage loadImageFromUri(final String uri, final int width, final int height) {
         StreamResource sr = new StreamResource(uri);
         InputStream is;
-        ImageResource ir = null;
+        BufferedImage img = null;
         try {
             sr.connect();
             is = sr.bufferedStream();
             try {
-                BufferedImage img = ImageIO.read(is);
+                img = ImageUtil.readImage(is, width, height);
                 if (img == null) {
-                    throw new IOException("ImageIO.read() returned null");
+                    throw new IOException("No ImageReader could read the image");
                 }
-                ir = createImageResource(uri, img);
             } catch (FileNotFoundException e) {
                 XRLog.exception("Can't read image file; image at URI '" + uri + "' not found");
             } catch (IOException e) {
@@ -81,74 +119,143 @@ public class ImageResourceLoader {
             // couldnt open stream at URI...
             XRLog.exception("Can't open stream for URI '" + uri + "': " + e.getMessage());
         }
-        if (ir == null) {
-            ir = createImageResource(uri, null);
-        }
-        return ir;
+        return img;
     }
 
     public synchronized void shrink() {
-        int ovr = _imageCache.size() - _imageCacheCapacity;
-        Iterator it = _imageCache.keySet().iterator();
-        while (it.hasNext() && ovr-- > 0) {
-            it.next();
-            it.remove();
-        }
+        _imageCache.shrink(_imageCacheCapacity);
     }
 
     public synchronized void clear() {
         _imageCache.clear();
     }
 
+    public ImageResourceCache getImageCache() {
+        return _imageCache;
+    }
+
     public ImageResource get(final String uri) {
         return get(uri, -1, -1);
     }
 
-    public synchronized ImageResource get(final String uri, final int width, final int height) {
+    public ImageResource get(final String uri, final int width, final int height) {
         CacheKey key = new CacheKey(uri, width, height);
-        ImageResource ir = (ImageResource) _imageCache.get(key);
-        if (ir == null) {
+        ImageResource ir;
+        synchronized (this) {
+            ir = (ImageResource) _imageCache.get(key);
+            if (ir != null) {
+                return ir;
+            }
+
             // not loaded, or not loaded at target size
+            if (! isImmediateLoadUri(uri) && getLoadedBase(uri) == null) {
+                XRLog.load(Level.FINE, "Image cache miss, URI not yet loaded, queueing: " + uri);
+                MutableFSImage mfsi = new MutableFSImage(_repaintListener);
+                ir = new ImageResource(uri, mfsi);
+                _imageCache.put(key, ir);
+                _loadQueue.addToQueue(this, uri, mfsi, width, height);
+                return ir;
+            }
+        }
 
-            // loaded a base size?
-            ir = (ImageResource) _imageCache.get(new CacheKey(uri, -1, -1));
+        // either an immediate URI or the image has been loaded at its base 
+        // size and only needs to be scaled
+        return load(key);
+    }
 
-            // no: loaded
-            if (ir == null) {
-                if (isImmediateLoadUri(uri)) {
-                    XRLog.load(Level.FINE, "Load immediate: " + uri);
-                    ir = loadImageResourceFromUri(uri);
-                    FSImage awtfsImage = ir.getImage();
-                    BufferedImage newImg = (BufferedImage) ((AWTFSImage) awtfsImage).getImage();
+    /**
+     * Returns the image at <code>uri</code> at the given size (or its own 
+     * size if <code>width</code> and <code>height</code> are -1), loading it
+     * if necessary.  Doesn't return placeholders for images which are still 
+     * being loaded in the background.
+     */
+    ImageResource load(final String uri, final int width, final int height) {
+        return load(new CacheKey(uri, width, height));
+    }
+
+    private ImageResource load(final CacheKey key) {
+        FutureTask task = new FutureTask(new Callable() {
+            public Object call() {
+                return loadUncached(key);
+            }
+        });
+
+        FutureTask existing = (FutureTask) _loading.putIfAbsent(key, task);
+        if (existing == null) {
+            try {
+                // may have been loaded since the caller looked
+                ImageResource ir = getLoaded(key);
+                if (ir != null) {
+                    task.cancel(false);
+                    return ir;
+                }
+                task.run();
+            } finally {
+                _loading.remove(key);
+            }
+            existing = task;
+        } else {
+            XRLog.load(Level.FINE, "Waiting for " + key.uri + " to be loaded by another thread");
+        }
+
+        try {
+            return (ImageResource) existing.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return createImageResource(key.uri, null);
+        } catch (ExecutionException e) {
+            XRLog.exception("Can't load image '" + key.uri + "'", e.getCause());
+            return createImageResource(key.uri, null);
+        }
+    }
+
+    private ImageResource loadUncached(final CacheKey key) {
+        String uri = key.uri;
+        ImageResource ir;
+        if (key.width > -1 && key.height > -1) {
+            ImageResource base = getLoadedBase(uri);
+            if (base == null && _subsampling) {
+                XRLog.load(Level.FINE, "Load immediate: " + uri + " at " + key.width + ", " + key.height);
+                BufferedImage img = loadImageFromUri(uri, key.width, key.height);
+                if (img != null && img.getWidth() == key.width && img.getHeight() == key.height) {
+                    // Already the image's own size
+                    ir = createImageResource(uri, img);
                     loaded(ir, -1, -1);
-                    if (width > -1 && height > -1) {
-                        XRLog.load(Level.FINE, this + ", scaling " + uri + " to " + width + ", " + height);
-                        newImg = ImageUtil.getScaledInstance(newImg, width, height);
-                        ir = new ImageResource(ir.getImageUri(), AWTFSImage.createImage(newImg));
-                        loaded(ir, width, height);
-                    }
                 } else {
-                    XRLog.load(Level.FINE, "Image cache miss, URI not yet loaded, queueing: " + uri);
-                    MutableFSImage mfsi = new MutableFSImage(_repaintListener);
-                    ir = new ImageResource(uri, mfsi);
-                    _loadQueue.addToQueue(this, uri, mfsi, width, height);
+                    ir = createImageResource(uri,
+                            img == null ? null : ImageUtil.getScaledInstance(img, key.width, key.height));
                 }
-
-                _imageCache.put(key, ir);
-            } else {
-                // loaded at base size, need to scale
-                XRLog.load(Level.FINE, this + ", scaling " + uri + " to " + width + ", " + height);
-                FSImage awtfsImage = ir.getImage();
-                BufferedImage newImg = (BufferedImage) ((AWTFSImage) awtfsImage).getImage();
-
-                newImg = ImageUtil.getScaledInstance(newImg, width, height);
-                ir = new ImageResource(ir.getImageUri(), AWTFSImage.createImage(newImg));
-                loaded(ir, width, height);
+                loaded(ir, key.width, key.height);
+                return ir;
+            } else if (base == null) {
+                base = load(uri, -1, -1);
             }
+            XRLog.load(Level.FINE, this + ", scaling " + uri + " to " + key.width + ", " + key.height);
+            FSImage awtfsImage = base.getImage();
+            BufferedImage newImg = (BufferedImage) ((AWTFSImage) awtfsImage).getImage();
+            newImg = ImageUtil.getScaledInstance(newImg, key.width, key.height);
+            ir = new ImageResource(base.getImageUri(), AWTFSImage.createImage(newImg));
+        } else {
+            XRLog.load(Level.FINE, "Load immediate: " + uri);
+            ir = loadImageResourceFromUri(uri);
         }
+        loaded(ir, key.width, key.height);
         return ir;
     }
 
+    /**
+     * Returns the cached image for <code>key</code> unless it is a 
+     * placeholder for an image which is still being loaded
+     */
+    private synchronized ImageResource getLoaded(final CacheKey key) {
+        ImageResource ir = (ImageResource) _imageCache.get(key);
+        return ir != null && ir.isLoaded() ? ir : null;
+    }
+
+    ImageResource getLoadedBase(final String uri) {
+        return getLoaded(new CacheKey(uri, -1, -1));
+    }
+
     public boolean isImmediateLoadUri(final String uri) {
         return uri.startsWith("jar:file:") || uri.startsWith("file:");
     }
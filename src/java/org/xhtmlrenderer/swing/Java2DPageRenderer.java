@@ -0,0 +1,363 @@
+/*
+ * {{{ header & license
+ * Copyright (c) 2009 Wisconsin Court System
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * as published by the Free Software Foundation; either version 2.1
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ * }}}
+ */
+package org.xhtmlrenderer.swing;
+
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.Shape;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.xhtmlrenderer.css.style.CalculatedStyle;
+import org.xhtmlrenderer.extend.NamespaceHandler;
+import org.xhtmlrenderer.extend.UserInterface;
+import org.xhtmlrenderer.layout.BoxBuilder;
+import org.xhtmlrenderer.layout.Layer;
+import org.xhtmlrenderer.layout.LayoutContext;
+import org.xhtmlrenderer.layout.SharedContext;
+import org.xhtmlrenderer.render.BlockBox;
+import org.xhtmlrenderer.render.PageBox;
+import org.xhtmlrenderer.render.RenderingContext;
+import org.xhtmlrenderer.render.ViewportBox;
+import org.xhtmlrenderer.simple.extend.XhtmlNamespaceHandler;
+import org.xhtmlrenderer.util.Configuration;
+import org.xhtmlrenderer.util.FSImageWriter;
+import org.xhtmlrenderer.util.ImageUtil;
+
+/**
+ * Renders the pages of a document laid out for print (as 
+ * {@link org.xhtmlrenderer.pdf.ITextRenderer} does) as images, for example
+ * for thumbnails or print previews.  Nothing needs to be displayed.
+ * <pre>
+ * Java2DPageRenderer renderer = new Java2DPageRenderer(150);
+ * renderer.setDocument(new File("doc.xhtml"));
+ * renderer.layout();
+ * renderer.writePages(new FSImageWriter(), "doc-page-", 4);
+ * </pre>
+ * The document is laid out at the resolution passed to the constructor so
+ * one dot is one pixel of the page images.  A single page is rendered with
+ * {@link #renderPage(int)} (only the boxes on that page are painted).
+ * {@link #renderPages(int, PageListener)} renders every page, optionally on
+ * several threads, and holds only a few page images at a time however long
+ * the document is.
+ * <p>
+ * Not thread-safe (other than the threads it starts itself).
+ */
+public class Java2DPageRenderer {
+    /** The resolution used by the default constructor */
+    public static final float DEFAULT_DPI = 96;
+    
+    private final SharedContext _sharedContext;
+    
+    // Provides the font context for layout
+    private final Java2DOutputDevice _layoutDevice;
+    
+    private Document _doc;
+    private BlockBox _root;
+    
+    private int _bufferedImageType = BufferedImage.TYPE_INT_RGB;
+    private Map _renderingHints;
+    
+    public Java2DPageRenderer() {
+        this(DEFAULT_DPI);
+    }
+    
+    /**
+     * @param dpi The resolution of the page images (e.g. 72 renders a point
+     * as one pixel)
+     */
+    public Java2DPageRenderer(float dpi) {
+        _layoutDevice = new Java2DOutputDevice(
+                ImageUtil.createCompatibleBufferedImage(1, 1));
+        
+        _sharedContext = new SharedContext(new NaiveUserAgent());
+        _sharedContext.setFontResolver(new AWTFontResolver());
+        _sharedContext.setReplacedElementFactory(new SwingReplacedElementFactory());
+        _sharedContext.setTextRenderer(new Java2DTextRenderer());
+        _sharedContext.setDPI(dpi);
+        // A CSS pixel is 1/96 of an inch
+        _sharedContext.setDotsPerPixel(Math.max(1, Math.round(dpi / 96)));
+        _sharedContext.setPrint(true);
+        _sharedContext.setInteractive(false);
+    }
+    
+    public SharedContext getSharedContext() {
+        return _sharedContext;
+    }
+    
+    public void setDocument(String uri) {
+        setDocument(loadDocument(uri), uri);
+    }
+    
+    public void setDocument(File file) throws IOException {
+        File parent = file.getAbsoluteFile().getParentFile();
+        setDocument(
+                loadDocument(file.toURI().toURL().toExternalForm()),
+                (parent == null ? "" : parent.toURI().toURL().toExternalForm())
+        );
+    }
+    
+    public void setDocument(Document doc, String url) {
+        setDocument(doc, url, new XhtmlNamespaceHandler());
+    }
+    
+    public void setDocument(Document doc, String url, NamespaceHandler nsh) {
+        _doc = doc;
+        _root = null;
+        
+        _sharedContext.reset();
+        if (Configuration.isTrue("xr.cache.stylesheets", true)) {
+            _sharedContext.getCss().flushStyleSheets();
+        } else {
+            _sharedContext.getCss().flushAllStyleSheets();
+        }
+        _sharedContext.setBaseURL(url);
+        _sharedContext.setNamespaceHandler(nsh);
+        _sharedContext.getCss().setDocumentContext(
+                _sharedContext, _sharedContext.getNamespaceHandler(), 
+                doc, new NullUserInterface());
+    }
+    
+    private Document loadDocument(String uri) {
+        return _sharedContext.getUac().getXMLResource(uri).getDocument();
+    }
+    
+    /**
+     * Sets the type of the page images (one of the <code>TYPE_</code> 
+     * constants of {@link BufferedImage}).  The default is 
+     * {@link BufferedImage#TYPE_INT_RGB}; images written as JPEG must not
+     * have an alpha channel.
+     */
+    public void setBufferedImageType(int bufferedImageType) {
+        _bufferedImageType = bufferedImageType;
+    }
+    
+    /**
+     * Sets the rendering hints added to the graphics of each page image
+     * (see {@link Graphics2D#addRenderingHints(Map)}).
+     */
+    public void setRenderingHints(Map renderingHints) {
+        _renderingHints = renderingHints;
+    }
+    
+    public void layout() {
+        LayoutContext c = newLayoutContext();
+        BlockBox root = BoxBuilder.createRootBox(c, _doc);
+        root.setContainingBlock(new ViewportBox(getInitialExtents(c)));
+        root.layout(c);
+        Layer layer = root.getLayer();
+        layer.trimEmptyPages(c, layer.getPaintingDimension(c).height);
+        layer.layoutPages(c);
+        layer.createPagedBoxIndex(c);
+        layer.assignPagePaintingPositions(c, Layer.PAGED_MODE_PRINT);
+        _root = root;
+    }
+    
+    private Rectangle getInitialExtents(LayoutContext c) {
+        PageBox first = Layer.createPageBox(c, "first");
+        
+        return new Rectangle(0, 0, first.getContentWidth(c), first.getContentHeight(c));
+    }
+    
+    private LayoutContext newLayoutContext() {
+        LayoutContext result = _sharedContext.newLayoutContextInstance();
+        result.setFontContext(new Java2DFontContext(_layoutDevice.getGraphics()));
+        
+        _sharedContext.getTextRenderer().setup(result.getFontContext());
+        
+        return result;
+    }
+    
+    public int getPageCount() {
+        return getPages().size();
+    }
+    
+    private List getPages() {
+        if (_root == null) {
+            throw new IllegalStateException("Document needs layout");
+        }
+        return _root.getLayer().getPages();
+    }
+    
+    /**
+     * Renders page <code>pageNo</code> (counting from zero) as an image as
+     * large as the page.
+     */
+    public BufferedImage renderPage(int pageNo) {
+        List pages = getPages();
+        if (pageNo < 0 || pageNo >= pages.size()) {
+            throw new IllegalArgumentException("Page " + pageNo + " is not between 0 " +
+                    "and " + pages.size());
+        }
+        
+        PageBox page = (PageBox)pages.get(pageNo);
+        RenderingContext c = _sharedContext.newRenderingContextInstance();
+        BufferedImage result = createBufferedImage(page.getWidth(c), page.getHeight(c));
+        Graphics2D g = result.createGraphics();
+        if (_renderingHints != null) {
+            g.addRenderingHints(_renderingHints);
+        }
+        paintPage(c, g, pageNo);
+        g.dispose();
+        
+        return result;
+    }
+    
+    /**
+     * Renders every page and hands the images to <code>listener</code>, in 
+     * order, on the calling thread.  If <code>threadCount</code> is greater
+     * than one, pages are rendered in parallel.  The pages are painted once
+     * beforehand without drawing anything, which computes what painting 
+     * computes lazily (e.g. derived style values) and loads background 
+     * images.  Painting a page still updates the lines of its margin areas 
+     * which contain page counters, but those margin areas are never shared
+     * with other pages since this renderer doesn't paint pages one at a time
+     * (see {@link PageBox#layout(LayoutContext, Map)}) and each page is 
+     * painted by one thread.  Documents with fixed content 
+     * (which is positioned on each page as it is painted) are rendered by one
+     * thread.  At most <code>2 * threadCount</code> page images are held at 
+     * any time.
+     * 
+     * @throws IOException If the listener throws it
+     */
+    public void renderPages(int threadCount, final PageListener listener) throws IOException {
+        int pageCount = getPageCount();
+        
+        if (threadCount > 1 && ! _root.getLayer().containsFixedContent()) {
+            // Computes everything painting computes lazily (e.g. derived 
+            // style values) and loads background images
+            Graphics2D scratch = ImageUtil.createCompatibleBufferedImage(1, 1).createGraphics();
+            for (int i = 0; i < pageCount; i++) {
+                RenderingContext c = _sharedContext.newRenderingContextInstance();
+                PageBox page = (PageBox)getPages().get(i);
+                scratch.setClip(0, 0, page.getWidth(c), page.getHeight(c));
+                paintPage(c, scratch, i);
+            }
+            scratch.dispose();
+        } else {
+            threadCount = 1;
+        }
+        
+        new ImageRenderQueue("Java2DPageRenderer").run(pageCount, threadCount,
+                new ImageRenderQueue.Renderer() {
+                    public BufferedImage render(int index) {
+                        return renderPage(index);
+                    }
+                },
+                new ImageRenderQueue.Receiver() {
+                    public void imageRendered(BufferedImage image, int index) throws IOException {
+                        listener.pageRendered(image, index);
+                    }
+                });
+    }
+    
+    /**
+     * Renders every page (see {@link #renderPages(int, PageListener)}) and 
+     * writes each to the file <code>filePathPrefix</code> followed by the
+     * page number (counting from one) and the image format of 
+     * <code>writer</code> (e.g. <code>doc-page-1.png</code>) as soon as it
+     * has been rendered.
+     */
+    public void writePages(final FSImageWriter writer, final String filePathPrefix, int threadCount) 
+            throws IOException {
+        renderPages(threadCount, new PageListener() {
+            public void pageRendered(BufferedImage page, int pageNo) throws IOException {
+                writer.write(page, filePathPrefix + (pageNo + 1) + "." + writer.getImageFormat());
+            }
+        });
+    }
+    
+    private void paintPage(RenderingContext c, Graphics2D g, int pageNo) {
+        List pages = getPages();
+        PageBox page = (PageBox)pages.get(pageNo);
+        
+        c.setFontContext(new Java2DFontContext(g));
+        c.setOutputDevice(new Java2DOutputDevice(g));
+        _sharedContext.getTextRenderer().setup(c.getFontContext());
+        c.setRootLayer(_root.getLayer());
+        
+        c.setPageCount(pages.size());
+        c.setPage(pageNo, page);
+        
+        page.paintBackground(c, 0, Layer.PAGED_MODE_PRINT);
+        page.paintMarginAreas(c, 0, Layer.PAGED_MODE_PRINT);
+        page.paintBorder(c, 0, Layer.PAGED_MODE_PRINT);
+        
+        Shape working = g.getClip();
+        
+        Rectangle content = page.getPrintClippingBounds(c);
+        g.clip(content);
+        
+        int top = -page.getPaintingTop() +
+            page.getMarginBorderPadding(c, CalculatedStyle.TOP);
+        
+        int left = page.getMarginBorderPadding(c, CalculatedStyle.LEFT);
+        
+        g.translate(left, top);
+        _root.getLayer().paint(c);
+        g.translate(-left, -top);
+        
+        g.setClip(working);
+    }
+    
+    /**
+     * Returns a white image of the given size.  Override to control the
+     * images pages are rendered into.
+     */
+    protected BufferedImage createBufferedImage(int width, int height) {
+        BufferedImage image = ImageUtil.createCompatibleBufferedImage(width, height, _bufferedImageType);
+        ImageUtil.clearImage(image);
+        return image;
+    }
+    
+    /**
+     * Receives the pages rendered by 
+     * {@link Java2DPageRenderer#renderPages(int, PageListener)}.
+     */
+    public interface PageListener {
+        /**
+         * Called for each page, in order, on the thread which called 
+         * {@link Java2DPageRenderer#renderPages(int, PageListener)}.  The 
+         * renderer doesn't keep the image.
+         * 
+         * @param pageNo The page number, counting from zero
+         */
+        public void pageRendered(BufferedImage page, int pageNo) throws IOException;
+    }
+    
+    private static final class NullUserInterface implements UserInterface {
+        public boolean isHover(Element e) {
+            return false;
+        }
+
+        public boolean isActive(Element e) {
+            return false;
+        }
+
+        public boolean isFocus(Element e) {
+            return false;
+        }
+    }
+}
@@ -65,6 +65,9 @@ import org.xhtmlrenderer.util.ImageUtil;
  * {@link #getImage()}, or else override the {@link #createBufferedImage(int, int)} to have full control over
  * the image we render to.</p>
  *
+ * <p>Very tall documents can be rendered in tiles instead (see {@link #renderTiles(int, int, TileListener)}) so
+ * the whole document is never held in memory as one image. The tiles can be painted by several threads.</p>
+ *
  * <p>Not thread-safe.</p>
  *
  * @see ITextRenderer
@@ -261,32 +264,111 @@ public class Java2DRenderer {
 	 */
 	public BufferedImage getImage() {
 		if (!rendered) {
-            setDocument((doc == null ? loadDocument(sourceDocument) : doc), sourceDocumentBase, new XhtmlNamespaceHandler());
-
-			layout(this.width);
+			prepare();
 
-			height = this.height == -1 ? root.getHeight() : this.height;
 			outputImage = createBufferedImage(this.width, height);
 			outputDevice = new Java2DOutputDevice(outputImage);
-			Graphics2D newG = (Graphics2D) outputImage.getGraphics();
-			if ( renderingHints != null ) {
-				newG.getRenderingHints().putAll(renderingHints);
-			}
-
-			RenderingContext rc = sharedContext.newRenderingContextInstance();
-			rc.setFontContext(new Java2DFontContext(newG));
-			rc.setOutputDevice(outputDevice);
-			sharedContext.getTextRenderer().setup(rc.getFontContext());
+			paint(outputImage, outputDevice);
 
-			root.getLayer().paint(rc);
-
-			newG.dispose();
 			rendered = true;
 		}
 
 		return outputImage;
 	}
 
+	/**
+	 * Renders the XML document in tiles as wide as the image and <code>tileHeight</code> pixels high (the last tile
+	 * may be smaller) and hands each tile to <code>listener</code>. Each tile is painted into its own image, with
+	 * the output device clipped to the tile, so only the boxes which intersect the tile are painted. At most
+	 * <code>2 * threadCount</code> tiles are held in memory at any time, however tall the document.
+	 * <p/>
+	 * If <code>threadCount</code> is greater than one, tiles are painted in parallel (the document is laid out once
+	 * and painted once beforehand, without drawing anything, so the threads only read the shared box tree). Tiles
+	 * are still passed to the listener in order, on the calling thread. Documents with fixed content (fixed
+	 * positioned boxes or fixed backgrounds) are painted by one thread because painting positions it.
+	 * <p/>
+	 * May be called more than once; the document is only loaded and laid out the first time.
+	 *
+	 * @param tileHeight  The height of each tile in pixels
+	 * @param threadCount The number of threads painting tiles
+	 * @param listener	Receives the tiles
+	 * @throws IOException If the listener throws it
+	 */
+	public void renderTiles(final int tileHeight, int threadCount, final TileListener listener) throws IOException {
+		if (tileHeight < 1) {
+			throw new IllegalArgumentException("Tile height must be positive");
+		}
+
+		prepare();
+
+		int tileCount = (height + tileHeight - 1) / tileHeight;
+		if (threadCount > 1 && ! root.getLayer().containsFixedContent()) {
+			// Computes everything painting computes lazily (e.g. derived style values) and loads background images
+			BufferedImage scratch = createBufferedImage(1, 1);
+			Java2DOutputDevice scratchDevice = new Java2DOutputDevice(scratch);
+			scratchDevice.getGraphics().setClip(0, 0, this.width, height);
+			paint(scratch, scratchDevice);
+		} else {
+			threadCount = 1;
+		}
+
+		new ImageRenderQueue("Java2DRenderer-tile").run(tileCount, threadCount,
+				new ImageRenderQueue.Renderer() {
+					public BufferedImage render(int index) {
+						int y = index * tileHeight;
+						return renderTile(y, Math.min(tileHeight, height - y));
+					}
+				},
+				new ImageRenderQueue.Receiver() {
+					public void imageRendered(BufferedImage image, int index) throws IOException {
+						listener.tileRendered(image, index * tileHeight);
+					}
+				});
+	}
+
+	/**
+	 * Renders the part of the document from <code>y</code> to <code>y + tileHeight</code>
+	 */
+	private BufferedImage renderTile(int y, int tileHeight) {
+		BufferedImage tile = createBufferedImage(this.width, tileHeight);
+		Java2DOutputDevice tileDevice = new Java2DOutputDevice(tile);
+		Graphics2D g = tileDevice.getGraphics();
+		g.translate(0, -y);
+		g.setClip(0, y, this.width, tileHeight);
+		paint(tile, tileDevice);
+		g.dispose();
+		return tile;
+	}
+
+	private void paint(BufferedImage image, Java2DOutputDevice device) {
+		Graphics2D newG = (Graphics2D) image.getGraphics();
+		if ( renderingHints != null ) {
+			newG.getRenderingHints().putAll(renderingHints);
+		}
+
+		RenderingContext rc = sharedContext.newRenderingContextInstance();
+		rc.setFontContext(new Java2DFontContext(newG));
+		rc.setOutputDevice(device);
+		sharedContext.getTextRenderer().setup(rc.getFontContext());
+
+		root.getLayer().paint(rc);
+
+		newG.dispose();
+	}
+
+	/**
+	 * Loads and lays out the document (only the first time it is called)
+	 */
+	private void prepare() {
+		if (root == null) {
+			setDocument((doc == null ? loadDocument(sourceDocument) : doc), sourceDocumentBase, new XhtmlNamespaceHandler());
+
+			layout(this.width);
+
+			height = this.height == -1 ? root.getHeight() : this.height;
+		}
+	}
+
 	/**
 	 * Returns a BufferedImage using the specified width and height. By default this returns an image compatible
 	 * with the screen (if not in "headless" mode) using the BufferedImage type specified in
@@ -366,6 +448,21 @@ public class Java2DRenderer {
 		sharedContext.setInteractive(false);
 	}
 
+	/**
+	 * Receives the tiles rendered by {@link Java2DRenderer#renderTiles(int, int, TileListener)}, for example to
+	 * write them to a file or to scale them down.
+	 */
+	public interface TileListener {
+		/**
+		 * Called for each tile, from the top of the document to the bottom, on the thread which called
+		 * {@link Java2DRenderer#renderTiles(int, int, TileListener)}. The renderer doesn't keep the tile.
+		 *
+		 * @param tile The tile; as wide as the document
+		 * @param y	The position of the top of the tile in the document
+		 */
+		public void tileRendered(BufferedImage tile, int y) throws IOException;
+	}
+
 	private static final class NullUserInterface implements UserInterface {
 
 		public boolean isHover(Element e) {
@@ -24,6 +24,7 @@ import java.awt.Graphics2D;
 import java.awt.Rectangle;
 import java.awt.RenderingHints;
 import java.awt.Toolkit;
+import java.awt.font.FontRenderContext;
 import java.awt.font.GlyphVector;
 import java.awt.geom.Point2D;
 import java.util.Map;
@@ -36,6 +37,7 @@ import org.xhtmlrenderer.render.FSFont;
 import org.xhtmlrenderer.render.FSFontMetrics;
 import org.xhtmlrenderer.render.JustificationInfo;
 import org.xhtmlrenderer.render.LineMetricsAdapter;
+import org.xhtmlrenderer.render.TextWidthCache;
 import org.xhtmlrenderer.util.Configuration;
 
 
@@ -50,10 +52,19 @@ public class Java2DTextRenderer implements TextRenderer {
     protected float threshold;
     protected Object antiAliasRenderingHint;
 
+    private TextWidthCache widthCache;
+    private FontRenderContext widthCacheFontRenderContext;
+
     public Java2DTextRenderer() {
         scale = Configuration.valueAsFloat("xr.text.scale", 1.0f);
         threshold = Configuration.valueAsFloat("xr.text.aa-fontsize-threshhold", 25);
 
+        int maxWords = Configuration.valueAsInt(
+                "xr.text.width-cache.max-words", TextWidthCache.DEFAULT_MAX_WORDS);
+        if (maxWords > 0) {
+            widthCache = new TextWidthCache(maxWords);
+        }
+
         Object dummy = new Object();
 
         Object aaHint = Configuration.valueFromClassConstant("xr.text.aa-rendering-hint", dummy);
@@ -168,10 +179,51 @@ public class Java2DTextRenderer implements TextRenderer {
     }
     
     public int getWidth(FontContext fc, FSFont font, String string) {
+        return getWidth(fc, font, string, 0, string.length());
+    }
+
+    public int getWidth(FontContext fc, FSFont font, String string, int start, int end) {
         Graphics2D graphics = ((Java2DFontContext)fc).getGraphics();
         Font awtFont = ((AWTFSFont)font).getAWTFont();
-        return (int)Math.ceil(
-                graphics.getFontMetrics(awtFont).getStringBounds(string, graphics).getWidth());
+        if (widthCache == null) {
+            return measureWidth(graphics, awtFont, string, start, end);
+        }
+
+        // Widths depend on the transform and rendering hints too
+        FontRenderContext frc = graphics.getFontRenderContext();
+        // Tiles may be painted (which measures list markers) by several 
+        // threads (see Java2DRenderer.renderTiles())
+        synchronized (widthCache) {
+            if (! frc.equals(widthCacheFontRenderContext)) {
+                widthCache.clear();
+                widthCacheFontRenderContext = frc;
+            }
+
+            int result = widthCache.getWidth(awtFont, string, start, end);
+            if (result == -1) {
+                result = measureWidth(graphics, awtFont, string, start, end);
+                widthCache.putWidth(awtFont, string, start, end, result);
+            }
+            return result;
+        }
+    }
+
+    private int measureWidth(Graphics2D graphics, Font awtFont, String string, int start, int end) {
+        return (int)Math.ceil(graphics.getFontMetrics(awtFont).getStringBounds(
+                string, start, end, graphics).getWidth());
+    }
+
+    /**
+     * Returns the cache of measured text widths or <code>null</code> if
+     * widths aren't cached.
+     */
+    public TextWidthCache getWidthCache() {
+        return widthCache;
+    }
+
+    public void setWidthCache(TextWidthCache widthCache) {
+        this.widthCache = widthCache;
+        this.widthCacheFontRenderContext = null;
     }
 
     public float getFontScale() {
@@ -21,6 +21,7 @@ package org.xhtmlrenderer.swing;
 
 import org.xhtmlrenderer.resource.CSSResource;
 import org.xhtmlrenderer.resource.ImageResource;
+import org.xhtmlrenderer.resource.ImageResourceCache;
 import org.xhtmlrenderer.resource.XMLResource;
 import org.xhtmlrenderer.util.XRLog;
 import org.xhtmlrenderer.extend.UserAgentCallback;
@@ -36,8 +37,6 @@ import java.io.InputStream;
 import java.io.FileNotFoundException;
 import java.net.MalformedURLException;
 import java.net.URL;
-import java.util.LinkedHashMap;
-import java.util.Iterator;
 
 
 /**
@@ -45,9 +44,10 @@ import java.util.Iterator;
  * XML, CSS or images are loaded, and reports visited links without any filtering. The most straightforward process
  * available in the JDK is used to load the resources in question--either using java.io or java.net classes.
  *
- * <p>The NaiveUserAgent has a small cache for images,
- * the size of which (number of images) can be passed as a constructor argument. There is no automatic cleaning of
- * the cache; call {@link #shrinkImageCache()} to remove the least-accessed elements--for example, you might do this
+ * <p>The NaiveUserAgent has a cache for images which is bounded by the memory used by the images (see
+ * {@link ImageResourceCache}); the least recently used images are evicted automatically. The number of images to
+ * keep between documents can be passed as a constructor argument; call {@link #shrinkImageCache()} to remove the
+ * least-accessed elements beyond that number--for example, you might do this
  * when a new document is about to be loaded. The NaiveUserAgent is also a DocumentListener; if registered with a
  * source of document events (like the panel hierarchy), it will respond to the
  * {@link org.xhtmlrenderer.event.DocumentListener#documentStarted()} call and attempt to shrink its cache.
@@ -61,9 +61,9 @@ public class NaiveUserAgent implements UserAgentCallback, DocumentListener {
 	private static final int DEFAULT_IMAGE_CACHE_SIZE = 16;
 
 	/**
-	 * a (simple) LRU cache
+	 * an LRU cache bounded by bytes
 	 */
-	protected LinkedHashMap _imageCache;
+	protected ImageResourceCache _imageCache;
 	private int _imageCacheCapacity;
 	private String _baseURL;
 
@@ -78,14 +78,14 @@ public class NaiveUserAgent implements UserAgentCallback, DocumentListener {
 	/**
 	 * Creates a new NaiveUserAgent with a cache of a specific size.
 	 *
-	 * @param imgCacheSize Number of images to hold in cache before LRU images are released.
+	 * @param imgCacheSize Number of images to keep in cache when {@link #shrinkImageCache()} is called.
 	 */
 	public NaiveUserAgent(final int imgCacheSize) {
 		this._imageCacheCapacity = imgCacheSize;
 
-		// note we do *not* override removeEldestEntry() here--users of this class must call shrinkImageCache().
-		// that's because we don't know when is a good time to flush the cache
-		this._imageCache = new java.util.LinkedHashMap(_imageCacheCapacity, 0.75f, true);
+		// the number of images is only limited when shrinkImageCache() is called because we don't know when is a 
+		// good time to flush the cache; the memory used by the images is always limited
+		this._imageCache = ImageResourceCache.newInstance();
 	}
 
 	/**
@@ -93,12 +93,14 @@ public class NaiveUserAgent implements UserAgentCallback, DocumentListener {
 	 * be dropped from cache until it reaches the desired size.
 	 */
 	public void shrinkImageCache() {
-		int ovr = _imageCache.size() - _imageCacheCapacity;
-		Iterator it = _imageCache.keySet().iterator();
-		while (it.hasNext() && ovr-- > 0) {
-			it.next();
-			it.remove();
-		}
+		_imageCache.shrink(_imageCacheCapacity);
+	}
+
+	/**
+	 * Returns the image cache (e.g. to look at its statistics).
+	 */
+	public ImageResourceCache getImageCache() {
+		return _imageCache;
 	}
 
 	/**
@@ -22,8 +22,6 @@ package org.xhtmlrenderer.swt;
 import java.io.*;
 import java.net.MalformedURLException;
 import java.net.URL;
-import java.util.Iterator;
-import java.util.LinkedHashMap;
 
 import org.eclipse.swt.SWTException;
 import org.eclipse.swt.graphics.Device;
@@ -31,7 +29,9 @@ import org.eclipse.swt.graphics.Image;
 import org.xhtmlrenderer.extend.UserAgentCallback;
 import org.xhtmlrenderer.resource.CSSResource;
 import org.xhtmlrenderer.resource.ImageResource;
+import org.xhtmlrenderer.resource.ImageResourceCache;
 import org.xhtmlrenderer.resource.XMLResource;
+import org.xhtmlrenderer.util.Configuration;
 import org.xhtmlrenderer.util.XRLog;
 
 /**
@@ -44,11 +44,18 @@ import org.xhtmlrenderer.util.XRLog;
 public class NaiveUserAgent implements UserAgentCallback {
 
     /**
-     * an LRU cache
+     * an LRU cache bounded by bytes (images must not be held by soft
+     * references as they need to be disposed)
      */
-    private int _imageCacheCapacity = 16;
-    private LinkedHashMap _imageCache = new LinkedHashMap(_imageCacheCapacity,
-        0.75f, true);
+    private final ImageResourceCache _imageCache = new ImageResourceCache(
+        Configuration.valueAsInt("xr.image.cache.max-kb", 65536) * 1024L, false);
+
+    /**
+     * The last image which was too big for the cache.  It is kept (and 
+     * disposed) in the same way as a cached image until another image is too
+     * big, so a big image isn't loaded again every time it is painted.
+     */
+    private ImageResource _uncachedImage;
 
     private String _baseURL;
 
@@ -59,6 +66,16 @@ public class NaiveUserAgent implements UserAgentCallback {
      */
     public NaiveUserAgent(Device device) {
         _device = device;
+        _imageCache.setEvictionListener(new ImageResourceCache.EvictionListener() {
+            public void evicted(Object key, ImageResource resource) {
+                dispose(resource);
+            }
+        });
+    }
+    
+    private static void dispose(ImageResource resource) {
+        // will be reloaded if still in use
+        ((SWTFSImage) resource.getImage()).getImage().dispose();
     }
 
     /**
@@ -91,6 +108,10 @@ public class NaiveUserAgent implements UserAgentCallback {
         ImageResource ir = null;
         uri = resolveURI(uri);
         ir = (ImageResource) _imageCache.get(uri);
+        if (ir == null && _uncachedImage != null && 
+                uri.equals(_uncachedImage.getImageUri())) {
+            ir = _uncachedImage;
+        }
         // TODO: check that cached image is still valid
         if (ir == null) {
             InputStream is = getInputStream(uri);
@@ -98,13 +119,18 @@ public class NaiveUserAgent implements UserAgentCallback {
                 try {
                     ir = new ImageResource(uri, new SWTFSImage(
                         new Image(_device, is), this, uri));
-                    if (_imageCache.size() >= _imageCacheCapacity) {
-                        // prevent the cache from growing too big
-                        ImageResource old = (ImageResource) _imageCache
-                            .remove(_imageCache.keySet().iterator().next());
-                        ((SWTFSImage) old.getImage()).getImage().dispose();
+                    if (_imageCache.isCacheable(ir)) {
+                        // the cache disposes the images it evicts
+                        ImageResource old = _imageCache.put(uri, ir);
+                        if (old != null) {
+                            dispose(old);
+                        }
+                    } else {
+                        if (_uncachedImage != null) {
+                            dispose(_uncachedImage);
+                        }
+                        _uncachedImage = ir;
                     }
-                    _imageCache.put(uri, ir);
                 } catch (SWTException e) {
                     XRLog.exception(
                         "Can't read image file; unexpected problem for URI '"
@@ -205,11 +231,15 @@ public class NaiveUserAgent implements UserAgentCallback {
      * Dispose all images in cache and clean the cache.
      */
     public void disposeCache() {
-        for (Iterator iter = _imageCache.values().iterator(); iter.hasNext();) {
-            ImageResource ir = (ImageResource) iter.next();
-            ((SWTFSImage) ir.getImage()).getImage().dispose();
+        _imageCache.shrink(0);
+        if (_uncachedImage != null) {
+            dispose(_uncachedImage);
+            _uncachedImage = null;
         }
-        _imageCache.clear();
+    }
+
+    public ImageResourceCache getImageCache() {
+        return _imageCache;
     }
     
     public byte[] getBinaryResource(String uri) {
@@ -74,6 +74,10 @@ public class SWTTextRenderer implements TextRenderer {
         return width;
     }
 
+    public int getWidth(FontContext context, FSFont font, String string, int start, int end) {
+        return getWidth(context, font, string.substring(start, end));
+    }
+
     public float getFontScale() {
         return _scale;
     }
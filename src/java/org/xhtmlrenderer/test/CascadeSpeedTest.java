@@ -0,0 +1,249 @@
+package org.xhtmlrenderer.test;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.xhtmlrenderer.context.StandardAttributeResolver;
+import org.xhtmlrenderer.context.StylesheetFactoryImpl;
+import org.xhtmlrenderer.css.extend.lib.DOMTreeResolver;
+import org.xhtmlrenderer.css.newmatch.CascadedStyle;
+import org.xhtmlrenderer.css.newmatch.Matcher;
+import org.xhtmlrenderer.css.sheet.PropertyDeclaration;
+import org.xhtmlrenderer.css.sheet.StylesheetInfo;
+import org.xhtmlrenderer.css.style.CalculatedStyle;
+import org.xhtmlrenderer.css.style.EmptyStyle;
+import org.xhtmlrenderer.resource.XMLResource;
+import org.xhtmlrenderer.simple.extend.XhtmlNamespaceHandler;
+import org.xhtmlrenderer.swing.NaiveUserAgent;
+
+/**
+ * Measures how long it takes to cascade the styles of every element of a
+ * generated document against a large generated "framework" stylesheet.  The
+ * checksum of the cascaded declarations is printed too so the results of
+ * different versions of the matcher can be compared.  The time taken to
+ * derive the calculated styles from the cascaded styles (which looks up
+ * the cascaded styles in the cache of the parent style) is printed
+ * separately.
+ * <p>
+ * If a thread count greater than one is given, the matcher is created in
+ * concurrent mode and the elements are split between the threads (the 
+ * checksum must be the same as with one thread).
+ * <p>
+ * Usage: CascadeSpeedTest [rule count] [element count] [thread count]
+ */
+public class CascadeSpeedTest {
+    public static void main(String[] args) throws Exception {
+        int ruleCount = args.length > 0 ? Integer.parseInt(args[0]) : 3000;
+        int elementCount = args.length > 1 ? Integer.parseInt(args[1]) : 5000;
+        int threadCount = args.length > 2 ? Integer.parseInt(args[2]) : 1;
+
+        NaiveUserAgent uac = new NaiveUserAgent();
+        XhtmlNamespaceHandler nsh = new XhtmlNamespaceHandler();
+        StylesheetFactoryImpl factory = new StylesheetFactoryImpl(uac);
+
+        StylesheetInfo info = new StylesheetInfo();
+        info.setUri("cascade-speed-test.css");
+        info.setOrigin(StylesheetInfo.AUTHOR);
+        info.setMedia("all");
+        info.setType("text/css");
+
+        List stylesheets = new ArrayList();
+        stylesheets.add(nsh.getDefaultStylesheet(factory).getStylesheet());
+        stylesheets.add(factory.parse(new StringReader(createStylesheet(ruleCount)), info));
+
+        Document doc = XMLResource.load(
+                new StringReader(createDocument(elementCount))).getDocument();
+        List elements = new ArrayList();
+        collectElements(doc.getDocumentElement(), elements);
+
+        System.out.println(ruleCount + " rules, " + elements.size() + " elements, " + 
+                threadCount + " thread(s)");
+
+        long total = 0;
+        long totalDerive = 0;
+        for (int i = 0; i < 10; i++) {
+            long start = System.currentTimeMillis();
+            Matcher matcher = new Matcher(
+                    new DOMTreeResolver(),
+                    new StandardAttributeResolver(nsh, uac, null),
+                    factory, stylesheets, "screen", threadCount > 1);
+            CascadedStyle[] styles = new CascadedStyle[elements.size()];
+            CascadedStyle[] beforeStyles = new CascadedStyle[elements.size()];
+            if (threadCount > 1) {
+                cascadeInParallel(matcher, elements, styles, beforeStyles, threadCount);
+            } else {
+                cascade(matcher, elements, styles, beforeStyles, 0, elements.size());
+            }
+            long checksum = 0;
+            List cascaded = new ArrayList(elements.size());
+            for (int j = 0; j < styles.length; j++) {
+                cascaded.add(styles[j]);
+                checksum = checksum * 31 + checksum(styles[j]);
+                checksum = checksum * 31 + checksum(beforeStyles[j]);
+            }
+            long diff = System.currentTimeMillis() - start;
+
+            start = System.currentTimeMillis();
+            int derived = derive(elements, cascaded);
+            long deriveDiff = System.currentTimeMillis() - start;
+
+            System.out.println("ms = " + diff + " checksum = " + checksum +
+                    " derive ms = " + deriveDiff + " distinct styles = " + derived);
+            if (i >= 5) {
+                total += diff;
+                totalDerive += deriveDiff;
+            }
+        }
+        System.out.println("average (last 5): " + (total / 5) +
+                " derive: " + (totalDerive / 5));
+    }
+
+    private static void cascade(
+            Matcher matcher, List elements, CascadedStyle[] styles, CascadedStyle[] beforeStyles,
+            int start, int end) {
+        for (int i = start; i < end; i++) {
+            Element e = (Element)elements.get(i);
+            styles[i] = matcher.getCascadedStyle(e, false);
+            beforeStyles[i] = matcher.getPECascadedStyle(e, "before");
+        }
+    }
+
+    private static void cascadeInParallel(
+            final Matcher matcher, final List elements, 
+            final CascadedStyle[] styles, final CascadedStyle[] beforeStyles,
+            int threadCount) throws InterruptedException {
+        Thread[] threads = new Thread[threadCount];
+        int chunk = (elements.size() + threadCount - 1) / threadCount;
+        for (int i = 0; i < threadCount; i++) {
+            final int start = Math.min(i * chunk, elements.size());
+            final int end = Math.min(start + chunk, elements.size());
+            threads[i] = new Thread() {
+                public void run() {
+                    cascade(matcher, elements, styles, beforeStyles, start, end);
+                }
+            };
+            threads[i].start();
+        }
+        for (int i = 0; i < threadCount; i++) {
+            threads[i].join();
+        }
+    }
+
+    /**
+     * Derives the calculated style of each element from the calculated style
+     * of its parent.  Returns the number of distinct calculated styles.
+     */
+    private static int derive(List elements, List cascaded) {
+        Map styles = new IdentityHashMap();
+        Map distinct = new IdentityHashMap();
+        CalculatedStyle root = new EmptyStyle();
+        for (int i = 0; i < elements.size(); i++) {
+            Element e = (Element)elements.get(i);
+            CalculatedStyle parent = (CalculatedStyle)styles.get(e.getParentNode());
+            if (parent == null) {
+                parent = root;
+            }
+            CalculatedStyle style = parent.deriveStyle((CascadedStyle)cascaded.get(i));
+            styles.put(e, style);
+            distinct.put(style, Boolean.TRUE);
+        }
+        return distinct.size();
+    }
+
+    private static long checksum(CascadedStyle style) {
+        if (style == null) {
+            return 0;
+        }
+        long result = 1;
+        for (Iterator i = style.getCascadedPropertyDeclarations(); i.hasNext(); ) {
+            PropertyDeclaration pd = (PropertyDeclaration)i.next();
+            result = result * 31 + pd.getFingerprint().hashCode();
+        }
+        return result;
+    }
+
+    private static void collectElements(Element e, List result) {
+        result.add(e);
+        for (Node n = e.getFirstChild(); n != null; n = n.getNextSibling()) {
+            if (n.getNodeType() == Node.ELEMENT_NODE) {
+                collectElements((Element)n, result);
+            }
+        }
+    }
+
+    private static String createStylesheet(int ruleCount) {
+        String[] names = { "div", "p", "span", "a", "li", "td", "h2", "em" };
+        StringBuffer result = new StringBuffer();
+        for (int i = 0; i < ruleCount; i++) {
+            String c = "c" + (i % 400);
+            String name = names[i % names.length];
+            switch (i % 10) {
+                case 0:
+                    result.append('.').append(c);
+                    break;
+                case 1:
+                    result.append(name).append('.').append(c);
+                    break;
+                case 2:
+                    result.append("#id").append(i % 500);
+                    break;
+                case 3:
+                    result.append(".c").append((i + 7) % 400).append(' ').append(name);
+                    break;
+                case 4:
+                    result.append("div > .").append(c);
+                    break;
+                case 5:
+                    result.append(name).append(":first-child");
+                    break;
+                case 6:
+                    result.append('.').append(c).append(" .c").append((i + 3) % 400);
+                    break;
+                case 7:
+                    result.append(name).append("[title]");
+                    break;
+                case 8:
+                    result.append('.').append(c).append(":before");
+                    break;
+                default:
+                    result.append("ul li.").append(c);
+            }
+            result.append(" { margin-left: ").append(i % 17).append("px; color: #")
+                .append(Integer.toHexString(0x100000 + i)).append(" }\n");
+        }
+        return result.toString();
+    }
+
+    private static String createDocument(int elementCount) {
+        StringBuffer result = new StringBuffer();
+        result.append("<html xmlns='http://www.w3.org/1999/xhtml'><body>");
+        int count = 0;
+        int section = 0;
+        while (count < elementCount) {
+            result.append("<div class='c").append(section % 400).append("'>");
+            result.append("<h2 id='id").append(section % 500).append("'>Heading</h2>");
+            for (int i = 0; i < 5; i++) {
+                int n = section * 5 + i;
+                result.append("<p class='c").append(n % 400).append(" c")
+                    .append((n * 7) % 400).append("'>Text <span title='t'>span</span> ")
+                    .append("<a class='c").append((n * 3) % 400).append("'>link <em>em</em></a></p>");
+            }
+            result.append("<ul>");
+            for (int i = 0; i < 4; i++) {
+                result.append("<li class='c").append((section + i) % 400).append("'>item</li>");
+            }
+            result.append("</ul></div>");
+            count += 32;
+            section++;
+        }
+        result.append("</body></html>");
+        return result.toString();
+    }
+}
@@ -0,0 +1,56 @@
+package org.xhtmlrenderer.test;
+
+import java.io.File;
+import java.io.OutputStream;
+
+import org.xhtmlrenderer.pdf.ITextRenderer;
+import org.xhtmlrenderer.pdf.ITextTextRenderer;
+import org.xhtmlrenderer.render.TextWidthCache;
+
+/**
+ * Measures how long it takes to lay out and render Hamlet to PDF and prints
+ * the hit rate of the text width cache.  The same renderer is used for
+ * every run so later runs show the effect of a warm cache.
+ * <p>
+ * Usage: HamletPDFSpeedTest [nocache]
+ */
+public class HamletPDFSpeedTest {
+    public static void main(String[] args) throws Exception {
+        boolean useCache = ! (args.length > 0 && args[0].equals("nocache"));
+        String uri = new File("demos/browser/xhtml/hamlet.xhtml").toURI().toURL().toExternalForm();
+
+        ITextRenderer renderer = new ITextRenderer();
+        ITextTextRenderer textRenderer =
+            (ITextTextRenderer)renderer.getSharedContext().getTextRenderer();
+        if (! useCache) {
+            textRenderer.setWidthCache(null);
+        }
+
+        long total = 0;
+        for (int i = 0; i < 10; i++) {
+            long start = System.currentTimeMillis();
+            renderer.setDocument(uri);
+            renderer.layout();
+            renderer.createPDF(new NullOutputStream());
+            long diff = System.currentTimeMillis() - start;
+
+            TextWidthCache cache = textRenderer.getWidthCache();
+            System.out.println("ms = " + diff + (cache == null ? "" : " " + cache));
+            if (cache != null) {
+                cache.resetStatistics();
+            }
+            if (i >= 5) {
+                total += diff;
+            }
+        }
+        System.out.println("average (last 5): " + (total / 5));
+    }
+
+    private static class NullOutputStream extends OutputStream {
+        public void write(int b) {
+        }
+
+        public void write(byte[] b, int off, int len) {
+        }
+    }
+}
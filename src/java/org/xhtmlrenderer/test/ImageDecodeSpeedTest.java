@@ -0,0 +1,106 @@
+package org.xhtmlrenderer.test;
+
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBuffer;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Random;
+
+import javax.imageio.ImageIO;
+
+import org.xhtmlrenderer.util.ImageUtil;
+
+/**
+ * Compares decoding a large JPEG and PNG at full size and then scaling it to
+ * a thumbnail with decoding it at a reduced resolution (see
+ * {@link ImageUtil#readImage(java.io.InputStream, int, int)}) and then
+ * scaling it.  Prints the time taken and the size of the decoded raster
+ * (the memory the full size decode needs on top of the thumbnail).
+ * <p>
+ * Usage: ImageDecodeSpeedTest [width] [height] [target width]
+ */
+public class ImageDecodeSpeedTest {
+    public static void main(String[] args) throws Exception {
+        int width = args.length > 0 ? Integer.parseInt(args[0]) : 6000;
+        int height = args.length > 1 ? Integer.parseInt(args[1]) : 4000;
+        int targetWidth = args.length > 2 ? Integer.parseInt(args[2]) : 200;
+        int targetHeight = targetWidth * height / width;
+
+        BufferedImage source = createImage(width, height);
+        byte[] jpeg = encode(source, "jpeg");
+        byte[] png = encode(source, "png");
+        source = null;
+
+        System.out.println(width + "x" + height + " -> " + targetWidth + "x" + targetHeight +
+                ", subsampling " + ImageUtil.getSubsampling(width, height, targetWidth, targetHeight));
+        run("JPEG", jpeg, targetWidth, targetHeight);
+        run("PNG", png, targetWidth, targetHeight);
+    }
+
+    private static void run(String name, byte[] data, int targetWidth, int targetHeight) throws Exception {
+        System.out.println(name + " (" + data.length / 1024 + " KB)");
+        for (int i = 0; i < 2; i++) {
+            boolean subsample = i == 1;
+            long total = 0;
+            long raster = 0;
+            for (int j = 0; j < 5; j++) {
+                System.gc();
+                long start = System.currentTimeMillis();
+                BufferedImage img;
+                if (subsample) {
+                    img = ImageUtil.readImage(new ByteArrayInputStream(data), targetWidth, targetHeight);
+                } else {
+                    img = ImageIO.read(new ByteArrayInputStream(data));
+                }
+                raster = getRasterSize(img);
+                img = ImageUtil.getScaledInstance(img, targetWidth, targetHeight);
+                long diff = System.currentTimeMillis() - start;
+                if (j > 0) {
+                    total += diff;
+                }
+            }
+            System.out.println("  " + (subsample ? "subsampled" : "full size ") +
+                    ": average ms = " + (total / 4) +
+                    " decoded raster KB = " + (raster / 1024));
+        }
+    }
+
+    private static long getRasterSize(BufferedImage img) {
+        DataBuffer buffer = img.getRaster().getDataBuffer();
+        return (long)buffer.getSize() * buffer.getNumBanks() *
+            DataBuffer.getDataTypeSize(buffer.getDataType()) / 8;
+    }
+
+    /**
+     * Creates a "photo" with gradients and noise so it doesn't compress too
+     * well
+     */
+    private static BufferedImage createImage(int width, int height) {
+        BufferedImage result = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = result.createGraphics();
+        g.setPaint(new GradientPaint(0, 0, Color.BLUE, width, height, Color.ORANGE));
+        g.fillRect(0, 0, width, height);
+        Random random = new Random(1);
+        for (int i = 0; i < 2000; i++) {
+            g.setColor(new Color(random.nextInt(0x1000000)));
+            g.fillOval(random.nextInt(width), random.nextInt(height),
+                    random.nextInt(width / 10) + 1, random.nextInt(height / 10) + 1);
+        }
+        g.dispose();
+        for (int y = 0; y < height; y += 2) {
+            for (int x = random.nextInt(4); x < width; x += 4) {
+                result.setRGB(x, y, result.getRGB(x, y) ^ random.nextInt(0x101010));
+            }
+        }
+        return result;
+    }
+
+    private static byte[] encode(BufferedImage img, String format) throws Exception {
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        ImageIO.write(img, format, result);
+        return result.toByteArray();
+    }
+}
@@ -0,0 +1,133 @@
+package org.xhtmlrenderer.test;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.xhtmlrenderer.swing.Java2DPageRenderer;
+import org.xhtmlrenderer.util.FSImageWriter;
+
+/**
+ * Renders the pages of a document with 
+ * {@link Java2DPageRenderer#renderPages(int, Java2DPageRenderer.PageListener)}
+ * on one thread and on the given number of threads and prints how long it
+ * took.  Every page rendered in parallel, and every page rendered on its own
+ * with {@link Java2DPageRenderer#renderPage(int)}, is checked pixel by pixel
+ * against the page rendered on one thread.  If an output prefix is given,
+ * the pages are written as PNG files too.
+ * <p>
+ * Usage: PageRenderingTest file [dpi] [thread count] [output prefix]
+ * <p>
+ * Without arguments, hamlet.xhtml and a generated document with page 
+ * counters in its margin boxes (which are updated as each page is painted)
+ * are checked.
+ */
+public class PageRenderingTest {
+    public static void main(String[] args) throws Exception {
+        float dpi = args.length > 1 ? Float.parseFloat(args[1]) : Java2DPageRenderer.DEFAULT_DPI;
+        int threadCount = args.length > 2 ? Integer.parseInt(args[2]) :
+            Math.max(2, Runtime.getRuntime().availableProcessors());
+        String prefix = args.length > 3 ? args[3] : null;
+
+        if (args.length == 0) {
+            render(new File("demos/browser/xhtml/hamlet.xhtml"), dpi, threadCount, null);
+            File pageCounters = createPageCounterDocument(401);
+            try {
+                render(pageCounters, dpi, threadCount, null);
+            } finally {
+                pageCounters.delete();
+            }
+        } else {
+            render(new File(args[0]), dpi, threadCount, prefix);
+        }
+    }
+
+    private static void render(File file, float dpi, int threadCount, String prefix) throws IOException {
+        System.out.println(file);
+        Java2DPageRenderer renderer = new Java2DPageRenderer(dpi);
+        renderer.setDocument(file);
+        long start = System.currentTimeMillis();
+        renderer.layout();
+        System.out.println(renderer.getPageCount() + " pages at " + dpi + " dpi, layout ms = " +
+                (System.currentTimeMillis() - start));
+
+        final List sequential = new ArrayList();
+        start = System.currentTimeMillis();
+        renderer.renderPages(1, new Java2DPageRenderer.PageListener() {
+            public void pageRendered(BufferedImage page, int pageNo) {
+                sequential.add(page);
+            }
+        });
+        System.out.println("1 thread: ms = " + (System.currentTimeMillis() - start));
+
+        final int[] differing = new int[1];
+        start = System.currentTimeMillis();
+        renderer.renderPages(threadCount, new Java2DPageRenderer.PageListener() {
+            public void pageRendered(BufferedImage page, int pageNo) {
+                if (! isSame((BufferedImage)sequential.get(pageNo), page)) {
+                    differing[0]++;
+                    System.out.println("page " + pageNo + " differs (parallel)");
+                }
+            }
+        });
+        System.out.println(threadCount + " thread(s): ms = " + (System.currentTimeMillis() - start) +
+                " differing pages = " + differing[0]);
+
+        differing[0] = 0;
+        for (int i = sequential.size() - 1; i >= 0; i--) {
+            if (! isSame((BufferedImage)sequential.get(i), renderer.renderPage(i))) {
+                differing[0]++;
+                System.out.println("page " + i + " differs (on its own)");
+            }
+        }
+        System.out.println("rendered on their own: differing pages = " + differing[0]);
+
+        if (prefix != null) {
+            start = System.currentTimeMillis();
+            renderer.writePages(new FSImageWriter(), prefix, threadCount);
+            System.out.println("written: ms = " + (System.currentTimeMillis() - start));
+        }
+    }
+
+    /**
+     * Creates a document with <code>pageCount</code> small pages whose footer
+     * reads "Page n of <code>pageCount</code>"
+     */
+    private static File createPageCounterDocument(int pageCount) throws IOException {
+        File result = File.createTempFile("page-counters", ".xhtml");
+        Writer out = new FileWriter(result);
+        try {
+            out.write("<html xmlns=\"http://www.w3.org/1999/xhtml\"><head><style type=\"text/css\">\n");
+            out.write("@page { size: 4in 3in; margin: 0.6in;\n");
+            out.write("  @top-center { content: \"Page counters\" }\n");
+            out.write("  @bottom-center { content: \"Page \" counter(page) \" of \" counter(pages) } }\n");
+            out.write("div + div { page-break-before: always }\n");
+            out.write("</style></head><body>\n");
+            for (int i = 1; i <= pageCount; i++) {
+                out.write("<div>Section " + i + "</div>\n");
+            }
+            out.write("</body></html>\n");
+        } finally {
+            out.close();
+        }
+        return result;
+    }
+
+    private static boolean isSame(BufferedImage expected, BufferedImage actual) {
+        if (expected.getWidth() != actual.getWidth() || expected.getHeight() != actual.getHeight()) {
+            return false;
+        }
+        for (int y = 0; y < actual.getHeight(); y++) {
+            for (int x = 0; x < actual.getWidth(); x++) {
+                if (expected.getRGB(x, y) != actual.getRGB(x, y)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,83 @@
+package org.xhtmlrenderer.test;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+
+import org.xhtmlrenderer.swing.Java2DRenderer;
+
+/**
+ * Renders a document with {@link Java2DRenderer#renderTiles(int, int, Java2DRenderer.TileListener)}
+ * and prints how long it took and the size of the largest image held at
+ * once.  With <code>compare</code>, the document is rendered as one image
+ * too and every tile is checked against it pixel by pixel.
+ * <p>
+ * Usage: TiledRenderingTest file [width] [tile height] [thread count] [compare]
+ * <p>
+ * Without arguments, documents with fixed content (fixed positioned boxes and
+ * fixed backgrounds, which are positioned as they are painted) are rendered
+ * in small tiles and compared.
+ */
+public class TiledRenderingTest {
+    private static final String[] DEFAULT_FILES = {
+        "demos/browser/xhtml/box.xhtml",
+        "demos/browser/xhtml/position.xhtml",
+        "demos/browser/xhtml/zindex.xhtml",
+    };
+
+    public static void main(String[] args) throws Exception {
+        int threadCount = args.length > 3 ? Integer.parseInt(args[3]) :
+            Math.max(2, Runtime.getRuntime().availableProcessors());
+        if (args.length == 0) {
+            for (int i = 0; i < DEFAULT_FILES.length; i++) {
+                System.out.println(DEFAULT_FILES[i]);
+                render(new File(DEFAULT_FILES[i]), 800, 32, threadCount, true);
+            }
+        } else {
+            render(new File(args[0]),
+                    args.length > 1 ? Integer.parseInt(args[1]) : 800,
+                    args.length > 2 ? Integer.parseInt(args[2]) : 512,
+                    threadCount,
+                    args.length > 4 && args[4].equals("compare"));
+        }
+    }
+
+    private static void render(File file, int width, int tileHeight, int threadCount, boolean compare)
+            throws IOException {
+        final BufferedImage whole;
+        if (compare) {
+            long start = System.currentTimeMillis();
+            whole = new Java2DRenderer(file, width).getImage();
+            System.out.println("one image: ms = " + (System.currentTimeMillis() - start) +
+                    " size = " + width + "x" + whole.getHeight());
+        } else {
+            whole = null;
+        }
+
+        final int[] counts = new int[2];
+        long start = System.currentTimeMillis();
+        new Java2DRenderer(file, width).renderTiles(tileHeight, threadCount, new Java2DRenderer.TileListener() {
+            public void tileRendered(BufferedImage tile, int y) throws IOException {
+                counts[0]++;
+                if (whole != null && ! isSame(whole, tile, y)) {
+                    counts[1]++;
+                    System.out.println("tile at " + y + " differs");
+                }
+            }
+        });
+        System.out.println(counts[0] + " tiles of " + width + "x" + tileHeight +
+                " (" + threadCount + " thread(s)): ms = " + (System.currentTimeMillis() - start) +
+                (compare ? " differing tiles = " + counts[1] : ""));
+    }
+
+    private static boolean isSame(BufferedImage whole, BufferedImage tile, int y) {
+        for (int i = 0; i < tile.getHeight(); i++) {
+            for (int j = 0; j < tile.getWidth(); j++) {
+                if (whole.getRGB(j, y + i) != tile.getRGB(j, i)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
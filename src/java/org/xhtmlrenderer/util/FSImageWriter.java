@@ -193,6 +193,13 @@ public class FSImageWriter {
         return param;
     }
 
+    /**
+     * Returns the informal name of the image format written, e.g. "png"
+     */
+    public String getImageFormat() {
+        return imageFormat;
+    }
+
     /**
      * Compression quality for images to be generated from this writer. See
      * {@link javax.imageio.ImageWriteParam#setCompressionQuality(float)} for a description of what this means
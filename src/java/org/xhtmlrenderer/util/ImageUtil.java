@@ -21,11 +21,18 @@ package org.xhtmlrenderer.util;
 
 import java.awt.*;
 import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
 
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+
 /**
  * Static utility methods for working with images. Meant to suggest "best practices" for the most straightforward
  * cases of working with images.
@@ -67,6 +74,9 @@ public class ImageUtil {
 	}
 
     public static BufferedImage makeCompatible(BufferedImage bimg) {
+        if (GraphicsEnvironment.isHeadless()) {
+            return bimg;
+        }
         GraphicsConfiguration gc = getGraphicsConfiguration();
         if (bimg.getColorModel().equals(gc.getColorModel())) {
             return bimg;
@@ -245,6 +255,64 @@ public class ImageUtil {
 		return bimg;
 	}
 
+	/**
+	 * Reads an image which will be scaled to <code>targetWidth</code> x <code>targetHeight</code> pixels. If the
+	 * image is much larger than that, only every n-th pixel of every n-th row is decoded (see
+	 * {@link ImageReadParam#setSourceSubsampling(int, int, int, int)}) so the full size image is never held in
+	 * memory. The result is still at least twice the target size (or the image's own size) in both dimensions so
+	 * scaling it to the target size afterwards gives (nearly) the same result as scaling the full size image.
+	 * <p/>
+	 * If <code>targetWidth</code> or <code>targetHeight</code> is <= 0, the whole image is decoded (like
+	 * {@link ImageIO#read(InputStream)}).
+	 *
+	 * @param is		   The stream to read the image from. Not closed by this method.
+	 * @param targetWidth  The width the image will be scaled to in pixels
+	 * @param targetHeight The height the image will be scaled to in pixels
+	 * @return The image or <code>null</code> if no installed ImageReader can read it
+	 * @throws IOException If the image can't be read
+	 */
+	public static BufferedImage readImage(InputStream is, int targetWidth, int targetHeight) throws IOException {
+		ImageInputStream iis = ImageIO.createImageInputStream(is);
+		if (iis == null) {
+			return null;
+		}
+		try {
+			Iterator readers = ImageIO.getImageReaders(iis);
+			if (! readers.hasNext()) {
+				return null;
+			}
+			ImageReader reader = (ImageReader) readers.next();
+			try {
+				reader.setInput(iis, true, true);
+				ImageReadParam param = reader.getDefaultReadParam();
+				if (targetWidth > 0 && targetHeight > 0) {
+					int subsampling = getSubsampling(
+							reader.getWidth(0), reader.getHeight(0), targetWidth, targetHeight);
+					if (subsampling > 1) {
+						param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+					}
+				}
+				return reader.read(0, param);
+			} finally {
+				reader.dispose();
+			}
+		} finally {
+			iis.close();
+		}
+	}
+
+	/**
+	 * Returns the largest subsampling factor which keeps an image of <code>width</code> x <code>height</code>
+	 * pixels at least twice as wide and as high as the target size (or 1 if the image is smaller than that).
+	 */
+	public static int getSubsampling(int width, int height, int targetWidth, int targetHeight) {
+		if (targetWidth <= 0 || targetHeight <= 0) {
+			return 1;
+		}
+		int result = Math.min(width / (targetWidth * 2), height / (targetHeight * 2));
+		return Math.max(result, 1);
+	}
+
     public static BufferedImage createTransparentImage(int width, int height) {
         BufferedImage bi = createCompatibleBufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
         Graphics2D g2d = bi.createGraphics();
@@ -0,0 +1,520 @@
+/*
+ * {{{ header & license
+ * Copyright (c) 2009 Wisconsin Court System
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * as published by the Free Software Foundation; either version 2.1
+ * of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place - Suite 330, Boston, MA 02111-1307, USA.
+ * }}}
+ */
+package org.xhtmlrenderer.util;
+
+import java.io.File;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.net.JarURLConnection;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLConnection;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A least recently used cache which may be shared by any number of threads.
+ * It is the common implementation of the resource caches (stylesheets,
+ * images and so on).  Lookups don't lock; only inserts which push the cache
+ * over its limits briefly synchronize to pick the least recently used
+ * entries to evict.  Such an insert evicts entries until the cache is down
+ * to three quarters of its limits so the cost of sorting the entries is
+ * spread over many inserts.
+ * <p>
+ * The cache is bounded by both the number of entries and the (estimated)
+ * number of bytes used by the cached values, as given by the caller when a
+ * value is added.  A value which is bigger than the whole cache isn't
+ * cached.
+ * <p>
+ * Each entry may also store a validator (see
+ * {@link #createLastModifiedValidator(String)} and
+ * {@link #createContentValidator(byte[])}).  If the validator presented on
+ * lookup doesn't match the cached one, the entry is treated as stale.
+ * <p>
+ * The values can optionally be held by soft references so the garbage
+ * collector can reclaim them before the cache is full.
+ */
+public class LRUCache {
+    /**
+     * Cached entries are never revalidated (only the key is considered)
+     */
+    public static final int VALIDATE_NONE = 0;
+
+    /**
+     * Entries for local files (<code>file:</code> and <code>jar:file:</code>
+     * URIs) are revalidated using the modification time and length of the
+     * file.  Other entries are not revalidated.
+     */
+    public static final int VALIDATE_LAST_MODIFIED = 1;
+
+    /**
+     * Like <code>VALIDATE_LAST_MODIFIED</code>, but other entries are
+     * revalidated by comparing a digest of the resource's content.  This
+     * still requires loading the resource, but not parsing or decoding it
+     * again.
+     */
+    public static final int VALIDATE_CONTENT = 2;
+
+    /**
+     * Notified when a value is evicted from the cache to make room for
+     * another one (but not when it is removed explicitly, found to be stale
+     * or reclaimed by the garbage collector)
+     */
+    public interface EvictionListener {
+        public void evicted(Object key, Object value);
+    }
+
+    private final String _name;
+
+    private final ConcurrentHashMap _entries = new ConcurrentHashMap();
+
+    private final int _maxEntries;
+    private final long _maxBytes;
+    private final ReferenceQueue _reclaimed;
+
+    private volatile EvictionListener _evictionListener;
+
+    private final AtomicLong _clock = new AtomicLong();
+    private final AtomicLong _bytes = new AtomicLong();
+
+    private final AtomicLong _hits = new AtomicLong();
+    private final AtomicLong _misses = new AtomicLong();
+    private final AtomicLong _evictions = new AtomicLong();
+
+    private final Object _evictionLock = new Object();
+
+    private final int _lowWaterEntries;
+    private final long _lowWaterBytes;
+
+    /**
+     * @param name What is cached (e.g. <code>"stylesheet"</code>).  Only
+     * used in log messages.
+     */
+    public LRUCache(String name, int maxEntries, long maxBytes) {
+        this(name, maxEntries, maxBytes, false);
+    }
+
+    /**
+     * @param softReferences If the values should be held by soft references
+     */
+    public LRUCache(String name, int maxEntries, long maxBytes, boolean softReferences) {
+        _name = name;
+        _maxEntries = maxEntries;
+        _maxBytes = maxBytes;
+        _reclaimed = softReferences ? new ReferenceQueue() : null;
+
+        _lowWaterEntries = Math.max(1, maxEntries - maxEntries / 4);
+        _lowWaterBytes = maxBytes - maxBytes / 4;
+    }
+
+    /**
+     * Returns the <code>VALIDATE_*</code> constant for a configuration
+     * value (<code>none</code>, <code>last-modified</code> or
+     * <code>content</code>)
+     */
+    public static int parseValidation(String value, int defaultValidation) {
+        if ("none".equals(value)) {
+            return VALIDATE_NONE;
+        } else if ("last-modified".equals(value)) {
+            return VALIDATE_LAST_MODIFIED;
+        } else if ("content".equals(value)) {
+            return VALIDATE_CONTENT;
+        } else {
+            return defaultValidation;
+        }
+    }
+
+    public void setEvictionListener(EvictionListener evictionListener) {
+        _evictionListener = evictionListener;
+    }
+
+    public Object get(Object key) {
+        return get(key, null, true);
+    }
+
+    /**
+     * Returns the cached value for <code>key</code> or <code>null</code> if
+     * there is no entry or the entry is stale.
+     *
+     * @param validator The current validator for the value.  May be
+     * <code>null</code> if none is available in which case the cached value
+     * is returned unconditionally.
+     */
+    public Object get(Object key, Object validator) {
+        return get(key, validator, true);
+    }
+
+    /**
+     * Like {@link #get(Object, Object)}.
+     *
+     * @param countMiss If a miss should be counted.  <code>false</code> if
+     * the caller already counted one for the same value.
+     */
+    public Object get(Object key, Object validator, boolean countMiss) {
+        expungeReclaimed();
+
+        Entry entry = (Entry)_entries.get(key);
+        if (entry == null) {
+            if (countMiss) {
+                _misses.incrementAndGet();
+            }
+            return null;
+        }
+
+        Object value = entry.getValue();
+        if (value == null) {
+            // Reclaimed by the garbage collector, but not expunged yet
+            if (remove(key, entry)) {
+                _evictions.incrementAndGet();
+            }
+            if (countMiss) {
+                _misses.incrementAndGet();
+            }
+            return null;
+        }
+
+        if (validator != null && ! validator.equals(entry.getValidator())) {
+            XRLog.load("Cached " + _name + " " + key + " is stale");
+            remove(key, entry);
+            if (countMiss) {
+                _misses.incrementAndGet();
+            }
+            return null;
+        }
+
+        entry.setLastAccess(_clock.incrementAndGet());
+        _hits.incrementAndGet();
+
+        return value;
+    }
+
+    public boolean contains(Object key) {
+        return _entries.containsKey(key);
+    }
+
+    /**
+     * Adds <code>value</code> (which must not be <code>null</code>) to the
+     * cache, replacing any existing entry for <code>key</code> and evicting
+     * the least recently used entries if necessary.  Returns the value
+     * previously cached for <code>key</code> (if any).
+     *
+     * @param bytes The (estimated) number of bytes used by
+     * <code>value</code>
+     */
+    public Object put(Object key, Object validator, Object value, long bytes) {
+        expungeReclaimed();
+
+        if (bytes > _maxBytes) {
+            return remove(key);
+        }
+
+        Entry entry = new Entry(key, validator, value, bytes, _reclaimed);
+        entry.setLastAccess(_clock.incrementAndGet());
+
+        _bytes.addAndGet(bytes);
+        Entry old = (Entry)_entries.put(key, entry);
+        Object result = null;
+        if (old != null) {
+            _bytes.addAndGet(-old.getBytes());
+            result = old.getValue();
+        }
+
+        if (_entries.size() > _maxEntries || _bytes.get() > _maxBytes) {
+            evict(_lowWaterEntries, _lowWaterBytes, entry);
+        }
+
+        return result;
+    }
+
+    public Object remove(Object key) {
+        Entry entry = (Entry)_entries.remove(key);
+        if (entry != null) {
+            _bytes.addAndGet(-entry.getBytes());
+            return entry.getValue();
+        } else {
+            return null;
+        }
+    }
+
+    private boolean remove(Object key, Entry entry) {
+        if (_entries.remove(key, entry)) {
+            _bytes.addAndGet(-entry.getBytes());
+            return true;
+        } else {
+            return false;
+        }
+    }
+
+    /**
+     * Evicts the least recently used entries until at most
+     * <code>maxEntries</code> remain.
+     */
+    public void shrink(int maxEntries) {
+        expungeReclaimed();
+        evict(Math.min(maxEntries, _maxEntries), _maxBytes, null);
+    }
+
+    public void clear() {
+        for (Iterator i = _entries.entrySet().iterator(); i.hasNext(); ) {
+            Map.Entry mapEntry = (Map.Entry)i.next();
+            remove(mapEntry.getKey(), (Entry)mapEntry.getValue());
+        }
+    }
+
+    /**
+     * Evicts the least recently used entries (except <code>keep</code>, if
+     * not <code>null</code>) until at most <code>maxEntries</code> entries
+     * using at most <code>maxBytes</code> remain.
+     */
+    private void evict(int maxEntries, long maxBytes, Entry keep) {
+        synchronized (_evictionLock) {
+            // Another thread may have evicted enough already
+            if (_entries.size() <= _maxEntries && _bytes.get() <= _maxBytes &&
+                    _entries.size() <= maxEntries) {
+                return;
+            }
+
+            // The access times are copied since they may change while sorting
+            List candidates = new ArrayList(_entries.size());
+            for (Iterator i = _entries.values().iterator(); i.hasNext(); ) {
+                candidates.add(new Candidate((Entry)i.next()));
+            }
+            Collections.sort(candidates);
+
+            for (Iterator i = candidates.iterator(); i.hasNext() &&
+                    (_entries.size() > maxEntries || _bytes.get() > maxBytes); ) {
+                Entry eldest = ((Candidate)i.next()).getEntry();
+                if (eldest != keep && remove(eldest.getKey(), eldest)) {
+                    _evictions.incrementAndGet();
+                    XRLog.load("Evicted " + _name + " " + eldest.getKey() + " from cache");
+
+                    EvictionListener listener = _evictionListener;
+                    Object value = eldest.getValue();
+                    if (listener != null && value != null) {
+                        listener.evicted(eldest.getKey(), value);
+                    }
+                }
+            }
+        }
+    }
+
+    private void expungeReclaimed() {
+        if (_reclaimed == null) {
+            return;
+        }
+
+        ValueReference ref;
+        while ((ref = (ValueReference)_reclaimed.poll()) != null) {
+            // The key may have been reused for a new value
+            Entry entry = ref.getEntry();
+            if (remove(entry.getKey(), entry)) {
+                _evictions.incrementAndGet();
+            }
+        }
+    }
+
+    public int size() {
+        expungeReclaimed();
+        return _entries.size();
+    }
+
+    /**
+     * Returns the (estimated) number of bytes used by the cached values
+     */
+    public long getByteSize() {
+        expungeReclaimed();
+        return _bytes.get();
+    }
+
+    public int getMaxEntries() {
+        return _maxEntries;
+    }
+
+    public long getMaxBytes() {
+        return _maxBytes;
+    }
+
+    public long getHitCount() {
+        return _hits.get();
+    }
+
+    public long getMissCount() {
+        return _misses.get();
+    }
+
+    /**
+     * Returns the number of values evicted to make room for other values
+     * (or reclaimed by the garbage collector)
+     */
+    public long getEvictionCount() {
+        return _evictions.get();
+    }
+
+    public void resetStatistics() {
+        _hits.set(0);
+        _misses.set(0);
+        _evictions.set(0);
+    }
+
+    /**
+     * Returns a validator derived from the modification time and length of
+     * <code>uri</code> or <code>null</code> if <code>uri</code> doesn't
+     * refer to a local file (or a resource in a local JAR file).
+     */
+    public static String createLastModifiedValidator(String uri) {
+        if (uri == null) {
+            return null;
+        }
+
+        try {
+            File file = null;
+            if (uri.startsWith("file:")) {
+                file = new File(new URI(uri));
+            } else if (uri.startsWith("jar:file:")) {
+                URLConnection conn = new URL(uri).openConnection();
+                if (conn instanceof JarURLConnection) {
+                    URL jarFileURL = ((JarURLConnection)conn).getJarFileURL();
+                    file = new File(new URI(jarFileURL.toExternalForm()));
+                }
+            }
+
+            if (file != null && file.exists()) {
+                return "lm:" + file.lastModified() + ":" + file.length();
+            } else {
+                return null;
+            }
+        } catch (Exception e) {
+            // Malformed or opaque URI, don't try to validate
+            return null;
+        }
+    }
+
+    /**
+     * Returns a validator which is a digest of <code>content</code>.
+     */
+    public static String createContentValidator(byte[] content) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-1");
+            byte[] hash = digest.digest(content);
+
+            StringBuffer result = new StringBuffer(hash.length * 2 + 5);
+            result.append("sha1:");
+            for (int i = 0; i < hash.length; i++) {
+                int b = hash[i] & 0xff;
+                if (b < 0x10) {
+                    result.append('0');
+                }
+                result.append(Integer.toHexString(b));
+            }
+
+            return result.toString();
+        } catch (NoSuchAlgorithmException e) {
+            // Shouldn't happen
+            throw new RuntimeException(e.getMessage(), e);
+        }
+    }
+
+    private static class Entry {
+        private final Object _key;
+        private final Object _validator;
+        private final Object _value;
+        private final long _bytes;
+
+        private volatile long _lastAccess;
+
+        public Entry(Object key, Object validator, Object value, long bytes, ReferenceQueue queue) {
+            _key = key;
+            _validator = validator;
+            _value = queue == null ? value : new ValueReference(value, queue, this);
+            _bytes = bytes;
+        }
+
+        public Object getKey() {
+            return _key;
+        }
+
+        public Object getValidator() {
+            return _validator;
+        }
+
+        /**
+         * Returns <code>null</code> if the value was reclaimed by the garbage
+         * collector
+         */
+        public Object getValue() {
+            if (_value instanceof ValueReference) {
+                return ((ValueReference)_value).get();
+            } else {
+                return _value;
+            }
+        }
+
+        public long getBytes() {
+            return _bytes;
+        }
+
+        public long getLastAccess() {
+            return _lastAccess;
+        }
+
+        public void setLastAccess(long lastAccess) {
+            _lastAccess = lastAccess;
+        }
+    }
+
+    private static class ValueReference extends SoftReference {
+        private final Entry _entry;
+
+        public ValueReference(Object value, ReferenceQueue queue, Entry entry) {
+            super(value, queue);
+            _entry = entry;
+        }
+
+        public Entry getEntry() {
+            return _entry;
+        }
+    }
+
+    private static class Candidate implements Comparable {
+        private final Entry _entry;
+        private final long _lastAccess;
+
+        public Candidate(Entry entry) {
+            _entry = entry;
+            _lastAccess = entry.getLastAccess();
+        }
+
+        public Entry getEntry() {
+            return _entry;
+        }
+
+        public int compareTo(Object o) {
+            long other = ((Candidate)o)._lastAccess;
+            return _lastAccess < other ? -1 : (_lastAccess == other ? 0 : 1);
+        }
+    }
+}